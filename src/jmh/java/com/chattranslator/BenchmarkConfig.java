@@ -0,0 +1,46 @@
+package com.chattranslator;
+
+/**
+ * A plugin configuration for benchmarks, which returns the default of every option and ignores changes.
+ *
+ * @author agent
+ * @version October 2026
+ */
+class BenchmarkConfig implements ChatTranslatorConfig {
+
+    @Override
+    public void apiKey(String str) {
+    }
+
+    @Override
+    public void libreTranslateApiKey(String str) {
+    }
+
+    @Override
+    public void libreTranslateApiKeyServer(String url) {
+    }
+
+    @Override
+    public void lastTargetLanguageCode(String languageCode) {
+    }
+
+    @Override
+    public void lastTargetLanguageName(String languageName) {
+    }
+
+    @Override
+    public void lastSourceLanguageCode(String languageCode) {
+    }
+
+    @Override
+    public void lastSourceLanguageName(String languageName) {
+    }
+
+    @Override
+    public void quotaDay(String day) {
+    }
+
+    @Override
+    public void quotaDayCharacters(int characters) {
+    }
+}
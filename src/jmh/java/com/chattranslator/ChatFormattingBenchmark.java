@@ -0,0 +1,113 @@
+package com.chattranslator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Color;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of formatting text for the chat, which happens on every keystroke during a translation preview and
+ * on every menu open. A preview is measured both rendered from scratch and re-rendered after a single keystroke.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatFormattingBenchmark {
+
+    /**
+     * The translation being previewed.
+     */
+    private static final String TRANSLATION = "Hej, er der nogen der ved hvor banken er? Jeg har ledt efter den i lang tid.";
+
+    /**
+     * How much of the translation the user has typed, from 0 to 1.
+     */
+    @Param({"0.0", "0.5", "1.0"})
+    public double typed;
+
+    /**
+     * The user's input, with a typo if anything was typed.
+     */
+    private String userInput;
+
+    /**
+     * The user's input without its last character, or the same as the input if nothing was typed.
+     */
+    private String previousUserInput;
+
+    /**
+     * A renderer which keeps previewing the translation, as the plugin does while the user types.
+     */
+    private ChatInputPreviewRenderer previewRenderer;
+
+    /**
+     * Whether the next keystroke deletes the last character rather than typing it.
+     */
+    private boolean deleting;
+
+    /**
+     * A menu entry with an explicit source language.
+     */
+    private ChatTranslatorMenuEntry explicitMenuEntry;
+
+    /**
+     * A menu entry with an auto-detected source language.
+     */
+    private ChatTranslatorMenuEntry implicitMenuEntry;
+
+    @Setup
+    public void setUp() {
+        char[] input = TRANSLATION.substring(0, (int) (TRANSLATION.length() * this.typed)).toCharArray();
+        if (input.length > 0) {
+            input[input.length / 2] = 'x';
+        }
+        this.userInput = new String(input);
+        this.previousUserInput = this.userInput.substring(0, Math.max(0, this.userInput.length() - 1));
+        this.previewRenderer = new ChatInputPreviewRenderer(TRANSLATION, new Color(0xCE, 0x68, 0xFF));
+        this.previewRenderer.render(this.userInput);
+
+        ChatTranslatorConfigSnapshot config = ChatTranslatorConfigSnapshot.of(new BenchmarkConfig());
+        this.explicitMenuEntry = new ChatTranslatorMenuEntry(config);
+        this.explicitMenuEntry.setSourceLanguage("en", "English");
+        this.explicitMenuEntry.setTargetLanguage("da", "Danish");
+        this.implicitMenuEntry = new ChatTranslatorMenuEntry(config);
+        this.implicitMenuEntry.setTargetLanguage("en", "English");
+    }
+
+    @Benchmark
+    public String renderPreview() {
+        return new ChatInputPreviewRenderer(TRANSLATION, new Color(0xCE, 0x68, 0xFF)).render(this.userInput);
+    }
+
+    @Benchmark
+    public String renderPreviewKeystroke() {
+        this.deleting = !this.deleting;
+        return this.previewRenderer.render(this.deleting ? this.previousUserInput : this.userInput);
+    }
+
+    @Benchmark
+    public String explicitMenuOption() {
+        return this.explicitMenuEntry.getOption();
+    }
+
+    @Benchmark
+    public String implicitMenuOption() {
+        return this.implicitMenuEntry.getOption();
+    }
+}
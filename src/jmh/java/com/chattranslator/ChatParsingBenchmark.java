@@ -0,0 +1,72 @@
+package com.chattranslator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of parsing a hovered chat line into its sender and message, which happens on every menu open
+ * over the chat box.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatParsingBenchmark {
+
+    /**
+     * Synthetic chat lines, as joined from the chat box widgets with their tags removed.
+     */
+    @Param({
+            "Nuzzler: Hey",
+            "[Friends Chat] Nuzzler: selling lobsters 200 ea, pm me",
+            "From Zezima: w330 mass at the bank: bring food",
+            "Welcome to Old School RuneScape.",
+            "[Clan] Lala: Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore"
+    })
+    public String chatLine;
+
+    /**
+     * The text of the sender and message widgets of a chat line, with formatting tags.
+     */
+    private static final String[] TAGGED_WIDGET_TEXT = {
+            "[<col=0000ff>Friends Chat</col>] <img=2>Nuzzler:",
+            "<col=7f0000>selling lobsters 200 ea, pm me</col>"
+    };
+
+    /**
+     * Reused to join the widget text, as the plugin does.
+     */
+    private final StringBuilder builder = new StringBuilder();
+
+    @Benchmark
+    public String joinWithoutTags() {
+        this.builder.setLength(0);
+        for (String text : TAGGED_WIDGET_TEXT) {
+            if (this.builder.length() > 0) {
+                this.builder.append(' ');
+            }
+            ChatLineParser.appendWithoutTags(this.builder, text);
+        }
+        return this.builder.toString();
+    }
+
+    @Benchmark
+    public ChatLineData parseChatLine() {
+        return ChatLineParser.parse(this.chatLine);
+    }
+}
@@ -0,0 +1,117 @@
+package com.chattranslator;
+
+import com.chattranslator.data.GetSupportedLanguagesResponseList;
+import com.chattranslator.data.TranslateTextResponseList;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of parsing a response, from the response body to the response objects, through a JSON tree and
+ * through a JSON stream.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseParsingBenchmark {
+
+    /**
+     * A translation response with an auto-detected source language.
+     */
+    private static final String IMPLICIT_RESPONSE = "{\"data\": {\"translations\": [{"
+            + "\"translatedText\": \"Hej, er der nogen der ved hvor banken er? Jeg s&#230;lger hummer.\","
+            + "\"detectedSourceLanguage\": \"en\"}]}}";
+
+    /**
+     * A translation response with an explicit source language.
+     */
+    private static final String EXPLICIT_RESPONSE = "{\"data\": {\"translations\": [{"
+            + "\"translatedText\": \"Hej, er der nogen der ved hvor banken er? Jeg s&#230;lger hummer.\"}]}}";
+
+    /**
+     * A supported languages response about as long as the one returned by Google.
+     */
+    private static final String LANGUAGES_RESPONSE;
+
+    static {
+        StringBuilder builder = new StringBuilder("{\"data\": {\"languages\": [");
+        for (int i = 0; i < 110; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"language\": \"l").append(i).append("\", \"name\": \"Language ").append(i).append("\"}");
+        }
+        LANGUAGES_RESPONSE = builder.append("]}}").toString();
+    }
+
+    @Benchmark
+    public TranslateTextResponseList fromJSONImplicit() {
+        return TreeResponseParser.fromJSONImplicit(data(IMPLICIT_RESPONSE));
+    }
+
+    @Benchmark
+    public TranslateTextResponseList fromJSONExplicit() {
+        return TreeResponseParser.fromJSONExplicit(data(EXPLICIT_RESPONSE), "en");
+    }
+
+    @Benchmark
+    public TranslateTextResponseList streamImplicit() throws IOException {
+        JsonReader reader = data(new JsonReader(new StringReader(IMPLICIT_RESPONSE)));
+        return TranslateTextResponseList.fromJSON(reader, null, false);
+    }
+
+    @Benchmark
+    public TranslateTextResponseList streamExplicit() throws IOException {
+        JsonReader reader = data(new JsonReader(new StringReader(EXPLICIT_RESPONSE)));
+        return TranslateTextResponseList.fromJSON(reader, "en", false);
+    }
+
+    @Benchmark
+    public GetSupportedLanguagesResponseList languagesFromJSON() throws Exception {
+        return GetSupportedLanguagesResponseList.fromJSON(data(LANGUAGES_RESPONSE));
+    }
+
+    @Benchmark
+    public GetSupportedLanguagesResponseList languagesStream() throws IOException {
+        return GetSupportedLanguagesResponseList.fromJSON(data(new JsonReader(new StringReader(LANGUAGES_RESPONSE))));
+    }
+
+    /**
+     * Helper method to parse a response body to its data through a JSON tree.
+     */
+    private static JsonElement data(String responseSource) {
+        JsonObject dom = new JsonParser().parse(responseSource).getAsJsonObject();
+        return dom.get("data");
+    }
+
+    /**
+     * Helper method to advance a JSON stream of a response body to its data, as the translator does.
+     */
+    private static JsonReader data(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (!reader.nextName().equals("data")) {
+            reader.skipValue();
+        }
+        return reader;
+    }
+}
@@ -0,0 +1,94 @@
+package com.chattranslator;
+
+import com.chattranslator.data.TranslateTextResponseList;
+import com.chattranslator.data.TranslateTextResponseTranslation;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.apache.commons.text.StringEscapeUtils;
+
+import javax.annotation.Nullable;
+import java.util.stream.IntStream;
+
+/**
+ * The JSON tree parsers the translator used before it parsed responses from a stream, kept as a baseline for
+ * {@link ResponseParsingBenchmark}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+final class TreeResponseParser {
+
+    private TreeResponseParser() {
+    }
+
+    /**
+     * Parse a translation list with an explicitly provided source language.
+     *
+     * @param json           - the JSON source of the list, e.g.
+     *                       <pre>{"translations": [array(TranslateTextResponseTranslation)]}</pre>
+     * @param sourceLanguage - the source language passed with the request
+     * @return the translation list
+     */
+    static TranslateTextResponseList fromJSONExplicit(final JsonElement json, String sourceLanguage) {
+        JsonArray translations = json.getAsJsonObject().getAsJsonArray("translations");
+        if (translations.size() != 1) {
+            return fromJSONImplicit(json);
+        }
+        return TranslateTextResponseList.of(translationFromJSONExplicit(translations.get(0), sourceLanguage));
+    }
+
+    /**
+     * Parse a translation list with implicitly detected source languages.
+     *
+     * @param json - the JSON source of the list, e.g.
+     *             <pre>{"translations": [array(TranslateTextResponseTranslation)],}</pre>
+     * @return the translation list
+     */
+    static TranslateTextResponseList fromJSONImplicit(final JsonElement json) {
+        JsonArray translations = json.getAsJsonObject().getAsJsonArray("translations");
+        return TranslateTextResponseList.of(IntStream
+                .range(0, translations.size())
+                .mapToObj(translations::get)
+                .map(TreeResponseParser::translationFromJSONImplicit)
+                .filter(obj -> obj != null)
+                .toArray(TranslateTextResponseTranslation[]::new));
+    }
+
+    /**
+     * Helper method to parse a translation with an implicitly detected source language.
+     *
+     * @param json - the JSON source of the translation
+     * @return the translation, or null on parse failure
+     */
+    private static @Nullable
+    TranslateTextResponseTranslation translationFromJSONImplicit(final JsonElement json) {
+        try {
+            JsonObject jsonObject = json.getAsJsonObject();
+            String translatedText = StringEscapeUtils.unescapeHtml4(jsonObject.get("translatedText").getAsString());
+            String detectedSourceLanguage = jsonObject.has("detectedSourceLanguage")
+                    ? jsonObject.get("detectedSourceLanguage").getAsString()
+                    : "?";
+            return TranslateTextResponseTranslation.of(detectedSourceLanguage, translatedText);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Helper method to parse a translation with an explicitly provided source language.
+     *
+     * @param json           - the JSON source of the translation
+     * @param sourceLanguage - the source language passed with the request
+     * @return the translation, or null on parse failure
+     */
+    private static @Nullable
+    TranslateTextResponseTranslation translationFromJSONExplicit(final JsonElement json, String sourceLanguage) {
+        try {
+            String translatedText = StringEscapeUtils.unescapeHtml4(json.getAsJsonObject().get("translatedText").getAsString());
+            return TranslateTextResponseTranslation.of(sourceLanguage, translatedText);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.chattranslator;
+
+import com.chattranslator.data.TranslateTextResponseTranslation;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * A pipeline which translates incoming chat messages automatically. Messages arriving within a short window of each other
+ * are coalesced into one batch request, and only one request is in flight at a time. While a request is in flight new
+ * messages keep queueing, so batches grow with the chat rate instead of the request rate. When the queue is full the
+ * oldest messages are dropped.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+class AutoTranslationPipeline {
+
+    /**
+     * The maximum amount of messages waiting for translation.
+     */
+    private static final int MAX_PENDING = 64;
+
+    /**
+     * The maximum amount of messages translated in a single request.
+     */
+    private static final int MAX_BATCH_SIZE = 32;
+
+    /**
+     * The translator.
+     */
+    private final ChatTranslator translator;
+
+    /**
+     * The executor which waits out the coalescing window.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Receives each message with its translation. This is called from a background thread.
+     */
+    private final BiConsumer<ChatLineData, TranslateTextResponseTranslation> sink;
+
+    /**
+     * The messages waiting for translation, oldest first.
+     */
+    private final ArrayDeque<PendingMessage> pending = new ArrayDeque<>();
+
+    /**
+     * The scheduled flush of the pending messages, or null if none is scheduled.
+     */
+    private Future<?> scheduledFlush = null;
+
+    /**
+     * The batch request in flight, or null if none is.
+     */
+    private CompletableFuture<List<TranslateTextResponseTranslation>> inFlight = null;
+
+    /**
+     * Construct the pipeline.
+     *
+     * @param translator - the translator
+     * @param scheduler  - the executor which waits out the coalescing window
+     * @param sink       - receives each message with its translation, from a background thread
+     */
+    AutoTranslationPipeline(ChatTranslator translator, ScheduledExecutorService scheduler, BiConsumer<ChatLineData, TranslateTextResponseTranslation> sink) {
+        this.translator = translator;
+        this.scheduler = scheduler;
+        this.sink = sink;
+    }
+
+    /**
+     * Queue a chat message for translation. It is sent once the window passes without the batch filling up.
+     *
+     * @param chatLineData   - the chat message
+     * @param targetLanguage - the language code to translate to, e.g. 'en' (English)
+     * @param windowMillis   - how long to wait for more messages to batch with
+     */
+    void submit(ChatLineData chatLineData, String targetLanguage, long windowMillis) {
+        synchronized (this) {
+            if (this.pending.size() >= MAX_PENDING) {
+                PendingMessage dropped = this.pending.removeFirst();
+                log.debug("Auto translation queue full, dropped: '" + dropped.chatLineData.getChatLine() + "'");
+            }
+            this.pending.addLast(new PendingMessage(chatLineData, targetLanguage));
+
+            if (this.inFlight != null) {
+                return; // Flushed when the request in flight completes
+            }
+            if (this.pending.size() < MAX_BATCH_SIZE) {
+                if (this.scheduledFlush == null) {
+                    this.scheduledFlush = this.scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+                }
+                return;
+            }
+        }
+        this.flush();
+    }
+
+    /**
+     * Forget every message waiting for translation, and cancel the request in flight.
+     */
+    synchronized void clear() {
+        this.pending.clear();
+        if (this.scheduledFlush != null) {
+            this.scheduledFlush.cancel(false);
+            this.scheduledFlush = null;
+        }
+        if (this.inFlight != null) {
+            this.inFlight.cancel(false);
+            this.inFlight = null;
+        }
+    }
+
+    /**
+     * Helper method to send the oldest pending messages as one batch request.
+     */
+    private void flush() {
+        final String targetLanguage;
+        final List<ChatLineData> batch = new ArrayList<>();
+        final List<String> texts = new ArrayList<>();
+        final CompletableFuture<List<TranslateTextResponseTranslation>> request = new CompletableFuture<>();
+        synchronized (this) {
+            if (this.scheduledFlush != null) {
+                this.scheduledFlush.cancel(false);
+                this.scheduledFlush = null;
+            }
+            if (this.inFlight != null || this.pending.isEmpty()) {
+                return;
+            }
+
+            // Batch the oldest messages which share a target language
+            targetLanguage = this.pending.peekFirst().targetLanguage;
+            Iterator<PendingMessage> iterator = this.pending.iterator();
+            while (iterator.hasNext() && batch.size() < MAX_BATCH_SIZE) {
+                PendingMessage message = iterator.next();
+                if (message.targetLanguage.equals(targetLanguage)) {
+                    iterator.remove();
+                    batch.add(message.chatLineData);
+                    texts.add(message.chatLineData.getChatLine());
+                }
+            }
+            this.inFlight = request;
+        }
+
+        // The request is sent outside the lock, so a slow translator never holds up incoming messages
+        log.debug("Auto translating " + batch.size() + " messages to " + targetLanguage);
+        final CompletableFuture<List<TranslateTextResponseTranslation>> translations = this.translator.translateBatchAsync(texts, null, targetLanguage);
+        translations.whenComplete((result, e) -> {
+            if (e != null) {
+                request.completeExceptionally(e);
+            } else {
+                request.complete(result);
+            }
+        });
+        request.whenComplete((result, e) -> {
+            if (request.isCancelled()) {
+                translations.cancel(false);
+            } else {
+                this.onBatchTranslated(request, batch, result, e);
+            }
+        });
+    }
+
+    /**
+     * Helper method to hand a translated batch to the sink, then send the next batch.
+     *
+     * @param request      - the batch request which completed
+     * @param batch        - the messages of the batch
+     * @param translations - the translation of each message, or null if the request failed
+     * @param e            - the failure, or null if the request succeeded
+     */
+    private void onBatchTranslated(CompletableFuture<List<TranslateTextResponseTranslation>> request, List<ChatLineData> batch,
+                                   List<TranslateTextResponseTranslation> translations, Throwable e) {
+        if (e != null) {
+            log.warn("Auto translation failed", e);
+        } else {
+            for (int i = 0; i < batch.size(); i++) {
+                // Messages the quota refused to send are skipped
+                if (translations.get(i) != null) {
+                    this.sink.accept(batch.get(i), translations.get(i));
+                }
+            }
+        }
+        synchronized (this) {
+            // The pipeline may have been cleared, and a new request sent, since this one completed
+            if (this.inFlight == request) {
+                this.inFlight = null;
+            }
+        }
+        this.flush();
+    }
+
+    /**
+     * A chat message waiting for translation.
+     */
+    private static class PendingMessage {
+        private final ChatLineData chatLineData;
+        private final String targetLanguage;
+
+        private PendingMessage(ChatLineData chatLineData, String targetLanguage) {
+            this.chatLineData = chatLineData;
+            this.targetLanguage = targetLanguage;
+        }
+    }
+}
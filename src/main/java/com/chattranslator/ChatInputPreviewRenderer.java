@@ -0,0 +1,156 @@
+package com.chattranslator;
+
+import net.runelite.client.util.ColorUtil;
+
+import javax.annotation.Nonnull;
+import java.awt.Color;
+
+/**
+ * Renders a translation preview in the chat input, colored against what the user has typed so far.
+ * For example, if the translation is "Hej" (Hello), and the user has inputted "hZ", similar to the following is rendered:
+ * <pre>{@code
+ *     <col=green>h</col><col=red>Z</col><col=grey>j</col>
+ * }</pre>
+ * Where green is the correct color, red is the incorrect color, and grey is a not-typed character color.
+ * <p>
+ * Consecutive characters of the same color share one color tag, and the renderer remembers the last input it rendered,
+ * so a keystroke only re-renders the characters from the first one which changed. This must only be used from one
+ * thread, i.e. the client thread.
+ *
+ * @author agent
+ * @version October 2026
+ */
+final class ChatInputPreviewRenderer {
+
+    /**
+     * The state of a typed character which matches the translation.
+     */
+    private static final byte CORRECT = 0;
+
+    /**
+     * The state of a typed character which does not match the translation.
+     */
+    private static final byte INCORRECT = 1;
+
+    /**
+     * The tag which closes a run of colored characters.
+     */
+    private static final String CLOSE_TAG = "</col>";
+
+    /**
+     * The tag which opens a run of characters which have not been typed yet.
+     */
+    private static final String UNTYPED_TAG = ColorUtil.colorTag(Color.GRAY);
+
+    /**
+     * The translation being previewed.
+     */
+    private final String translation;
+
+    /**
+     * The tags which open a run of typed characters, indexed by their state.
+     */
+    private final String[] typedTags;
+
+    /**
+     * The last input rendered, clamped to the length of the translation.
+     */
+    private final char[] input;
+
+    /**
+     * The amount of characters in the last input rendered.
+     */
+    private int inputLength;
+
+    /**
+     * The state of every character in the last input rendered.
+     */
+    private final byte[] states;
+
+    /**
+     * The length of the rendered typed characters before each character was rendered. Rendering from a character
+     * onward truncates the rendered typed characters to its offset.
+     */
+    private final int[] offsets;
+
+    /**
+     * The rendered typed characters, without the tag closing the last run.
+     */
+    private final StringBuilder typed;
+
+    /**
+     * Reused to join the rendered typed and untyped characters.
+     */
+    private final StringBuilder rendered;
+
+    /**
+     * Create a renderer for a translation preview.
+     *
+     * @param translation  - the translation being previewed
+     * @param correctColor - the color of correctly typed characters
+     */
+    ChatInputPreviewRenderer(@Nonnull String translation, @Nonnull Color correctColor) {
+        this.translation = translation;
+        this.typedTags = new String[]{ColorUtil.colorTag(correctColor), ColorUtil.colorTag(Color.RED)};
+        this.input = new char[translation.length()];
+        this.inputLength = 0;
+        this.states = new byte[translation.length()];
+        this.offsets = new int[translation.length() + 1];
+        this.typed = new StringBuilder(translation.length() * 2);
+        this.rendered = new StringBuilder(translation.length() * 2);
+    }
+
+    /**
+     * @return the translation being previewed
+     */
+    String getTranslation() {
+        return this.translation;
+    }
+
+    /**
+     * Render the preview of the translation against the user's input.
+     *
+     * @param userInput - the user's chat input
+     * @return the raw chat data for a preview of the translation attempt
+     */
+    String render(@Nonnull String userInput) {
+        final int length = this.translation.length();
+        final int typedLength = Math.min(userInput.length(), length);
+
+        // Keep the characters up to the first one which changed since the last render
+        int unchanged = 0;
+        int maxUnchanged = Math.min(typedLength, this.inputLength);
+        while (unchanged < maxUnchanged && this.input[unchanged] == userInput.charAt(unchanged)) {
+            unchanged++;
+        }
+        this.typed.setLength(this.offsets[unchanged]);
+
+        // Render the rest, opening a new tag only where the color changes
+        for (int i = unchanged; i < typedLength; i++) {
+            this.offsets[i] = this.typed.length();
+            char user = userInput.charAt(i);
+            byte state = Character.toLowerCase(user) == Character.toLowerCase(this.translation.charAt(i)) ? CORRECT : INCORRECT;
+            if (i == 0 || this.states[i - 1] != state) {
+                if (i > 0) {
+                    this.typed.append(CLOSE_TAG);
+                }
+                this.typed.append(this.typedTags[state]);
+            }
+            this.typed.append(user);
+            this.input[i] = user;
+            this.states[i] = state;
+        }
+        this.offsets[typedLength] = this.typed.length();
+        this.inputLength = typedLength;
+
+        this.rendered.setLength(0);
+        this.rendered.append(this.typed);
+        if (typedLength > 0) {
+            this.rendered.append(CLOSE_TAG);
+        }
+        if (typedLength < length) {
+            this.rendered.append(UNTYPED_TAG).append(this.translation, typedLength, length).append(CLOSE_TAG);
+        }
+        return this.rendered.toString();
+    }
+}
@@ -0,0 +1,307 @@
+package com.chattranslator;
+
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.MessageNode;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.util.Text;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of recent chat messages, parsed once as they arrive, so chat lines hovered in the chat box can be looked up
+ * rather than parsed from the chat box widgets.
+ * <p>
+ * Messages are indexed by their {@link MessageNode} id, and by their text without formatting, which is what a message
+ * widget in the chat box shows. The client has no mapping from chat box widgets to message nodes, so each message
+ * widget is mapped to its message the first time it is looked up, and later lookups of the widget reuse that mapping
+ * while it shows the same text. The index is not thread safe, and must only be used from the client thread.
+ *
+ * @author agent
+ * @version October 2026
+ */
+final class ChatLineIndex {
+
+    /**
+     * The messages indexed by their message node id, oldest first.
+     */
+    private final LinkedHashMap<Integer, Entry> entries;
+
+    /**
+     * The messages with each text, oldest first.
+     */
+    private final Map<String, List<Entry>> entriesByText;
+
+    /**
+     * The messages shown by message widgets in the chat box, least recently looked up first.
+     */
+    private final LinkedHashMap<Widget, ShownMessage> entriesByWidget;
+
+    /**
+     * Reused to remove the formatting of widget text.
+     */
+    private final StringBuilder textBuilder = new StringBuilder();
+
+    /**
+     * The maximum amount of messages indexed.
+     */
+    private final int capacity;
+
+    /**
+     * Create an index of chat messages.
+     *
+     * @param capacity - the maximum amount of messages indexed, after which the oldest are forgotten
+     */
+    ChatLineIndex(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(capacity * 4 / 3 + 1);
+        this.entriesByText = new HashMap<>(capacity * 4 / 3 + 1);
+        this.entriesByWidget = new LinkedHashMap<Widget, ShownMessage>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Widget, ShownMessage> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Index a chat message.
+     *
+     * @param type            - the type of the message
+     * @param messageNode     - the message node of the message
+     * @param localPlayerName - the name of the local player, or null if not logged in
+     * @return the indexed message
+     */
+    Entry add(@Nonnull ChatMessageType type, @Nonnull MessageNode messageNode, @Nullable String localPlayerName) {
+        String rsn = messageNode.getName() == null ? "" : Text.sanitize(messageNode.getName());
+        String text = messageNode.getValue() == null ? "" : Text.removeTags(messageNode.getValue()).trim();
+        Entry entry = new Entry(messageNode.getId(),
+                type,
+                rsn.isEmpty() ? null : rsn,
+                text,
+                !rsn.isEmpty() && rsn.equals(localPlayerName));
+
+        Entry replaced = this.entries.remove(entry.id);
+        if (replaced != null) {
+            removeText(replaced);
+        }
+        this.entries.put(entry.id, entry);
+        this.entriesByText.computeIfAbsent(entry.text, key -> new ArrayList<>(1)).add(entry);
+
+        // Forget the oldest messages
+        Iterator<Entry> oldest = this.entries.values().iterator();
+        while (this.entries.size() > this.capacity) {
+            Entry evicted = oldest.next();
+            oldest.remove();
+            removeText(evicted);
+        }
+        return entry;
+    }
+
+    /**
+     * Return the newest message shown with a sender and text.
+     *
+     * @param sender - the text of the sender widget without formatting, or an empty string if the message was shown
+     *               without a sender
+     * @param text   - the text of the message widget without formatting
+     * @return the newest message shown with the sender and text, or null if none are indexed
+     */
+    @Nullable
+    Entry find(@Nonnull String sender, @Nonnull String text) {
+        List<Entry> entries = this.entriesByText.get(text.trim());
+        if (entries == null) {
+            return null;
+        }
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            if (entries.get(i).isShownWithSender(sender)) {
+                return entries.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Return the message shown by the widgets of a chat line in the chat box.
+     *
+     * @param senderWidget  - the widget showing the sender, or null if the message is shown without one
+     * @param messageWidget - the widget showing the message
+     * @return the message, or null if none is indexed
+     */
+    @Nullable
+    Entry find(@Nullable Widget senderWidget, @Nonnull Widget messageWidget) {
+        final String senderText = senderWidget == null ? "" : senderWidget.getText();
+        final String messageText = messageWidget.getText();
+        ShownMessage shown = this.entriesByWidget.get(messageWidget);
+        if (shown != null && shown.messageText.equals(messageText) && shown.senderText.equals(senderText)) {
+            return shown.entry;
+        }
+
+        // The widget shows a different message since it was last looked up, so find it by its text
+        final Entry entry = this.find(withoutTags(senderText), withoutTags(messageText));
+        if (entry != null) {
+            this.entriesByWidget.put(messageWidget, new ShownMessage(senderText, messageText, entry));
+        }
+        return entry;
+    }
+
+    /**
+     * Return an indexed message.
+     *
+     * @param id - the id of the message node
+     * @return the message, or null if it is not indexed
+     */
+    @Nullable
+    Entry get(int id) {
+        return this.entries.get(id);
+    }
+
+    /**
+     * Forget every indexed message.
+     */
+    void clear() {
+        this.entries.clear();
+        this.entriesByText.clear();
+        this.entriesByWidget.clear();
+    }
+
+    /**
+     * @return the amount of messages indexed
+     */
+    int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Helper method to forget the text of a message.
+     */
+    private void removeText(Entry entry) {
+        List<Entry> entries = this.entriesByText.get(entry.text);
+        if (entries != null && entries.remove(entry) && entries.isEmpty()) {
+            this.entriesByText.remove(entry.text);
+        }
+    }
+
+    /**
+     * Helper method to return widget text without its formatting.
+     */
+    private String withoutTags(String text) {
+        this.textBuilder.setLength(0);
+        ChatLineParser.appendWithoutTags(this.textBuilder, text);
+        return this.textBuilder.toString();
+    }
+
+    /**
+     * The message a message widget showed when it was last looked up.
+     */
+    private static final class ShownMessage {
+
+        /**
+         * The text of the sender widget, with formatting, or an empty string if there was none.
+         */
+        final String senderText;
+
+        /**
+         * The text of the message widget, with formatting.
+         */
+        final String messageText;
+
+        /**
+         * The message shown.
+         */
+        final Entry entry;
+
+        private ShownMessage(String senderText, String messageText, Entry entry) {
+            this.senderText = senderText;
+            this.messageText = messageText;
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * A chat message which has been parsed into its sender and text.
+     */
+    static final class Entry {
+
+        /**
+         * The id of the message node.
+         */
+        final int id;
+
+        /**
+         * The type of the message.
+         */
+        final ChatMessageType type;
+
+        /**
+         * The RuneScape name of the player who sent the message, or null if it was not sent by a player.
+         */
+        @Nullable
+        final String rsn;
+
+        /**
+         * The text of the message, without formatting.
+         */
+        final String text;
+
+        /**
+         * Whether the message was sent by the local player.
+         */
+        final boolean sentByLocalPlayer;
+
+        private Entry(int id, ChatMessageType type, @Nullable String rsn, String text, boolean sentByLocalPlayer) {
+            this.id = id;
+            this.type = type;
+            this.rsn = rsn;
+            this.text = text;
+            this.sentByLocalPlayer = sentByLocalPlayer;
+        }
+
+        /**
+         * Return whether the sender shown in the chat box belongs to this message.
+         *
+         * @param sender - the text of the sender widget without formatting, e.g. '[Friends Chat] Nuzzler:', or an
+         *               empty string if the message was shown without a sender
+         * @return true if the sender matches this message, false otherwise
+         */
+        boolean isShownWithSender(@Nonnull String sender) {
+            sender = sender.replace('\u00A0', ' ').trim();
+            if (this.rsn == null) {
+                return sender.isEmpty();
+            }
+            // The sender may be prefixed by a channel heading or 'From ', but always ends with 'name:'
+            int nameStart = sender.length() - 1 - this.rsn.length();
+            return nameStart >= 0
+                    && sender.charAt(sender.length() - 1) == ':'
+                    && sender.regionMatches(nameStart, this.rsn, 0, this.rsn.length());
+        }
+
+        /**
+         * @return chat line data for translating this message
+         */
+        ChatLineData toChatLineData() {
+            // Private messages are shown as 'From name:' or 'To name:', which decides where translations are sent
+            String shownRsn = this.rsn;
+            if (shownRsn != null) {
+                switch (this.type) {
+                    case PRIVATECHAT:
+                    case MODPRIVATECHAT:
+                        shownRsn = "From " + shownRsn;
+                        break;
+                    case PRIVATECHATOUT:
+                        shownRsn = "To " + shownRsn;
+                        break;
+                    default:
+                        break;
+                }
+            }
+            // Chat lines in the chat box are never the local player's chat input
+            return new ChatLineData(shownRsn, this.text, false);
+        }
+    }
+}
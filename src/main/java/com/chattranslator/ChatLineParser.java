@@ -0,0 +1,80 @@
+package com.chattranslator;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Parses the text of chat lines in the chat box into the sender and the message.
+ * <p>
+ * Chat lines are parsed whenever a menu is opened over the chat box, so parsing only scans the text by index rather
+ * than matching patterns, and allocates nothing but the parsed strings.
+ *
+ * @author agent
+ * @version October 2026
+ */
+final class ChatLineParser {
+
+    /**
+     * What ends the channel heading of a chat line, e.g. '[Friends Chat] '.
+     */
+    private static final String CHANNEL_SUFFIX = "] ";
+
+    /**
+     * What ends the sender of a chat line, e.g. 'Nuzzler: '.
+     */
+    private static final String SENDER_SUFFIX = ": ";
+
+    private ChatLineParser() {
+    }
+
+    /**
+     * Split the text of a chat line into the sender and the message.
+     * For example, '[Friends Chat] Nuzzler: Hey' is parsed into the sender 'Nuzzler' and the message 'Hey'.
+     *
+     * @param chatLine - the chat line text, without formatting tags
+     * @return chat line data of the text
+     */
+    static ChatLineData parse(@Nonnull String chatLine) {
+        int start = 0;
+
+        // Skip the channel heading, i.e. '[Friends Chat] Nuzzler: Hey' -> 'Nuzzler: Hey'
+        if (chatLine.startsWith("[")) {
+            int channelEnd = chatLine.indexOf(CHANNEL_SUFFIX, 2);
+            if (channelEnd >= 0) {
+                start = channelEnd + CHANNEL_SUFFIX.length();
+            }
+        }
+
+        // Capture the sender. Names can't contain colons, so the first ': ' ends the name even when the message
+        // contains more of them.
+        String rsn = null;
+        int senderEnd = chatLine.indexOf(SENDER_SUFFIX, start + 1);
+        if (senderEnd >= 0) {
+            rsn = chatLine.substring(start, senderEnd);
+            start = senderEnd + SENDER_SUFFIX.length();
+        }
+
+        return new ChatLineData(rsn, chatLine.substring(start), false);
+    }
+
+    /**
+     * Append text to a builder without its formatting tags, e.g. '&lt;col=ff0000&gt;Hey&lt;/col&gt;' is appended as
+     * 'Hey'. This is the same as {@link net.runelite.client.util.Text#removeTags(String)} without the intermediate
+     * string.
+     *
+     * @param builder - the builder to append to
+     * @param text    - the text to append
+     */
+    static void appendWithoutTags(@Nonnull StringBuilder builder, @Nonnull String text) {
+        int start = 0;
+        int tagStart;
+        while ((tagStart = text.indexOf('<', start)) >= 0) {
+            int tagEnd = text.indexOf('>', tagStart + 1);
+            if (tagEnd < 0) {
+                break;
+            }
+            builder.append(text, start, tagStart);
+            start = tagEnd + 1;
+        }
+        builder.append(text, start, text.length());
+    }
+}
@@ -1,16 +1,36 @@
 package com.chattranslator;
 
+import com.chattranslator.backend.GoogleTranslationBackend;
+import com.chattranslator.backend.LibreTranslateBackend;
+import com.chattranslator.backend.TranslationBackend;
+import com.chattranslator.backend.TranslationBackendType;
+import com.chattranslator.cache.PersistentTranslationStore;
+import com.chattranslator.cache.SingleFlight;
+import com.chattranslator.cache.TranslationCache;
+import com.chattranslator.cache.TranslationKey;
 import com.chattranslator.data.GetSupportedLanguagesResponseLanguage;
 import com.chattranslator.data.GetSupportedLanguagesResponseList;
 import com.chattranslator.data.TranslateTextResponseList;
 import com.chattranslator.data.TranslateTextResponseTranslation;
-import com.chattranslator.ex.GoogleAPIException;
-import com.chattranslator.ex.GoogleAuthenticationException;
-import com.chattranslator.ex.GoogleException;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.chattranslator.detect.LanguageDetector;
+import com.chattranslator.ex.TranslationAPIException;
+import com.chattranslator.ex.TranslationAuthenticationException;
+import com.chattranslator.ex.TranslationException;
+import com.chattranslator.ex.TranslationQuotaException;
+import com.chattranslator.ex.TranslationTransientException;
+import com.chattranslator.ex.TranslationUnavailableException;
+import com.chattranslator.glossary.Glossary;
+import com.chattranslator.glossary.GlossaryMatch;
+import com.chattranslator.jfr.TranslationTrace;
+import com.chattranslator.lang.LanguageRegistry;
+import com.chattranslator.metrics.LatencyHistogram;
+import com.chattranslator.metrics.TranslationMetrics;
+import com.chattranslator.quota.QuotaGovernor;
+import com.chattranslator.retry.CircuitBreaker;
+import com.chattranslator.retry.RetryPolicy;
+import com.google.gson.stream.MalformedJsonException;
 import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
 import okhttp3.*;
 import org.apache.commons.text.StringEscapeUtils;
 
@@ -18,7 +38,22 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
-import java.nio.charset.StandardCharsets;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -32,6 +67,26 @@ import java.util.stream.Stream;
 @Slf4j
 public class ChatTranslator {
 
+    /**
+     * The maximum amount of texts Google accepts in a single translation request.
+     */
+    private static final int MAX_BATCH_SIZE = 128;
+
+    /**
+     * The file translations are saved to between sessions.
+     */
+    private static final File TRANSLATION_STORE_FILE = new File(RuneLite.RUNELITE_DIR, "chat-translator/translations.log");
+
+    /**
+     * The LibreTranslate server used if the configured URL is invalid.
+     */
+    private static final String LIBRETRANSLATE_DEFAULT_URL = "http://localhost:5000/";
+
+    /**
+     * How calls which failed temporarily are tried again: up to 3 attempts, waiting around 0.5 then 1 seconds.
+     */
+    private static final RetryPolicy RETRY_POLICY = new RetryPolicy(3, 500, 4000, TimeUnit.MILLISECONDS);
+
     /**
      * The configuration of the plugin.
      */
@@ -39,19 +94,87 @@ public class ChatTranslator {
     private ChatTranslatorConfig config;
 
     /**
-     * An HTTP Client to access the Google Translate API.
+     * Detects the language of text without calling the API.
      */
-    private OkHttpClient client = new OkHttpClient();
+    @Inject
+    private LanguageDetector languageDetector;
+
+    /**
+     * Translates common slang and phrases without calling the API.
+     */
+    @Inject
+    private Glossary glossary;
 
     /**
-     * The list of supported languages by Google Translate API.
+     * The languages supported by the API, which are saved between sessions.
      */
-    private GetSupportedLanguagesResponseList supportedLanguages = null;
+    @Inject
+    private LanguageRegistry languageRegistry;
+
+    /**
+     * Limits the requests and characters sent for translation.
+     */
+    @Inject
+    private QuotaGovernor quota;
+
+    /**
+     * Counts the calls made and how long they take.
+     */
+    @Inject
+    private TranslationMetrics metrics;
+
+    /**
+     * The HTTP client shared by RuneLite.
+     */
+    @Inject
+    private OkHttpClient sharedClient;
+
+    /**
+     * Waits out the delay before a failed call is tried again.
+     */
+    @Inject
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * The translation service calls are sent to.
+     */
+    private volatile TranslationBackend backend = new GoogleTranslationBackend();
+
+    /**
+     * An HTTP Client to access the Google Translate API. This is derived from the shared client, so it shares its
+     * dispatcher, but has its own timeouts and connection pool.
+     */
+    private volatile OkHttpClient client;
+
+    /**
+     * The timeout and connection pool settings the HTTP client was built with, or null if it has not been built.
+     */
+    private int[] clientSettings = null;
+
+    /**
+     * Recently returned translations, used to avoid translating the same text twice.
+     */
+    private final TranslationCache cache = new TranslationCache(0, 0, TimeUnit.MINUTES);
+
+    /**
+     * Translation calls in flight, shared by identical requests.
+     */
+    private final SingleFlight<TranslationKey, TranslateTextResponseList> inFlight = new SingleFlight<>();
+
+    /**
+     * Stops calling the API while it keeps failing: after 5 failures in a row, calls fail fast for 30 seconds.
+     */
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(5, 30, TimeUnit.SECONDS);
+
+    /**
+     * Translations saved to disk between sessions, or null if disabled.
+     */
+    private volatile @Nullable PersistentTranslationStore store = null;
 
     /**
      * Whether the user is authenticated.
      */
-    private boolean authenticated = false;
+    private volatile boolean authenticated = false;
 
     /**
      * @return true if the the chat translator is authenticated to Google Cloud Platform, false otherwise
@@ -61,62 +184,265 @@ public class ChatTranslator {
     }
 
     /**
-     * Un-authenticate your credentials. This clears saved config and any session data used for chat translation.
+     * @return the cache of recently returned translations
+     */
+    public TranslationCache getCache() {
+        return this.cache;
+    }
+
+    /**
+     * @return the circuit breaker guarding calls to the API
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return this.circuitBreaker;
+    }
+
+    /**
+     * @return the translation calls in flight
+     */
+    public SingleFlight<TranslationKey, TranslateTextResponseList> getInFlight() {
+        return this.inFlight;
+    }
+
+    /**
+     * Apply the latest plugin configuration to the translator.
+     */
+    public synchronized void applyConfig() {
+        this.cache.resize(config.cacheSize(), config.cacheTtlMinutes(), TimeUnit.MINUTES);
+        this.quota.applyConfig();
+
+        final TranslationBackend backend = createBackend();
+        if (!backend.getId().equals(this.backend.getId())) {
+            // Calls are only sent once the new backend has authenticated
+            log.info("Translation backend changed to " + backend.getId());
+            this.backend = backend;
+            this.authenticated = false;
+        }
+
+        // The connection pool rejects a keep alive under a second, which older configs may still hold
+        final int keepAliveSeconds = Math.max(1, config.keepAliveSeconds());
+
+        // Rebuild the client only if its settings changed, so warm connections are kept
+        final int[] clientSettings = {config.connectTimeoutSeconds(), config.readTimeoutSeconds(), config.callTimeoutSeconds(),
+                config.maxIdleConnections(), keepAliveSeconds};
+        if (!Arrays.equals(clientSettings, this.clientSettings)) {
+            final OkHttpClient previousClient = this.client;
+            this.client = this.sharedClient.newBuilder()
+                    .connectTimeout(config.connectTimeoutSeconds(), TimeUnit.SECONDS)
+                    .readTimeout(config.readTimeoutSeconds(), TimeUnit.SECONDS)
+                    .writeTimeout(config.readTimeoutSeconds(), TimeUnit.SECONDS)
+                    .callTimeout(config.callTimeoutSeconds(), TimeUnit.SECONDS)
+                    .connectionPool(new ConnectionPool(config.maxIdleConnections(), keepAliveSeconds, TimeUnit.SECONDS))
+                    .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                    .build();
+            this.clientSettings = clientSettings;
+            if (previousClient != null) {
+                previousClient.connectionPool().evictAll();
+            }
+        }
+
+        if (!config.isDiskCacheEnabled()) {
+            this.closeStore();
+        } else if (this.store != null) {
+            this.store.resize(config.diskCacheSize());
+        } else {
+            PersistentTranslationStore store = new PersistentTranslationStore(TRANSLATION_STORE_FILE, config.diskCacheSize());
+            try {
+                // Warm the memory cache with the most recently saved translations
+                Map<TranslationKey, TranslateTextResponseList> saved = store.open();
+                saved.forEach(this.cache::put);
+                this.store = store;
+                log.debug("Restored " + saved.size() + " saved translations");
+            } catch (IOException e) {
+                log.warn("Could not open saved translations", e);
+            }
+        }
+    }
+
+    /**
+     * Helper method to create the translation backend chosen in the config.
+     *
+     * @return the backend
+     */
+    private TranslationBackend createBackend() {
+        if (config.backend() == TranslationBackendType.LIBRETRANSLATE) {
+            HttpUrl url = HttpUrl.parse(config.libreTranslateUrl().trim());
+            if (url == null) {
+                log.warn("Invalid LibreTranslate URL '" + config.libreTranslateUrl() + "', using " + LIBRETRANSLATE_DEFAULT_URL);
+                url = HttpUrl.get(LIBRETRANSLATE_DEFAULT_URL);
+            }
+            return new LibreTranslateBackend(url);
+        }
+        return new GoogleTranslationBackend();
+    }
+
+    /**
+     * Release resources held by the translator, e.g. the saved translations file.
+     */
+    public synchronized void shutDown() {
+        this.quota.saveNow();
+        this.closeStore();
+        if (this.client != null) {
+            this.client.connectionPool().evictAll();
+        }
+    }
+
+    /**
+     * Helper method to close the saved translations file.
+     */
+    private void closeStore() {
+        if (this.store != null) {
+            this.store.close();
+            this.store = null;
+        }
+    }
+
+    /**
+     * Un-authenticate your credentials. This clears the saved credentials of the current translation backend and any
+     * session data used for chat translation.
      */
     public void unauthenticate() {
-        config.apiKey(null); // Clear config
+        this.saveApiKey(this.backend, null); // Clear config
         this.authenticated = false;
     }
 
+    /**
+     * @return true if credentials are saved for the current translation backend, false otherwise
+     */
+    public boolean hasSavedCredentials() {
+        return this.savedApiKey(this.backend) != null;
+    }
+
     /**
      * Authenticate using an API Key.
      *
      * @param apiKey - the data used for authentication
-     * @throws GoogleAuthenticationException on authentication failure
+     * @throws TranslationAuthenticationException on authentication failure
      */
-    public void authenticate(String apiKey) throws GoogleAuthenticationException {
-        try {
-            log.debug("Google Cloud Platform: Sending request for supported languages");
-            final Request req = new Request.Builder()
-                    .method("GET", null)
-                    .url("https://translation.googleapis.com/language/translate/v2/languages?target=en&key=" + apiKey)
-                    .build();
+    public void authenticate(String apiKey) throws TranslationAuthenticationException {
+        final TranslationBackend backend = this.backend;
+        final long startNanos = System.nanoTime();
+        this.metrics.onRequest(false);
+        try (Response response = client.newCall(backend.buildLanguagesRequest(apiKey)).execute()) {
+            this.onAuthenticated(backend, apiKey, parseLanguagesResponse(backend, response));
+            this.metrics.onAuthenticated(true);
+        } catch (Exception e) {
+            this.metrics.onAuthenticated(false);
+            throw new TranslationAuthenticationException("Invalid credentials for the translation service", e);
+        } finally {
+            this.metrics.authenticateLatency.record(System.nanoTime() - startNanos);
+        }
+    }
 
-            Response response = client.newCall(req).execute();
-            String responseSource = new String(response.body().bytes(), StandardCharsets.UTF_8);
-            log.debug("Response:\n" + responseSource);
-            log.debug("Google Cloud Platform: Received response");
-            if (response.code() != 200) {
-                throw new GoogleAuthenticationException("Google returned code " + response.code());
+    /**
+     * Authenticate using an API Key without blocking the calling thread.
+     *
+     * @param apiKey - the data used for authentication
+     * @return a future which completes when authenticated, or completes exceptionally with a {@link TranslationAuthenticationException} on authentication failure
+     */
+    public CompletableFuture<Void> authenticateAsync(String apiKey) {
+        return this.authenticateAsync(this.backend, apiKey);
+    }
+
+    /**
+     * Helper method to authenticate to a backend using an API key without blocking the calling thread.
+     *
+     * @param backend - the backend to authenticate to
+     * @param apiKey  - the data used for authentication
+     * @return a future which completes when authenticated, or completes exceptionally with a {@link TranslationAuthenticationException} on authentication failure
+     */
+    private CompletableFuture<Void> authenticateAsync(TranslationBackend backend, String apiKey) {
+        final CompletableFuture<Void> future = this.enqueue(backend.buildLanguagesRequest(apiKey),
+                response -> {
+                    this.onAuthenticated(backend, apiKey, parseLanguagesResponse(backend, response));
+                    return null;
+                },
+                e -> new TranslationAuthenticationException("Invalid credentials for the translation service", e),
+                this.metrics.authenticateLatency);
+        future.whenComplete((result, e) -> {
+            if (!future.isCancelled()) {
+                this.metrics.onAuthenticated(e == null);
             }
+        });
+        return future;
+    }
 
-            JsonParser parser = new JsonParser();
-            JsonObject dom = parser.parse(responseSource).getAsJsonObject();
-            JsonElement data = dom.get("data");
-            this.supportedLanguages = GetSupportedLanguagesResponseList.fromJSON(data);
-            log.debug("Supported languages:\n" +
-                    Stream.of(supportedLanguages.languages)
-                            .map(lang -> "\t" + lang.language + " - " + lang.name)
-                            .collect(Collectors.joining("\n")));
+    /**
+     * Authenticate using previously saved configuration data.
+     *
+     * @throws TranslationAuthenticationException on authentication failure
+     * @see #authenticateFromConfigAsync()
+     */
+    public void authenticateFromConfig() throws TranslationAuthenticationException {
+        try {
+            await(authenticateFromConfigAsync());
+        } catch (TranslationAuthenticationException e) {
+            throw e;
+        } catch (TranslationException e) {
+            throw new TranslationAuthenticationException(e.getMessage(), e);
+        }
+    }
 
-            config.apiKey(apiKey);
-            this.authenticated = true;
-            log.info("Chat Translator authentication successful.");
-        } catch (Exception e) {
-            throw new GoogleAuthenticationException("Invalid Google Cloud Platform service account credentials", e);
+    /**
+     * Authenticate using previously saved configuration data without blocking the calling thread. An API key is only
+     * saved after it authenticated, so while the languages saved with it are fresh, it is trusted without calling the
+     * API again. If the API can't be reached to refresh them, stale saved languages are trusted too.
+     *
+     * @return a future which completes when authenticated or when there is no saved API key, or completes
+     * exceptionally with a {@link TranslationAuthenticationException} on authentication failure. If the backend rejected
+     * the saved API key, it is cleared.
+     */
+    public CompletableFuture<Void> authenticateFromConfigAsync() {
+        final TranslationBackend backend = this.backend;
+        final String apiKey = this.savedApiKey(backend);
+        if (apiKey == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (this.languageRegistry.isEmpty()) {
+            this.languageRegistry.load();
         }
+        final String backendId = backend.getId();
+        if (!this.languageRegistry.needsRefresh(backendId)) {
+            this.onAuthenticatedFromSavedLanguages();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        this.authenticateAsync(backend, apiKey).whenComplete((result, e) -> {
+            if (e == null) {
+                future.complete(null);
+            } else if (isNetworkFailure(e)) {
+                if (this.languageRegistry.isFrom(backendId)) {
+                    log.warn("Could not refresh supported languages", e);
+                    this.onAuthenticatedFromSavedLanguages();
+                    future.complete(null);
+                } else {
+                    future.completeExceptionally(e); // Keep the API key to retry when online
+                }
+            } else {
+                this.saveApiKey(backend, null); // Only the backend which rejected the key loses it
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
     }
 
     /**
-     * Authenticate using previously saved configuration data.
+     * Return whether a failure to call the API was caused by the network or a temporary outage, rather than by the API
+     * rejecting the call.
      *
-     * @throws GoogleAuthenticationException on authentication failure
+     * @param e - the failure
+     * @return true if the API could not be reached, false otherwise
      */
-    public void authenticateFromConfig() throws GoogleAuthenticationException {
-        if (this.config.apiKey() == null) {
-            return;
+    public static boolean isNetworkFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException
+                    || cause instanceof TranslationTransientException
+                    || cause instanceof TranslationUnavailableException) {
+                return true;
+            }
         }
-        authenticate(config.apiKey());
+        return false;
     }
 
     /**
@@ -126,74 +452,716 @@ public class ChatTranslator {
      * @param sourceLanguage - the source language's code, e.g. 'en' (English)
      * @param targetLanguage - the target language' code, e.g. 'da' (Danish)
      * @return the translated text
-     * @throws GoogleException on call failure
+     * @throws TranslationException on call failure
+     */
+    public TranslateTextResponseList translate(@Nonnull String text, @Nullable String sourceLanguage, @Nonnull String targetLanguage) throws TranslationException {
+        return await(translateAsync(text, sourceLanguage, targetLanguage));
+    }
+
+    /**
+     * Translate text from a source language to a target language without blocking the calling thread.
+     *
+     * @param text           - the text to translate
+     * @param sourceLanguage - the source language's code, e.g. 'en' (English)
+     * @param targetLanguage - the target language' code, e.g. 'da' (Danish)
+     * @return a future of the translated text, which completes exceptionally with a {@link TranslationException} on call failure.
+     * If the text is not cached, this is a {@link TranslationQuotaException} if the quota refuses the call, or a
+     * {@link TranslationUnavailableException} while the API is down. Concurrent identical requests share one call, which is
+     * cancelled once every future sharing it is cancelled.
      */
-    public TranslateTextResponseList translate(@Nonnull String text, @Nullable String sourceLanguage, @Nonnull String targetLanguage) throws GoogleException {
+    public CompletableFuture<TranslateTextResponseList> translateAsync(@Nonnull String text, @Nullable String sourceLanguage, @Nonnull String targetLanguage) {
         if (!authenticated) {
-            throw new GoogleAuthenticationException("You are not authenticated for Chat Translation.");
+            return failedFuture(new TranslationAuthenticationException("You are not authenticated for Chat Translation."));
+        }
+
+        final TranslationTrace trace = TranslationTrace.begin(text.length(), sourceLanguage, targetLanguage);
+
+        // Detect the source language locally, so text already in the target language is never sent
+        final String source = sourceLanguage != null ? sourceLanguage : this.detectLanguage(text);
+        if (source != null && source.equalsIgnoreCase(targetLanguage)) {
+            trace.setCacheOutcome(TranslationTrace.CACHE_SKIPPED);
+            trace.end(null);
+            return CompletableFuture.completedFuture(TranslateTextResponseList.of(TranslateTextResponseTranslation.of(source, text)));
+        }
+
+        // Chat made only of common slang and phrases is translated locally
+        final GlossaryMatch glossaryMatch = this.matchGlossary(text, source, targetLanguage);
+        if (glossaryMatch != null && glossaryMatch.isComplete()) {
+            trace.setCacheOutcome(TranslationTrace.CACHE_GLOSSARY);
+            trace.end(null);
+            return CompletableFuture.completedFuture(TranslateTextResponseList.of(TranslateTextResponseTranslation.of(
+                    source != null ? source : Glossary.PHRASE_LANGUAGE, glossaryMatch.translate())));
         }
-        try {
-            // Build request body
-            JsonObject requestJson = new JsonObject();
-            if (sourceLanguage != null) {
-                requestJson.addProperty("source", sourceLanguage);
-            }
-            requestJson.addProperty("target", targetLanguage);
-            requestJson.addProperty("q", text);
-            log.debug("Request body: " + requestJson.toString());
-            RequestBody requestBody = RequestBody.create(
-                    MediaType.parse("application/json"), requestJson.toString());
-
-            // Build request
-            log.debug("Google Cloud Platform: Sending request for translation");
-            final Request req = new Request.Builder()
-                    .method("POST", requestBody)
-                    .header("Content-Type", "application/json")
-                    .url("https://translation.googleapis.com/language/translate/v2?key=" + config.apiKey())
-                    .build();
 
-            Response response = client.newCall(req).execute();
-            String responseSource = new String(response.body().bytes(), StandardCharsets.UTF_8);
-            log.debug("Response:\n" + responseSource);
-            log.debug("Google Cloud Platform: Received response");
-            if (response.code() != 200) {
-                throw new GoogleAuthenticationException("Google returned code " + response.code());
+        // Repeated chat lines are translated from the cache
+        final TranslationKey key = TranslationKey.of(text, source, targetLanguage);
+        TranslateTextResponseList cached = this.getCached(key);
+        if (cached != null) {
+            trace.setCacheOutcome(TranslationTrace.CACHE_HIT);
+            trace.end(null);
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        // Identical requests in flight share a single call
+        final TranslationBackend backend = this.backend;
+        final String apiKey = this.apiKey(backend);
+        // Known phrases in the rest of the text are protected from being mangled
+        final boolean protect = glossaryMatch != null && backend.supportsProtectedSpans();
+        final String requestText = protect ? glossaryMatch.protect() : text;
+        trace.setCacheOutcome(TranslationTrace.CACHE_SHARED);
+        final CompletableFuture<TranslateTextResponseList> future = this.inFlight.execute(key, () -> {
+            trace.setCacheOutcome(TranslationTrace.CACHE_MISS);
+            return this.enqueueWithinQuota(requestText.length(),
+                    () -> {
+                        trace.onSent();
+                        return backend.buildTranslateRequest(Collections.singletonList(requestText), source, targetLanguage, apiKey);
+                    },
+                    response -> {
+                        trace.onReceived();
+                        TranslateTextResponseList translationList = parseTranslateResponse(backend, response, source);
+                        if (protect) {
+                            translationList = unprotect(translationList);
+                        }
+                        trace.onParsed();
+                        this.remember(key, translationList);
+                        return translationList;
+                    },
+                    ChatTranslator::toTranslationFailure);
+        });
+        future.whenComplete((result, e) -> trace.end(e));
+        return future;
+    }
+
+    /**
+     * Translate text ahead of the user asking for it, e.g. while they move the mouse to a menu entry. A prefetch has low
+     * priority: it is skipped rather than queued behind calls waiting for the quota, or while the API is down. Once it
+     * is sent, asking for the same translation shares its call or is served from the cache.
+     *
+     * @param text           - the text to translate
+     * @param sourceLanguage - the source language's code, e.g. 'en' (English)
+     * @param targetLanguage - the target language' code, e.g. 'da' (Danish)
+     * @return a future of the translated text as in {@link #translateAsync(String, String, String)}, or null if the
+     * prefetch was skipped. Cancelling the future cancels the call, unless a caller is sharing it.
+     */
+    public @Nullable
+    CompletableFuture<TranslateTextResponseList> prefetchAsync(@Nonnull String text, @Nullable String sourceLanguage, @Nonnull String targetLanguage) {
+        if (!authenticated || this.quota.getQueued() > 0 || this.circuitBreaker.isOpen()) {
+            return null;
+        }
+        return this.translateAsync(text, sourceLanguage, targetLanguage);
+    }
+
+    /**
+     * Translate several texts from a source language to a target language. Texts which were not translated before are
+     * sent together in a single request (per {@value #MAX_BATCH_SIZE} texts).
+     *
+     * @param texts          - the texts to translate
+     * @param sourceLanguage - the source language's code, e.g. 'en' (English)
+     * @param targetLanguage - the target language' code, e.g. 'da' (Danish)
+     * @return the translations, in the same order as the texts
+     * @throws TranslationException on call failure
+     */
+    public List<TranslateTextResponseTranslation> translateBatch(@Nonnull List<String> texts, @Nullable String sourceLanguage, @Nonnull String targetLanguage) throws TranslationException {
+        return await(translateBatchAsync(texts, sourceLanguage, targetLanguage));
+    }
+
+    /**
+     * Translate several texts from a source language to a target language without blocking the calling thread. Texts
+     * which were not translated before are sent together in a single request per source language (per
+     * {@value #MAX_BATCH_SIZE} texts), unless an identical translation is already in flight, which they share.
+     *
+     * @param texts          - the texts to translate
+     * @param sourceLanguage - the source language's code, e.g. 'en' (English)
+     * @param targetLanguage - the target language' code, e.g. 'da' (Danish)
+     * @return a future of the translations in the same order as the texts, which completes exceptionally with a
+     * {@link TranslationException} on call failure. Texts which are not cached and which the quota refuses to send, or which
+     * can't be sent while the API is down, are left null, so the cached translations are still returned.
+     */
+    public CompletableFuture<List<TranslateTextResponseTranslation>> translateBatchAsync(@Nonnull List<String> texts, @Nullable String sourceLanguage, @Nonnull String targetLanguage) {
+        if (!authenticated) {
+            return failedFuture(new TranslationAuthenticationException("You are not authenticated for Chat Translation."));
+        }
+
+        // Fill in what we can from the cache, and share or gather every distinct text which needs translating
+        final TranslateTextResponseTranslation[] results = new TranslateTextResponseTranslation[texts.size()];
+        final Map<TranslationKey, CompletableFuture<TranslateTextResponseList>> calls = new LinkedHashMap<>();
+        final List<CompletableFuture<Void>> waits = new ArrayList<>();
+        final Map<String, PendingBatch> batches = new LinkedHashMap<>();
+        final TranslationBackend backend = this.backend;
+        for (int i = 0; i < results.length; i++) {
+            final String text = texts.get(i);
+            // Key texts by their detected source language, as single translations do, so both share the cache
+            final String source = sourceLanguage != null ? sourceLanguage : this.detectLanguage(text);
+            if (source != null && source.equalsIgnoreCase(targetLanguage)) {
+                results[i] = TranslateTextResponseTranslation.of(source, text);
+                continue;
             }
+            final GlossaryMatch glossaryMatch = this.matchGlossary(text, source, targetLanguage);
+            if (glossaryMatch != null && glossaryMatch.isComplete()) {
+                results[i] = TranslateTextResponseTranslation.of(source != null ? source : Glossary.PHRASE_LANGUAGE, glossaryMatch.translate());
+                continue;
+            }
+            final TranslationKey key = TranslationKey.of(text, source, targetLanguage);
+            TranslateTextResponseList cached = this.getCached(key);
+            if (cached != null && !cached.isEmpty()) {
+                results[i] = cached.getBestTranslation(null);
+                continue;
+            }
+
+            final CompletableFuture<TranslateTextResponseList> call = calls.computeIfAbsent(key, k -> this.inFlight.execute(k, () -> {
+                // Known phrases in the rest of the text are protected from being mangled
+                final boolean protect = glossaryMatch != null && backend.supportsProtectedSpans();
+                return batches.computeIfAbsent(source, s -> new PendingBatch())
+                        .add(k, protect ? glossaryMatch.protect() : text, protect);
+            }));
+            final int position = i;
+            waits.add(call.handle((translationList, e) -> {
+                // Degrade to the cached translations rather than failing the whole batch
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof TranslationQuotaException || cause instanceof TranslationUnavailableException) {
+                    log.debug("Skipped translating text: " + cause.getMessage());
+                    return null;
+                } else if (e != null) {
+                    throw cause instanceof RuntimeException ? (RuntimeException) cause : new CompletionException(cause);
+                }
+                if (!translationList.isEmpty()) {
+                    results[position] = translationList.getBestTranslation(null);
+                }
+                return null;
+            }));
+        }
 
-            JsonParser parser = new JsonParser();
-            JsonObject dom = parser.parse(responseSource).getAsJsonObject();
-            JsonElement data = dom.get("data");
+        final String apiKey = this.apiKey(backend);
+        batches.forEach((source, pending) -> this.sendBatch(backend, pending, source, targetLanguage, apiKey));
+        return CompletableFuture.allOf(waits.toArray(new CompletableFuture[0]))
+                .thenApply(v -> Arrays.asList(results));
+    }
 
-            TranslateTextResponseList translationList;
-            if (sourceLanguage == null) {
-                translationList = TranslateTextResponseList.fromJSONImplicit(data);
-            } else {
-                translationList = TranslateTextResponseList.fromJSONExplicit(data, sourceLanguage);
+    /**
+     * Helper method to send texts in the same source language in batch requests (per {@value #MAX_BATCH_SIZE} texts),
+     * completing the future of each text with its translation.
+     *
+     * @param backend        - the backend to send the requests to
+     * @param pending        - the texts to translate
+     * @param sourceLanguage - the source language's code, or null if it is detected by the backend
+     * @param targetLanguage - the target language's code
+     * @param apiKey         - the API key
+     */
+    private void sendBatch(TranslationBackend backend, PendingBatch pending, @Nullable String sourceLanguage, String targetLanguage, String apiKey) {
+        for (int start = 0; start < pending.texts.size(); start += MAX_BATCH_SIZE) {
+            final int offset = start;
+            final int end = Math.min(start + MAX_BATCH_SIZE, pending.texts.size());
+            final List<String> batch = pending.texts.subList(start, end);
+            final int characters = batch.stream().mapToInt(String::length).sum();
+            this.enqueueWithinQuota(characters,
+                    () -> backend.buildTranslateRequest(batch, sourceLanguage, targetLanguage, apiKey),
+                    response -> {
+                        TranslateTextResponseList translationList = backend.parseBatchTranslateResponse(response, sourceLanguage, batch.size());
+                        for (int i = 0; i < batch.size(); i++) {
+                            TranslateTextResponseTranslation translation = translationList.translations[i];
+                            if (pending.protectedTexts.get(offset + i)) {
+                                translation = unprotect(translation);
+                            }
+                            TranslateTextResponseList result = TranslateTextResponseList.of(translation);
+                            this.remember(pending.keys.get(offset + i), result);
+                            pending.futures.get(offset + i).complete(result);
+                        }
+                        return null;
+                    },
+                    ChatTranslator::toTranslationFailure)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                            pending.futures.subList(offset, end).forEach(future -> future.completeExceptionally(cause));
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Detect the language of text with the translation backend, without blocking the calling thread. Unlike local
+     * detection, this is sent to the backend, so it counts against the quota.
+     *
+     * @param text - the text
+     * @return a future of the detected language's code, or null if none was detected, which completes exceptionally
+     * with a {@link TranslationException} on call failure
+     */
+    public CompletableFuture<String> detectAsync(@Nonnull String text) {
+        if (!authenticated) {
+            return failedFuture(new TranslationAuthenticationException("You are not authenticated for Chat Translation."));
+        }
+        final TranslationBackend backend = this.backend;
+        final String apiKey = this.apiKey(backend);
+        return this.enqueueWithinQuota(text.length(),
+                () -> backend.buildDetectRequest(text, apiKey),
+                backend::parseDetectResponse,
+                ChatTranslator::toTranslationFailure);
+    }
+
+    /**
+     * Helper method to detect the language of text locally.
+     *
+     * @param text - the text
+     * @return the detected language's code, or null if local detection is disabled or the language is uncertain
+     */
+    private @Nullable
+    String detectLanguage(String text) {
+        return config.isLocalLanguageDetectionEnabled() ? this.languageDetector.detect(text) : null;
+    }
+
+    /**
+     * Helper method to find the glossary phrases in text, if the user enabled the glossary.
+     *
+     * @param text           - the text
+     * @param sourceLanguage - the language code of the text, or null if it is unknown
+     * @param targetLanguage - the language code to translate to
+     * @return the phrases found, or null if there are none
+     */
+    private @Nullable
+    GlossaryMatch matchGlossary(String text, @Nullable String sourceLanguage, String targetLanguage) {
+        return config.isGlossaryEnabled() ? this.glossary.match(text, sourceLanguage, targetLanguage) : null;
+    }
+
+    /**
+     * Helper method to remove the protection of glossary phrases from translations.
+     *
+     * @param translationList - translations of text with protected phrases
+     * @return the translations without protection
+     */
+    private static TranslateTextResponseList unprotect(TranslateTextResponseList translationList) {
+        final TranslateTextResponseTranslation[] translations = new TranslateTextResponseTranslation[translationList.translations.length];
+        for (int i = 0; i < translations.length; i++) {
+            translations[i] = unprotect(translationList.translations[i]);
+        }
+        return TranslateTextResponseList.of(translations);
+    }
+
+    /**
+     * Helper method to remove the protection of glossary phrases from a translation.
+     *
+     * @param translation - a translation of text with protected phrases
+     * @return the translation without protection
+     */
+    private static TranslateTextResponseTranslation unprotect(TranslateTextResponseTranslation translation) {
+        return TranslateTextResponseTranslation.of(translation.detectedSourceLanguage, GlossaryMatch.unprotect(translation.translatedText));
+    }
+
+    /**
+     * Helper method to return a translation from the memory cache or the saved translations.
+     *
+     * @param key - the translation request
+     * @return the cached translation, or null if it has not been translated before
+     */
+    private @Nullable
+    TranslateTextResponseList getCached(TranslationKey key) {
+        TranslateTextResponseList cached = this.cache.get(key);
+        if (cached != null) {
+            log.debug("Translation cache hit: " + key);
+            this.metrics.onCacheHit();
+            return cached;
+        }
+        final PersistentTranslationStore store = this.store;
+        if (store != null && (cached = store.get(key)) != null) {
+            log.debug("Translation store hit: " + key);
+            this.metrics.onCacheHit();
+            this.cache.put(key, cached);
+            return cached;
+        }
+        return null;
+    }
+
+    /**
+     * Helper method to remember a translation in the memory cache and the saved translations.
+     *
+     * @param key             - the translation request
+     * @param translationList - the translations returned for the request
+     */
+    private void remember(TranslationKey key, TranslateTextResponseList translationList) {
+        this.cache.put(key, translationList);
+        final PersistentTranslationStore store = this.store;
+        if (store != null) {
+            store.put(key, translationList);
+        }
+    }
+
+    /**
+     * Helper method to return the saved API key of a backend, to send with its calls.
+     *
+     * @param backend - the backend
+     * @return the API key, or an empty string if there is none
+     */
+    private String apiKey(TranslationBackend backend) {
+        final String apiKey = this.savedApiKey(backend);
+        return apiKey == null ? "" : apiKey;
+    }
+
+    /**
+     * Helper method to return the API key saved for a backend. Each backend has its own API key, so one backend's key
+     * is never sent to another. A LibreTranslate key is only returned for the server it authenticated with.
+     *
+     * @param backend - the backend
+     * @return the API key, which is empty for a LibreTranslate server without API keys, or null if none is saved
+     */
+    private @Nullable
+    String savedApiKey(TranslationBackend backend) {
+        if (backend instanceof LibreTranslateBackend) {
+            final String server = ((LibreTranslateBackend) backend).getBaseUrl().toString();
+            if (!server.equals(config.libreTranslateApiKeyServer())) {
+                return null;
             }
+            final String apiKey = config.libreTranslateApiKey();
+            return apiKey == null ? "" : apiKey;
+        }
+        return config.apiKey();
+    }
+
+    /**
+     * Helper method to save the API key of a backend.
+     *
+     * @param backend - the backend
+     * @param apiKey  - the API key, or null to clear it
+     */
+    private void saveApiKey(TranslationBackend backend, @Nullable String apiKey) {
+        if (backend instanceof LibreTranslateBackend) {
+            config.libreTranslateApiKey(apiKey);
+            config.libreTranslateApiKeyServer(apiKey == null ? null : ((LibreTranslateBackend) backend).getBaseUrl().toString());
+        } else {
+            config.apiKey(apiKey);
+        }
+    }
+
+    /**
+     * Helper method to store the session data of a successful authentication.
+     *
+     * @param backend            - the backend which authenticated
+     * @param apiKey             - the data used for authentication
+     * @param supportedLanguages - the languages supported for the API key
+     */
+    private void onAuthenticated(TranslationBackend backend, String apiKey, GetSupportedLanguagesResponseList supportedLanguages) {
+        this.languageRegistry.update(supportedLanguages, backend.getId());
+        this.saveApiKey(backend, apiKey);
+        this.authenticated = true;
+        log.info("Chat Translator authentication successful.");
+    }
 
-            if (!translationList.isEmpty()) {
-                log.debug("Translations returned:\n" +
-                        Stream.of(translationList.translations)
-                                .map(translation -> "\t" + translation.detectedSourceLanguage + " - " + translation.translatedText)
-                                .collect(Collectors.joining("\n")));
+    /**
+     * Helper method to trust the saved API key, which authenticated when the saved languages were returned.
+     */
+    private void onAuthenticatedFromSavedLanguages() {
+        this.authenticated = true;
+        log.info("Chat Translator authenticated with saved languages.");
+    }
+
+    /**
+     * Helper method to parse the response of a supported languages request.
+     *
+     * @param backend  - the backend the request was sent to
+     * @param response - the response
+     * @return the supported languages
+     * @throws Exception on an unsuccessful response or parse failure
+     */
+    private static GetSupportedLanguagesResponseList parseLanguagesResponse(TranslationBackend backend, Response response) throws Exception {
+        GetSupportedLanguagesResponseList supportedLanguages = backend.parseLanguagesResponse(response);
+        if (log.isDebugEnabled()) {
+            log.debug("Supported languages:\n" +
+                    Stream.of(supportedLanguages.languages)
+                            .map(lang -> "\t" + lang.language + " - " + lang.name)
+                            .collect(Collectors.joining("\n")));
+        }
+        return supportedLanguages;
+    }
+
+    /**
+     * Helper method to parse the response of a translation request.
+     *
+     * @param backend        - the backend the request was sent to
+     * @param response       - the response
+     * @param sourceLanguage - the source language's code which was requested, or null if auto-detected
+     * @return the translations
+     * @throws Exception on an unsuccessful response or parse failure
+     */
+    private static TranslateTextResponseList parseTranslateResponse(TranslationBackend backend, Response response, @Nullable String sourceLanguage) throws Exception {
+        TranslateTextResponseList translationList = backend.parseTranslateResponse(response, sourceLanguage);
+        if (!translationList.isEmpty() && log.isDebugEnabled()) {
+            log.debug("Translations returned:\n" +
+                    Stream.of(translationList.translations)
+                            .map(translation -> "\t" + translation.detectedSourceLanguage + " - " + translation.translatedText)
+                            .collect(Collectors.joining("\n")));
+        }
+        return translationList;
+    }
+
+    /**
+     * Helper method to return whether a failed call may succeed if it is tried again.
+     *
+     * @param e - the failure
+     * @return true for a network failure, rate limiting or a server error, false otherwise
+     */
+    private static boolean isTransient(Exception e) {
+        return e instanceof TranslationTransientException
+                || (e instanceof IOException && !(e instanceof MalformedJsonException));
+    }
+
+    /**
+     * Helper method to wrap the failure of a translation call, keeping failures which are already classified.
+     *
+     * @param e - the failure
+     * @return the exception the translation completes with
+     */
+    private static TranslationException toTranslationFailure(Exception e) {
+        if (e instanceof TranslationException) {
+            return (TranslationException) e;
+        }
+        if (isTransient(e)) {
+            return new TranslationTransientException("Could not reach the translation service. Try again shortly.", e);
+        }
+        return new TranslationAPIException("API call failed. Try again or re-authenticate.", e);
+    }
+
+    /**
+     * Helper method to send a request on OkHttp's dispatcher rather than the calling thread. Calls which fail
+     * temporarily are tried again with a jittered exponential backoff, unless the circuit breaker is open.
+     *
+     * @param request   - the request to send
+     * @param handler   - parses the response into a result
+     * @param onFailure - wraps a network or parse failure into the exception the future completes with
+     * @param latency   - records how long the call takes, including retries
+     * @param <T>       - the type of result
+     * @return a future of the parsed result. Cancelling the future cancels the call, or the retry waiting to be sent.
+     */
+    private <T> CompletableFuture<T> enqueue(Request request, ResponseHandler<T> handler, Function<Exception, TranslationException> onFailure,
+                                             LatencyHistogram latency) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final long startNanos = System.nanoTime();
+        this.metrics.onCallStarted();
+        future.whenComplete((result, e) -> {
+            if (future.isCancelled()) {
+                this.metrics.onCallCancelled();
+                return;
             }
-            return translationList;
-        } catch (Exception e) {
-            throw new GoogleAPIException("API call failed. Try again or re-authenticate.", e);
+            latency.record(System.nanoTime() - startNanos);
+            this.metrics.onCallCompleted(e != null);
+        });
+        this.attempt(request, handler, onFailure, future, 1);
+        return future;
+    }
+
+    /**
+     * Helper method to make one attempt of a call.
+     *
+     * @param request   - the request to send
+     * @param handler   - parses the response into a result
+     * @param onFailure - wraps a network or parse failure into the exception the future completes with
+     * @param future    - completes with the result of the call
+     * @param attempt   - the attempt being made, starting from 1
+     * @param <T>       - the type of result
+     */
+    private <T> void attempt(Request request, ResponseHandler<T> handler, Function<Exception, TranslationException> onFailure,
+                             CompletableFuture<T> future, int attempt) {
+        if (future.isDone()) {
+            return;
+        }
+        if (!this.circuitBreaker.tryAcquire()) {
+            future.completeExceptionally(onFailure.apply(new TranslationUnavailableException("The translation service is unavailable. Try again shortly.")));
+            return;
+        }
+
+        this.metrics.onRequest(attempt > 1);
+        final Call call = client.newCall(request);
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                onAttemptFailed(request, handler, onFailure, future, attempt, call, e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                final T result;
+                try (Response r = response) {
+                    result = handler.handle(r);
+                } catch (Exception e) {
+                    onAttemptFailed(request, handler, onFailure, future, attempt, call, e);
+                    return;
+                }
+                circuitBreaker.onSuccess();
+                future.complete(result);
+            }
+        });
+        future.whenComplete((result, e) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+    }
+
+    /**
+     * Helper method to try a failed call again if the failure was temporary, or fail the call otherwise.
+     */
+    private <T> void onAttemptFailed(Request request, ResponseHandler<T> handler, Function<Exception, TranslationException> onFailure,
+                                     CompletableFuture<T> future, int attempt, Call call, Exception e) {
+        if (call.isCanceled() || future.isDone()) {
+            this.circuitBreaker.onAbandoned();
+            return;
+        }
+        if (!isTransient(e)) {
+            // The API answered, so it is up even if it refused the call
+            this.circuitBreaker.onSuccess();
+            future.completeExceptionally(onFailure.apply(e));
+            return;
+        }
+
+        this.circuitBreaker.onFailure();
+        final long retryAfterMillis = e instanceof TranslationTransientException ? ((TranslationTransientException) e).getRetryAfterMillis() : 0;
+        final long delayMillis = RETRY_POLICY.delayMillis(attempt, retryAfterMillis);
+        if (delayMillis < 0 || this.circuitBreaker.isOpen()) {
+            future.completeExceptionally(onFailure.apply(e));
+            return;
+        }
+        log.debug("Call failed on attempt " + attempt + ", trying again in " + delayMillis + "ms: " + e.getMessage());
+        final ScheduledFuture<?> retry = this.scheduler.schedule(
+                () -> this.attempt(request, handler, onFailure, future, attempt + 1), delayMillis, TimeUnit.MILLISECONDS);
+        future.whenComplete((result, ex) -> {
+            if (future.isCancelled()) {
+                retry.cancel(false);
+            }
+        });
+    }
+
+    /**
+     * Helper method to send a translation request once the quota allows it. The request is built once it may be sent.
+     *
+     * @param characters - the amount of characters the request translates
+     * @param request    - builds the request to send
+     * @param handler    - parses the response into a result
+     * @param onFailure  - wraps a network or parse failure into the exception the future completes with
+     * @param <T>        - the type of result
+     * @return a future of the parsed result, which completes exceptionally with a {@link TranslationQuotaException} if the
+     * quota refuses the request, or a {@link TranslationUnavailableException} while the API is down. Cancelling the future gives up its place in the quota's queue, or cancels the call.
+     */
+    private <T> CompletableFuture<T> enqueueWithinQuota(int characters, Supplier<Request> request, ResponseHandler<T> handler, Function<Exception, TranslationException> onFailure) {
+        // Fail fast during an outage, without spending quota
+        if (this.circuitBreaker.isOpen()) {
+            this.metrics.onRefused();
+            return failedFuture(new TranslationUnavailableException("The translation service is unavailable. Try again shortly."));
+        }
+        final CompletableFuture<Void> permit = this.quota.acquire(characters);
+        if (permit.isDone() && !permit.isCompletedExceptionally()) {
+            this.metrics.onCharactersSent(characters);
+            return this.enqueue(request.get(), handler, onFailure, this.metrics.translateLatency);
+        }
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        permit.whenComplete((v, e) -> {
+            if (e != null) {
+                if (!permit.isCancelled()) {
+                    this.metrics.onRefused();
+                }
+                future.completeExceptionally(e);
+                return;
+            }
+            this.metrics.onCharactersSent(characters);
+            final CompletableFuture<T> call = this.enqueue(request.get(), handler, onFailure, this.metrics.translateLatency);
+            call.whenComplete((result, ex) -> {
+                if (ex != null) {
+                    future.completeExceptionally(ex);
+                } else {
+                    future.complete(result);
+                }
+            });
+            future.whenComplete((result, ex) -> {
+                if (future.isCancelled()) {
+                    call.cancel(false);
+                }
+            });
+        });
+        future.whenComplete((result, e) -> {
+            if (future.isCancelled()) {
+                permit.cancel(false);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Helper method to block on a future from this translator.
+     *
+     * @param future - the future
+     * @param <T>    - the type of result
+     * @return the result of the future
+     * @throws TranslationException if the future failed
+     */
+    private static <T> T await(CompletableFuture<T> future) throws TranslationException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TranslationException) {
+                throw (TranslationException) e.getCause();
+            }
+            throw new TranslationAPIException("API call failed. Try again or re-authenticate.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslationAPIException("Translation was interrupted", e);
+        }
+    }
+
+    /**
+     * Helper method to create a future which has already failed.
+     */
+    private static <T> CompletableFuture<T> failedFuture(Throwable e) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
+    /**
+     * Texts in the same source language waiting to be sent in a batch request.
+     */
+    private static final class PendingBatch {
+
+        final List<TranslationKey> keys = new ArrayList<>();
+        final List<String> texts = new ArrayList<>();
+        final List<Boolean> protectedTexts = new ArrayList<>();
+        final List<CompletableFuture<TranslateTextResponseList>> futures = new ArrayList<>();
+
+        /**
+         * Add a text to the batch.
+         *
+         * @param key         - the translation request of the text
+         * @param text        - the text sent, which may have protected phrases
+         * @param isProtected - whether the text has protected phrases
+         * @return a future completed with the translation of the text
+         */
+        CompletableFuture<TranslateTextResponseList> add(TranslationKey key, String text, boolean isProtected) {
+            final CompletableFuture<TranslateTextResponseList> future = new CompletableFuture<>();
+            this.keys.add(key);
+            this.texts.add(text);
+            this.protectedTexts.add(isProtected);
+            this.futures.add(future);
+            return future;
         }
     }
 
+    /**
+     * Parses an HTTP response into a result.
+     *
+     * @param <T> - the type of result
+     */
+    @FunctionalInterface
+    private interface ResponseHandler<T> {
+        T handle(Response response) throws Exception;
+    }
+
     /**
      * Returns a list of supported languages by the Google Translate API.
      *
      * @return a list of supported translation languages
-     * @throws GoogleException on call failure
+     * @throws TranslationException on call failure
      */
-    public GetSupportedLanguagesResponseList getSupportedLanguages() throws GoogleException {
+    public GetSupportedLanguagesResponseList getSupportedLanguages() throws TranslationException {
         if (authenticated) {
-            return this.supportedLanguages;
+            return this.languageRegistry.getLanguages();
         } else { ;
-            throw new GoogleAuthenticationException("You are not authenticated for Chat Translation.");
+            throw new TranslationAuthenticationException("You are not authenticated for Chat Translation.");
         }
     }
 }
@@ -1,9 +1,12 @@
 package com.chattranslator;
 
+import com.chattranslator.backend.TranslationBackendType;
 import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigGroup;
 import net.runelite.client.config.ConfigItem;
 import net.runelite.client.config.ConfigSection;
+import net.runelite.client.config.Range;
+import net.runelite.client.config.Units;
 
 import java.awt.Color;
 
@@ -40,6 +43,43 @@ public interface ChatTranslatorConfig extends Config {
             description = "An API Key for Google Cloud Platform used to authenticate to the Google Translate API."
     )
     void apiKey(String str);
+    /**
+     * An API key for the LibreTranslate server which authenticated with it. This is separate from the Google Cloud
+     * Platform API key, so neither is ever sent to the other service.
+     *
+     * @return a LibreTranslate API key, which is empty for servers without API keys
+     */
+    @ConfigItem(
+            keyName = "libreTranslateApiKey",
+            name = "LibreTranslate API Key",
+            description = "An API Key for the LibreTranslate server, which is empty if the server does not require one.",
+            secret = true,
+            hidden = true
+    )
+    default String libreTranslateApiKey() {
+        return null;
+    }
+    @ConfigItem(
+            keyName = "libreTranslateApiKey",
+            name = "LibreTranslate API Key",
+            description = "An API Key for the LibreTranslate server, which is empty if the server does not require one."
+    )
+    void libreTranslateApiKey(String str);
+    @ConfigItem(
+            keyName = "libreTranslateApiKeyServer",
+            name = "LibreTranslate API Key Server",
+            description = "The address of the LibreTranslate server the LibreTranslate API key authenticated with",
+            hidden = true
+    )
+    default String libreTranslateApiKeyServer() {
+        return null;
+    }
+    @ConfigItem(
+            keyName = "libreTranslateApiKeyServer",
+            name = "LibreTranslate API Key Server",
+            description = "The address of the LibreTranslate server the LibreTranslate API key authenticated with"
+    )
+    void libreTranslateApiKeyServer(String url);
     @ConfigItem(
             keyName = "targetLangCode",
             name = "Target Language Code",
@@ -103,6 +143,36 @@ public interface ChatTranslatorConfig extends Config {
             description = "The language transcribed to"
     )
     void lastSourceLanguageName(String languageName);
+    @ConfigItem(
+            keyName = "quotaDay",
+            name = "Quota Day",
+            description = "The day characters sent to the translation API were last counted, e.g. '2021-01-31'",
+            hidden = true
+    )
+    default String quotaDay() {
+        return null;
+    }
+    @ConfigItem(
+            keyName = "quotaDay",
+            name = "Quota Day",
+            description = "The day characters sent to the translation API were last counted, e.g. '2021-01-31'"
+    )
+    void quotaDay(String day);
+    @ConfigItem(
+            keyName = "quotaDayCharacters",
+            name = "Quota Day Characters",
+            description = "The amount of characters sent to the translation API on the quota day",
+            hidden = true
+    )
+    default int quotaDayCharacters() {
+        return 0;
+    }
+    @ConfigItem(
+            keyName = "quotaDayCharacters",
+            name = "Quota Day Characters",
+            description = "The amount of characters sent to the translation API on the quota day"
+    )
+    void quotaDayCharacters(int characters);
 
 
     /*
@@ -135,6 +205,114 @@ public interface ChatTranslatorConfig extends Config {
     default boolean isReverseTranslationEnabled() {
         return false;
     }
+    @ConfigItem(
+            keyName = "localLanguageDetection",
+            name = "Detect languages locally",
+            description = "Detects the language of chat lines before translating, and skips lines already in the language translated to",
+            section = "translateSection"
+    )
+    default boolean isLocalLanguageDetectionEnabled() {
+        return true;
+    }
+    @ConfigItem(
+            keyName = "glossary",
+            name = "OSRS glossary",
+            description = "Translates common OSRS slang and phrases like 'gz' and 'ty' locally, and keeps them from being mangled in longer messages",
+            section = "translateSection"
+    )
+    default boolean isGlossaryEnabled() {
+        return true;
+    }
+    @ConfigItem(
+            keyName = "prefetchTranslate",
+            name = "Translate on right click",
+            description = "Starts translating a chat line when you right click it, so the translation is ready sooner. Translations you don't pick are cancelled, but may still be billed and count against your quota",
+            section = "translateSection"
+    )
+    default boolean isPrefetchingTranslations() {
+        return false;
+    }
+    @ConfigItem(
+            keyName = "autoTranslate",
+            name = "Automatic translation",
+            description = "Translates incoming chat messages to your source language as they arrive",
+            section = "translateSection"
+    )
+    default boolean isAutoTranslateEnabled() {
+        return false;
+    }
+    @ConfigItem(
+            keyName = "autoTranslatePublic",
+            name = "Automatically translate public chat",
+            description = "Whether public chat messages are translated automatically",
+            section = "translateSection"
+    )
+    default boolean isAutoTranslatingPublicChat() {
+        return true;
+    }
+    @ConfigItem(
+            keyName = "autoTranslatePrivate",
+            name = "Automatically translate private chat",
+            description = "Whether private messages are translated automatically",
+            section = "translateSection"
+    )
+    default boolean isAutoTranslatingPrivateChat() {
+        return true;
+    }
+    @ConfigItem(
+            keyName = "autoTranslateFriendsChat",
+            name = "Automatically translate friends chat",
+            description = "Whether friends chat messages are translated automatically",
+            section = "translateSection"
+    )
+    default boolean isAutoTranslatingFriendsChat() {
+        return true;
+    }
+    @ConfigItem(
+            keyName = "autoTranslateClanChat",
+            name = "Automatically translate clan chat",
+            description = "Whether clan chat messages are translated automatically",
+            section = "translateSection"
+    )
+    default boolean isAutoTranslatingClanChat() {
+        return true;
+    }
+    @ConfigItem(
+            keyName = "autoTranslateWindow",
+            name = "Automatic translation delay",
+            description = "How long to wait for more messages so they can be translated together in one request",
+            section = "translateSection"
+    )
+    @Units(Units.MILLISECONDS)
+    @Range(
+            max = 5000
+    )
+    default int autoTranslateWindowMillis() {
+        return 250;
+    }
+    @ConfigItem(
+            keyName = "speculativeTranslate",
+            name = "Translate while typing",
+            description = "Translates your chat input in the background when you pause typing, so translating it from the menu is instant. This sends more text to the translation service",
+            section = "translateSection"
+    )
+    default boolean isSpeculativeTranslationEnabled() {
+        return false;
+    }
+    @ConfigItem(
+            keyName = "speculativeTranslateDelay",
+            name = "Typing pause",
+            description = "How long typing must pause before your chat input is translated in the background",
+            section = "translateSection"
+    )
+    @Units(Units.MILLISECONDS)
+    @Range(
+            min = 100,
+            max = 5000
+    )
+    default int speculativeTranslationDelayMillis() {
+        return 600;
+    }
 
     // DISPLAY OPTIONS
     @ConfigSection(
@@ -191,4 +369,214 @@ public interface ChatTranslatorConfig extends Config {
     default Color targetLangColor() {
         return new Color(0xCE, 0x68, 0xFF);
     }
+
+    // CACHE OPTIONS
+    @ConfigSection(
+            position = 3,
+            name = "Cache",
+            description = "Determines how translations are remembered to avoid repeated API calls"
+    )
+    String cacheSection = "cacheSection";
+
+    @ConfigItem(
+            keyName = "cacheSize",
+            name = "Cached translations",
+            description = "The maximum amount of translations remembered in memory. Set to 0 to disable the cache.",
+            section = "cacheSection",
+            position = 1
+    )
+    @Range(
+            max = 100000
+    )
+    default int cacheSize() {
+        return 1000;
+    }
+
+    @ConfigItem(
+            keyName = "cacheTtl",
+            name = "Cache expiry",
+            description = "How long a remembered translation is reused before it is translated again. Set to 0 to never expire.",
+            section = "cacheSection",
+            position = 2
+    )
+    @Units(Units.MINUTES)
+    default int cacheTtlMinutes() {
+        return 0;
+    }
+
+    @ConfigItem(
+            keyName = "cacheDiskEnabled",
+            name = "Remember between sessions",
+            description = "Save translations to disk so they can be reused after the client restarts",
+            section = "cacheSection",
+            position = 3
+    )
+    default boolean isDiskCacheEnabled() {
+        return true;
+    }
+
+    @ConfigItem(
+            keyName = "cacheDiskSize",
+            name = "Saved translations",
+            description = "The maximum amount of translations saved to disk",
+            section = "cacheSection",
+            position = 4
+    )
+    @Range(
+            max = 100000
+    )
+    default int diskCacheSize() {
+        return 5000;
+    }
+
+    // NETWORK OPTIONS
+    @ConfigSection(
+            position = 4,
+            name = "Network",
+            description = "Determines how the plugin connects to the translation API",
+            closedByDefault = true
+    )
+    String networkSection = "networkSection";
+
+    @ConfigItem(
+            keyName = "networkBackend",
+            name = "Translation service",
+            description = "The service translations are requested from. LibreTranslate servers may be self-hosted, e.g. on your local network.",
+            section = "networkSection",
+            position = 1
+    )
+    default TranslationBackendType backend() {
+        return TranslationBackendType.GOOGLE;
+    }
+
+    @ConfigItem(
+            keyName = "networkLibreTranslateUrl",
+            name = "LibreTranslate URL",
+            description = "The address of the LibreTranslate server, if it is the translation service",
+            section = "networkSection",
+            position = 2
+    )
+    default String libreTranslateUrl() {
+        return "http://localhost:5000/";
+    }
+
+    @ConfigItem(
+            keyName = "networkConnectTimeout",
+            name = "Connect timeout",
+            description = "How long to wait for a connection to the translation API",
+            section = "networkSection",
+            position = 3
+    )
+    @Units(Units.SECONDS)
+    @Range(
+            min = 1,
+            max = 60
+    )
+    default int connectTimeoutSeconds() {
+        return 10;
+    }
+
+    @ConfigItem(
+            keyName = "networkReadTimeout",
+            name = "Read timeout",
+            description = "How long to wait for the translation API to respond once connected",
+            section = "networkSection",
+            position = 4
+    )
+    @Units(Units.SECONDS)
+    @Range(
+            min = 1,
+            max = 60
+    )
+    default int readTimeoutSeconds() {
+        return 10;
+    }
+
+    @ConfigItem(
+            keyName = "networkCallTimeout",
+            name = "Request timeout",
+            description = "The longest a translation request may take in total before it is abandoned",
+            section = "networkSection",
+            position = 5
+    )
+    @Units(Units.SECONDS)
+    @Range(
+            min = 1,
+            max = 120
+    )
+    default int callTimeoutSeconds() {
+        return 20;
+    }
+
+    @ConfigItem(
+            keyName = "networkMaxIdleConnections",
+            name = "Idle connections",
+            description = "How many connections to the translation API are kept open for reuse",
+            section = "networkSection",
+            position = 6
+    )
+    @Range(
+            max = 10
+    )
+    default int maxIdleConnections() {
+        return 2;
+    }
+
+    @ConfigItem(
+            keyName = "networkKeepAlive",
+            name = "Keep alive",
+            description = "How long an idle connection to the translation API is kept open for reuse",
+            section = "networkSection",
+            position = 7
+    )
+    @Units(Units.SECONDS)
+    @Range(
+            min = 1,
+            max = 3600
+    )
+    default int keepAliveSeconds() {
+        return 300;
+    }
+
+    @ConfigItem(
+            keyName = "networkRequestsPerSecond",
+            name = "Requests per second",
+            description = "The most translation requests sent per second. Further requests wait their turn. Set to 0 for no limit.",
+            section = "networkSection",
+            position = 8
+    )
+    @Range(
+            max = 100
+    )
+    default int requestsPerSecond() {
+        return 5;
+    }
+
+    @ConfigItem(
+            keyName = "networkCharactersPerMinute",
+            name = "Characters per minute",
+            description = "The most characters sent for translation per minute. Further requests wait their turn. Set to 0 for no limit.",
+            section = "networkSection",
+            position = 9
+    )
+    @Range(
+            max = 1000000
+    )
+    default int charactersPerMinute() {
+        return 10000;
+    }
+
+    @ConfigItem(
+            keyName = "networkDailyCharacterBudget",
+            name = "Daily character budget",
+            description = "The most characters sent for translation per day, after which only previously translated lines are shown. Set to 0 for no limit.",
+            section = "networkSection",
+            position = 10
+    )
+    @Range(
+            max = 100000000
+    )
+    default int dailyCharacterBudget() {
+        return 100000;
+    }
 }
@@ -0,0 +1,260 @@
+package com.chattranslator;
+
+import com.chattranslator.lang.LanguageRegistry;
+
+import javax.annotation.Nullable;
+import java.awt.Color;
+
+/**
+ * An immutable copy of the {@link ChatTranslatorConfig} options read while translating and formatting messages.
+ * <p>
+ * Every call to the config goes through the {@link net.runelite.client.config.ConfigManager}, so hot paths read a
+ * snapshot instead, which is only taken again when the config changes. A snapshot also gives a consistent view of the
+ * options for a whole message, even if the user changes them halfway through.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public final class ChatTranslatorConfigSnapshot {
+
+    private final boolean standardTranslationEnabled;
+    private final boolean prefetchingTranslations;
+    private final boolean autoTranslateEnabled;
+    private final boolean autoTranslatingPublicChat;
+    private final boolean autoTranslatingPrivateChat;
+    private final boolean autoTranslatingFriendsChat;
+    private final boolean autoTranslatingClanChat;
+    private final int autoTranslateWindowMillis;
+    private final boolean speculativeTranslationEnabled;
+    private final int speculativeTranslationDelayMillis;
+    private final boolean previewingChatInput;
+    private final boolean showingDetectedLanguages;
+    private final boolean translationHighlighted;
+    private final Color sourceLangColor;
+    private final Color targetLangColor;
+    private final String lastSourceLanguageCode;
+    private final String lastSourceLanguageName;
+    private final String lastTargetLanguageCode;
+    private final String lastTargetLanguageName;
+
+    /**
+     * The source language code normalized for comparison.
+     */
+    private final String lastSourceLanguageKey;
+
+    /**
+     * The target language code normalized for comparison.
+     */
+    private final String lastTargetLanguageKey;
+
+    /**
+     * Take a snapshot of the config.
+     *
+     * @param config - the plugin config
+     */
+    private ChatTranslatorConfigSnapshot(ChatTranslatorConfig config) {
+        this.standardTranslationEnabled = config.isStandardTranslationEnabled();
+        this.prefetchingTranslations = config.isPrefetchingTranslations();
+        this.autoTranslateEnabled = config.isAutoTranslateEnabled();
+        this.autoTranslatingPublicChat = config.isAutoTranslatingPublicChat();
+        this.autoTranslatingPrivateChat = config.isAutoTranslatingPrivateChat();
+        this.autoTranslatingFriendsChat = config.isAutoTranslatingFriendsChat();
+        this.autoTranslatingClanChat = config.isAutoTranslatingClanChat();
+        this.autoTranslateWindowMillis = config.autoTranslateWindowMillis();
+        this.speculativeTranslationEnabled = config.isSpeculativeTranslationEnabled();
+        this.speculativeTranslationDelayMillis = config.speculativeTranslationDelayMillis();
+        this.previewingChatInput = config.isPreviewingChatInput();
+        this.showingDetectedLanguages = config.isShowingDetectedLanguages();
+        this.translationHighlighted = config.isTranslationHighlighted();
+        this.sourceLangColor = config.sourceLangColor();
+        this.targetLangColor = config.targetLangColor();
+        this.lastSourceLanguageCode = config.lastSourceLanguageCode();
+        this.lastSourceLanguageName = config.lastSourceLanguageName();
+        this.lastTargetLanguageCode = config.lastTargetLanguageCode();
+        this.lastTargetLanguageName = config.lastTargetLanguageName();
+        this.lastSourceLanguageKey = LanguageRegistry.normalize(this.lastSourceLanguageCode);
+        this.lastTargetLanguageKey = LanguageRegistry.normalize(this.lastTargetLanguageCode);
+    }
+
+    /**
+     * Take a snapshot of the config.
+     *
+     * @param config - the plugin config
+     * @return a snapshot of the current options
+     */
+    public static ChatTranslatorConfigSnapshot of(ChatTranslatorConfig config) {
+        return new ChatTranslatorConfigSnapshot(config);
+    }
+
+    /**
+     * @return whether chat lines can be translated from source to target language with a right click option
+     * @see ChatTranslatorConfig#isStandardTranslationEnabled()
+     */
+    public boolean isStandardTranslationEnabled() {
+        return this.standardTranslationEnabled;
+    }
+
+    /**
+     * @return whether chat lines start translating when the menu opens over them
+     * @see ChatTranslatorConfig#isPrefetchingTranslations()
+     */
+    public boolean isPrefetchingTranslations() {
+        return this.prefetchingTranslations;
+    }
+
+    /**
+     * @return whether incoming chat messages are translated automatically
+     * @see ChatTranslatorConfig#isAutoTranslateEnabled()
+     */
+    public boolean isAutoTranslateEnabled() {
+        return this.autoTranslateEnabled;
+    }
+
+    /**
+     * @return whether public chat messages are translated automatically
+     * @see ChatTranslatorConfig#isAutoTranslatingPublicChat()
+     */
+    public boolean isAutoTranslatingPublicChat() {
+        return this.autoTranslatingPublicChat;
+    }
+
+    /**
+     * @return whether private messages are translated automatically
+     * @see ChatTranslatorConfig#isAutoTranslatingPrivateChat()
+     */
+    public boolean isAutoTranslatingPrivateChat() {
+        return this.autoTranslatingPrivateChat;
+    }
+
+    /**
+     * @return whether friends chat messages are translated automatically
+     * @see ChatTranslatorConfig#isAutoTranslatingFriendsChat()
+     */
+    public boolean isAutoTranslatingFriendsChat() {
+        return this.autoTranslatingFriendsChat;
+    }
+
+    /**
+     * @return whether clan chat messages are translated automatically
+     * @see ChatTranslatorConfig#isAutoTranslatingClanChat()
+     */
+    public boolean isAutoTranslatingClanChat() {
+        return this.autoTranslatingClanChat;
+    }
+
+    /**
+     * @return how long to wait for more messages to translate together, in milliseconds
+     * @see ChatTranslatorConfig#autoTranslateWindowMillis()
+     */
+    public int autoTranslateWindowMillis() {
+        return this.autoTranslateWindowMillis;
+    }
+
+    /**
+     * @return whether the chat input is translated in the background while typing
+     * @see ChatTranslatorConfig#isSpeculativeTranslationEnabled()
+     */
+    public boolean isSpeculativeTranslationEnabled() {
+        return this.speculativeTranslationEnabled;
+    }
+
+    /**
+     * @return how long typing must pause before the chat input is translated, in milliseconds
+     * @see ChatTranslatorConfig#speculativeTranslationDelayMillis()
+     */
+    public int speculativeTranslationDelayMillis() {
+        return this.speculativeTranslationDelayMillis;
+    }
+
+    /**
+     * @return whether translations of unsent input are previewed in the chat input
+     * @see ChatTranslatorConfig#isPreviewingChatInput()
+     */
+    public boolean isPreviewingChatInput() {
+        return this.previewingChatInput;
+    }
+
+    /**
+     * @return whether the source/detected language is shown with translations
+     * @see ChatTranslatorConfig#isShowingDetectedLanguages()
+     */
+    public boolean isShowingDetectedLanguages() {
+        return this.showingDetectedLanguages;
+    }
+
+    /**
+     * @return whether translated lines are highlighted
+     * @see ChatTranslatorConfig#isTranslationHighlighted()
+     */
+    public boolean isTranslationHighlighted() {
+        return this.translationHighlighted;
+    }
+
+    /**
+     * @return the highlight color of the source language
+     * @see ChatTranslatorConfig#sourceLangColor()
+     */
+    public Color sourceLangColor() {
+        return this.sourceLangColor;
+    }
+
+    /**
+     * @return the highlight color of the target language
+     * @see ChatTranslatorConfig#targetLangColor()
+     */
+    public Color targetLangColor() {
+        return this.targetLangColor;
+    }
+
+    /**
+     * @return the source language code, e.g. 'en' (English)
+     * @see ChatTranslatorConfig#lastSourceLanguageCode()
+     */
+    public String lastSourceLanguageCode() {
+        return this.lastSourceLanguageCode;
+    }
+
+    /**
+     * @return the source language name, e.g. 'English'
+     * @see ChatTranslatorConfig#lastSourceLanguageName()
+     */
+    public String lastSourceLanguageName() {
+        return this.lastSourceLanguageName;
+    }
+
+    /**
+     * @return the target language code, e.g. 'da' (Danish)
+     * @see ChatTranslatorConfig#lastTargetLanguageCode()
+     */
+    public String lastTargetLanguageCode() {
+        return this.lastTargetLanguageCode;
+    }
+
+    /**
+     * @return the target language name, e.g. 'Danish'
+     * @see ChatTranslatorConfig#lastTargetLanguageName()
+     */
+    public String lastTargetLanguageName() {
+        return this.lastTargetLanguageName;
+    }
+
+    /**
+     * Return whether a language is the user's source language.
+     *
+     * @param languageCode - the language code, in any case
+     * @return true if the language is the source language, false otherwise
+     */
+    public boolean isSourceLanguage(@Nullable String languageCode) {
+        return languageCode != null && LanguageRegistry.normalize(languageCode).equals(this.lastSourceLanguageKey);
+    }
+
+    /**
+     * Return whether a language is the user's target language.
+     *
+     * @param languageCode - the language code, in any case
+     * @return true if the language is the target language, false otherwise
+     */
+    public boolean isTargetLanguage(@Nullable String languageCode) {
+        return languageCode != null && LanguageRegistry.normalize(languageCode).equals(this.lastTargetLanguageKey);
+    }
+}
@@ -24,9 +24,9 @@ public class ChatTranslatorMenuEntry {
     private static final String IMPLICIT_TRANSLATION_FORMAT = "Translate to %s";
 
     /**
-     * The plugin configuration
+     * A snapshot of the plugin configuration
      */
-    private final ChatTranslatorConfig config;
+    private final ChatTranslatorConfigSnapshot config;
 
     /**
      * The code of the source language used, e.g. en
@@ -54,9 +54,9 @@ public class ChatTranslatorMenuEntry {
     /**
      * Construct a translation menu entry.
      *
-     * @param config - the plugin config
+     * @param config - a snapshot of the plugin config
      */
-    public ChatTranslatorMenuEntry(ChatTranslatorConfig config) {
+    public ChatTranslatorMenuEntry(ChatTranslatorConfigSnapshot config) {
         this.config = config;
         this.sourceLanguageCode = null;
         this.sourceLanguageName = null;
@@ -131,31 +131,35 @@ public class ChatTranslatorMenuEntry {
         if (this.sourceLanguageCode == null) {
             String langName = this.targetLanguageName;
             if (config.isTranslationHighlighted()) {
-                if (this.targetLanguageCode.equalsIgnoreCase(config.lastTargetLanguageCode())) {
-                    langName = ColorUtil.wrapWithColorTag(langName, config.targetLangColor());
-                } else if (this.targetLanguageCode.equalsIgnoreCase(config.lastSourceLanguageCode())) {
-                    langName = ColorUtil.wrapWithColorTag(langName, config.sourceLangColor());
-                }
+                langName = this.highlight(langName, this.targetLanguageCode);
             }
             menuOption = String.format(IMPLICIT_TRANSLATION_FORMAT, langName);
         } else {
             String sLangName = this.sourceLanguageName;
             String tLangName = this.targetLanguageName;
             if (config.isTranslationHighlighted()) {
-                if (this.sourceLanguageCode.equalsIgnoreCase(config.lastTargetLanguageCode())) {
-                    sLangName = ColorUtil.wrapWithColorTag(sLangName, config.targetLangColor());
-                } else if (this.sourceLanguageCode.equalsIgnoreCase(config.lastSourceLanguageCode())) {
-                    sLangName = ColorUtil.wrapWithColorTag(sLangName, config.sourceLangColor());
-                }
-                if (this.targetLanguageCode.equalsIgnoreCase(config.lastTargetLanguageCode())) {
-                    tLangName = ColorUtil.wrapWithColorTag(tLangName, config.targetLangColor());
-                } else if (this.targetLanguageCode.equalsIgnoreCase(config.lastSourceLanguageCode())) {
-                    tLangName = ColorUtil.wrapWithColorTag(tLangName, config.sourceLangColor());
-                }
+                sLangName = this.highlight(sLangName, this.sourceLanguageCode);
+                tLangName = this.highlight(tLangName, this.targetLanguageCode);
             }
             menuOption = String.format(EXPLICIT_TRANSLATION_FORMAT, sLangName, tLangName);
         }
         return menuOption;
     }
 
+    /**
+     * Helper method to highlight a language name in the color of the user's source or target language.
+     *
+     * @param languageName - the language name
+     * @param languageCode - the language code
+     * @return the highlighted language name, or the language name if it is neither the source nor target language
+     */
+    private String highlight(String languageName, String languageCode) {
+        if (config.isTargetLanguage(languageCode)) {
+            return ColorUtil.wrapWithColorTag(languageName, config.targetLangColor());
+        } else if (config.isSourceLanguage(languageCode)) {
+            return ColorUtil.wrapWithColorTag(languageName, config.sourceLangColor());
+        }
+        return languageName;
+    }
+
 }
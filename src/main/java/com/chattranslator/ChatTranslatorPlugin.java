@@ -2,13 +2,16 @@ package com.chattranslator;
 
 import com.chattranslator.data.TranslateTextResponseList;
 import com.chattranslator.data.TranslateTextResponseTranslation;
-import com.chattranslator.ex.GoogleAPIException;
-import com.chattranslator.ex.GoogleException;
+import com.chattranslator.ex.TranslationAPIException;
+import com.chattranslator.ex.TranslationException;
+import com.chattranslator.jfr.MenuTranslationTrace;
+import com.chattranslator.metrics.TranslationMetrics;
 import com.chattranslator.ui.ChatTranslatorPanel;
 import com.google.inject.Provides;
 
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import javax.swing.SwingUtilities;
 
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.*;
@@ -27,15 +30,19 @@ import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.ImageUtil;
-import net.runelite.client.util.Text;
 import org.apache.commons.lang3.ArrayUtils;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,20 +60,85 @@ import java.util.stream.Stream;
 )
 public class ChatTranslatorPlugin extends Plugin {
 
+    /**
+     * The color of the text in the chat input when there is no translation preview.
+     */
+    private static final Color DEFAULT_INPUT_COLOR = new Color(0x90, 0x90, 0xff);
+
+    /**
+     * The asterisk at the end of the chat input.
+     */
+    private static final String CHAT_INPUT_CURSOR = ColorUtil.wrapWithColorTag("*", DEFAULT_INPUT_COLOR);
+
+    /**
+     * The amount of recent chat messages indexed for translation.
+     */
+    private static final int CHAT_LINE_INDEX_SIZE = 512;
+
+    /**
+     * The maximum amount of menu translations outstanding at once. Clicks beyond this are ignored.
+     */
+    private static final int MAX_PENDING_TRANSLATIONS = 8;
+
+    /**
+     * The pipeline which translates incoming chat messages automatically.
+     */
+    private AutoTranslationPipeline autoTranslationPipeline;
+
+    /**
+     * Translates the chat input in the background while the user types.
+     */
+    private SpeculativeTranslator speculativeTranslator;
+
+    /**
+     * Reused to find the widgets of the hovered chat line, which are only read on the client thread.
+     */
+    private final List<Widget> hoveredChatLineWidgets = new ArrayList<>(2);
+
+    /**
+     * Reused to join the text of the hovered chat line, which is only read on the client thread.
+     */
+    private final StringBuilder hoveredChatLineBuilder = new StringBuilder();
+
+    /**
+     * Recent chat messages, parsed as they arrive on the client thread.
+     */
+    private final ChatLineIndex chatLineIndex = new ChatLineIndex(CHAT_LINE_INDEX_SIZE);
+
+    /**
+     * A snapshot of the config read while translating and formatting messages, taken again whenever the config changes.
+     */
+    private volatile ChatTranslatorConfigSnapshot configSnapshot;
+
+    /**
+     * Whether the plugin is currently sending a translation to the chat box. This is used to ignore our own messages.
+     */
+    private boolean sendingTranslation = false;
+
     /**
      * The navigation button on the toolbar which brings up the Chat Translator panel.
      */
     private NavigationButton navButton;
 
+    /**
+     * The translation of the menu entry's chat line started when the menu opened, or null if there is none.
+     */
+    private CompletableFuture<TranslateTextResponseList> prefetch = null;
+
+    /**
+     * The menu translations which have not completed yet, so they can be cancelled on shutdown.
+     */
+    private final Set<CompletableFuture<TranslateTextResponseList>> pendingTranslations = ConcurrentHashMap.newKeySet();
+
     /**
      * A menu entry buffer decorated to store translation data.
      */
     private ChatTranslatorMenuEntry menuEntry = null;
 
     /**
-     * A buffer used to preview an interactive translation in the chat input.
+     * A renderer used to preview an interactive translation in the chat input.
      */
-    private String previewTranslation = null;
+    private ChatInputPreviewRenderer previewRenderer = null;
     private String lastPreviewText = null;
 
     /**
@@ -93,6 +165,18 @@ public class ChatTranslatorPlugin extends Plugin {
     @Inject
     private ChatTranslator translator;
 
+    /**
+     * The metrics of the translator.
+     */
+    @Inject
+    private TranslationMetrics metrics;
+
+    /**
+     * The runelite scheduled executor.
+     */
+    @Inject
+    private ScheduledExecutorService scheduledExecutor;
+
     /**
      * The runelite side toolbar.
      */
@@ -112,24 +196,18 @@ public class ChatTranslatorPlugin extends Plugin {
 
     @Override
     protected void startUp() throws Exception {
-        //If we have credentials, attempt to authenticate now.
-        if (this.config.apiKey() != null) {
-            try {
-                this.translator.authenticateFromConfig();
-            } catch (GoogleException e) {
-                log.warn("Authentication from config failed", e);
-                this.translator.unauthenticate(); // Clear auth if auth fails.
-            }
-        }
+        this.configSnapshot = ChatTranslatorConfigSnapshot.of(this.config);
+        this.translator.applyConfig();
+        this.metrics.registerMBean();
+        this.autoTranslationPipeline = new AutoTranslationPipeline(this.translator, this.scheduledExecutor, this::onAutoTranslated);
+        this.speculativeTranslator = new SpeculativeTranslator(this.translator, this.scheduledExecutor);
 
         // Initialize the panel
         this.panel = injector.getInstance(ChatTranslatorPanel.class);
-        if (this.translator.isAuthenticated()) {
-            this.panel.bodyPanel.langPanel.enableOptions(this.translator.getSupportedLanguages());
-            this.loadLastSettings();
-        } else {
-            this.panel.bodyPanel.langPanel.disableOptions();
-        }
+        this.panel.bodyPanel.langPanel.disableOptions();
+
+        // If we have credentials, authenticate in the background so startup never waits on the network
+        this.authenticateFromConfig();
 
         // Add the panel nav button to the client toolbar
         final BufferedImage icon = ImageUtil.getResourceStreamFromClass(getClass(), "/panel_icon.png");
@@ -145,10 +223,56 @@ public class ChatTranslatorPlugin extends Plugin {
 
     @Override
     protected void shutDown() {
+        // Cancel pending and running translations
+        this.autoTranslationPipeline.clear();
+        this.speculativeTranslator.cancel();
+        this.clientThread.invokeLater(this::cancelPrefetch);
+        this.clientThread.invokeLater(this.chatLineIndex::clear);
+        this.pendingTranslations.forEach(translation -> translation.cancel(false));
+        this.translator.shutDown();
+        this.metrics.unregisterMBean();
+
         // Remove the nav button from the toolbar
         this.clientToolbar.removeNavigation(this.navButton);
     }
 
+    /**
+     * Helper method to authenticate saved credentials in the background, if there are any, and show the result in the
+     * panel.
+     */
+    private void authenticateFromConfig() {
+        if (!this.translator.hasSavedCredentials()) {
+            return;
+        }
+        CompletableFuture<Void> authentication = this.translator.authenticateFromConfigAsync();
+        if (!authentication.isDone()) {
+            SwingUtilities.invokeLater(this.panel::showConnecting);
+        }
+        authentication.whenComplete((result, e) -> SwingUtilities.invokeLater(() -> onAuthenticatedFromConfig(e)));
+    }
+
+    /**
+     * Helper method to update the panel once authentication from saved credentials completes. This must be called from
+     * the Swing event dispatch thread.
+     *
+     * @param e - the cause of the authentication failure, or null if authentication succeeded
+     */
+    private void onAuthenticatedFromConfig(@Nullable Throwable e) {
+        if (e == null && this.translator.isAuthenticated()) {
+            try {
+                this.panel.showAuthenticated(this.translator.getSupportedLanguages());
+                this.loadLastSettings();
+                return;
+            } catch (TranslationException ex) {
+                e = ex;
+            }
+        }
+
+        // The translator already cleared the API key if the backend rejected it, but kept it to retry when offline
+        log.warn("Authentication from config failed", e);
+        this.panel.showAuthenticationFailed();
+    }
+
     public void loadLastSettings() {
         // Load the last source language and target language into the language panel
         this.panel.bodyPanel.langPanel.setSourceLanguage(this.config.lastSourceLanguageCode());
@@ -157,7 +281,8 @@ public class ChatTranslatorPlugin extends Plugin {
 
     @Subscribe
     public void onMenuOpened(MenuOpened event) throws Exception {
-        if (!this.config.isStandardTranslationEnabled()) return;
+        final ChatTranslatorConfigSnapshot snapshot = this.configSnapshot;
+        if (!snapshot.isStandardTranslationEnabled()) return;
 
         if (isHoveringChatBoxWidget()) {
             // If the user isn't hovering their chat buffer or a message, end here
@@ -167,17 +292,17 @@ public class ChatTranslatorPlugin extends Plugin {
             }
 
             // Inject the translate menu entry
-            this.menuEntry = new ChatTranslatorMenuEntry(config);
+            this.menuEntry = new ChatTranslatorMenuEntry(snapshot);
             ChatLineData chatData = null;
             if (isHoveringChatInputWidget()) {
                 chatData = getLocalPlayerChatLineData();
                 menuEntry.setChatLineData(chatData);
-                menuEntry.setSourceLanguage(this.config.lastSourceLanguageCode(), this.config.lastSourceLanguageName());
-                menuEntry.setTargetLanguage(this.config.lastTargetLanguageCode(), this.config.lastTargetLanguageName());
+                menuEntry.setSourceLanguage(snapshot.lastSourceLanguageCode(), snapshot.lastSourceLanguageName());
+                menuEntry.setTargetLanguage(snapshot.lastTargetLanguageCode(), snapshot.lastTargetLanguageName());
             } else if (isHoveringChatLineWidget()) {
                 chatData = getHoveredChatLineData();
                 menuEntry.setChatLineData(chatData);
-                menuEntry.setTargetLanguage(this.config.lastSourceLanguageCode(), this.config.lastSourceLanguageName());
+                menuEntry.setTargetLanguage(snapshot.lastSourceLanguageCode(), snapshot.lastSourceLanguageName());
             }
             if (chatData == null || chatData.getChatLine().isEmpty()) {
                 return;
@@ -186,11 +311,27 @@ public class ChatTranslatorPlugin extends Plugin {
                 .setType(MenuAction.RUNELITE)
                 .setTarget("")
                 .setOption(menuEntry.getOption());
+
+            // Start translating while the user moves to the menu entry
+            if (snapshot.isPrefetchingTranslations()) {
+                this.cancelPrefetch();
+                this.prefetch = translator.prefetchAsync(chatData.getChatLine(),
+                        menuEntry.getSourceLanguageCode(),
+                        menuEntry.getTargetLanguageCode());
+            }
         } else {
             this.menuEntry = null;
         }
     }
 
+    @Subscribe
+    public void onClientTick(ClientTick clientTick) {
+        // The menu closed without translating, so the prefetch is not needed
+        if (this.prefetch != null && !client.isMenuOpen()) {
+            this.cancelPrefetch();
+        }
+    }
+
     @Subscribe
     public void onMenuOptionClicked(MenuOptionClicked event) throws Exception {
         if (!translator.isAuthenticated()) {
@@ -202,118 +343,280 @@ public class ChatTranslatorPlugin extends Plugin {
         }
 
         if (event.getMenuAction() == MenuAction.RUNELITE && event.getMenuOption().startsWith("Translate")) {
-            new Thread(() -> {
-                try {
-                    log.info("Translating "
-                            + (menuEntry.getSourceLanguageCode() == null ? "auto" : menuEntry.getSourceLanguageCode())
-                            + " to "
-                            + menuEntry.getTargetLanguageCode());
-                    TranslateTextResponseList translationList = translator.translate(
-                            menuEntry.getChatLineData().getChatLine(),
-                            menuEntry.getSourceLanguageCode(),
-                            menuEntry.getTargetLanguageCode());
-                    if (translationList.isEmpty()) {
-                        throw new GoogleAPIException("No translations found");
-                    }
-                    TranslateTextResponseTranslation translationResponse = translationList.getBestTranslation(config.lastTargetLanguageCode());
-                    String translation = translationResponse.translatedText;
-                    String fromLanguage = translationResponse.detectedSourceLanguage.toUpperCase();
-                    String toLanguage = menuEntry.getTargetLanguageCode().toUpperCase();
-                    log.info("Translation Complete."
-                            + "\n\tBefore[" + fromLanguage + "]: '" + menuEntry.getChatLineData().getChatLine() + "'"
-                            + "\n\tAfter[" + toLanguage + "]: '" + translation + "'");
-
-                    clientThread.invokeLater(() -> {
-                        // Copy items for translation formatting
-                        String translationFormatted = translation;
-                        String fromLanguageFormatted = fromLanguage;
-                        String toLanguageFormatted = toLanguage;
-
-                        // Preview the translation in chat input
-                        if (this.config.isPreviewingChatInput() && menuEntry.getChatLineData().isSaidByLocalPlayer()) {
-                            stagePreview(translationFormatted);
-                        }
+            // The menu entry may be replaced before the translation runs
+            final ChatTranslatorMenuEntry menuEntry = this.menuEntry;
+            if (menuEntry == null) return;
+            if (this.pendingTranslations.size() >= MAX_PENDING_TRANSLATIONS) {
+                log.debug("Too many translations pending, ignored: '" + menuEntry.getChatLineData().getChatLine() + "'");
+                clientThread.invokeLater(() -> {
+                    client.addChatMessage(ChatMessageType.GAMEMESSAGE, "",
+                            ColorUtil.wrapWithColorTag("Please wait for your translations to finish.", Color.RED), "");
+                });
+                this.cancelPrefetch();
+                return;
+            }
 
-                        // Highlighting for chat box
-                        if (config.isTranslationHighlighted()) {
-                            // Color from language code
-                            if (fromLanguageFormatted.equalsIgnoreCase(config.lastSourceLanguageCode())) {
-                                fromLanguageFormatted = ColorUtil.wrapWithColorTag(fromLanguageFormatted, config.sourceLangColor());
-                            } else if (fromLanguageFormatted.equalsIgnoreCase(config.lastTargetLanguageCode())) {
-                                fromLanguageFormatted = ColorUtil.wrapWithColorTag(fromLanguageFormatted, config.targetLangColor());
-                            }
-
-                            // Color to language code
-                            if (toLanguageFormatted.equalsIgnoreCase(config.lastSourceLanguageCode())) {
-                                toLanguageFormatted = ColorUtil.wrapWithColorTag(toLanguageFormatted, config.sourceLangColor());
-                                translationFormatted = ColorUtil.wrapWithColorTag(translationFormatted, config.sourceLangColor());
-                            } else if (toLanguageFormatted.equalsIgnoreCase(config.lastTargetLanguageCode())) {
-                                toLanguageFormatted = ColorUtil.wrapWithColorTag(toLanguageFormatted, config.targetLangColor());
-                                translationFormatted = ColorUtil.wrapWithColorTag(translationFormatted, config.targetLangColor());
-                            }
+            final String chatLine = menuEntry.getChatLineData().getChatLine();
+            final MenuTranslationTrace trace = MenuTranslationTrace.begin(chatLine.length(),
+                    menuEntry.getSourceLanguageCode(), menuEntry.getTargetLanguageCode());
+            log.info("Translating "
+                    + (menuEntry.getSourceLanguageCode() == null ? "auto" : menuEntry.getSourceLanguageCode())
+                    + " to "
+                    + menuEntry.getTargetLanguageCode());
+            final CompletableFuture<TranslateTextResponseList> translation = translator.translateAsync(
+                    chatLine,
+                    menuEntry.getSourceLanguageCode(),
+                    menuEntry.getTargetLanguageCode());
+            trace.onRequested();
+            this.pendingTranslations.add(translation);
+            translation.whenComplete((translationList, e) -> this.pendingTranslations.remove(translation));
+            // Formatting is trivial, so it runs on the thread which completed the translation, e.g. the HTTP callback
+            translation.whenComplete((translationList, e) -> trace.onTranslated())
+                    .thenAccept(translationList -> onTranslated(menuEntry, translationList, trace))
+                    .exceptionally(e -> {
+                        final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        trace.end(cause);
+                        // Translations are only cancelled on shutdown, which is not an error to show
+                        if (!(cause instanceof CancellationException)) {
+                            onTranslationError(cause);
                         }
+                        return null;
+                    });
+        }
+        // A translation shares the prefetched call, so it is not cancelled by releasing the prefetch
+        this.cancelPrefetch();
+    }
 
-                        // Send translation message
-                        ChatMessageType messageFilter = getVisibleChatMessageType();
-                        switch (messageFilter) {
-                            case PUBLICCHAT:
-                                sendTranslationToPublicChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, menuEntry);
-                                break;
-                            case FRIENDSCHAT:
-                                sendTranslationToFriendsChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, menuEntry);
-                                break;
-                            case TRADE:
-                                sendTranslationToTradeChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, menuEntry);
-                                break;
-                            case PRIVATECHAT:
-                                if (menuEntry.getChatLineData().isSaidByPlayer()) {
-                                    if (menuEntry.getChatLineData().getRSN().startsWith("To ")) {
-                                        menuEntry.getChatLineData().fixRsnForPMFilter(); // Change "From <rsn>" to "<rsn>" - This is specific to the Private Chat filter.
-                                        sendTranslationToPrivateChatOut(fromLanguageFormatted, toLanguageFormatted, translationFormatted, menuEntry);
-                                        break;
-                                    } else if (menuEntry.getChatLineData().getRSN().startsWith("From ")) {
-                                        menuEntry.getChatLineData().fixRsnForPMFilter(); // Change "From <rsn>" to "<rsn>" - This is specific to the Private Chat filter.
-                                        sendTranslationToPrivateChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, menuEntry);
-                                        break;
-                                    }
-                                }
-                                sendTranslationToPrivateChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, menuEntry);
-                                break;
-                            case GAMEMESSAGE:
-                            default:
-                                sendTranslationToGameChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, menuEntry);
-                                break;
+    /**
+     * Helper method to cancel the translation started when the menu opened. This must be called from the client thread.
+     */
+    private void cancelPrefetch() {
+        if (this.prefetch != null) {
+            this.prefetch.cancel(false);
+            this.prefetch = null;
+        }
+    }
+
+    /**
+     * Helper method to format and send a finished translation to the chat box. This is called from the thread which
+     * completed the translation.
+     *
+     * @param menuEntry       - the menu entry which requested the translation
+     * @param translationList - the translations returned
+     * @param trace           - times the stages of the translation
+     */
+    private void onTranslated(ChatTranslatorMenuEntry menuEntry, TranslateTextResponseList translationList, MenuTranslationTrace trace) {
+        if (translationList.isEmpty()) {
+            final TranslationAPIException e = new TranslationAPIException("No translations found");
+            trace.end(e);
+            onTranslationError(e);
+            return;
+        }
+        final ChatTranslatorConfigSnapshot snapshot = this.configSnapshot;
+        TranslateTextResponseTranslation translationResponse = translationList.getBestTranslation(snapshot.lastTargetLanguageCode());
+        String translation = translationResponse.translatedText;
+        String fromLanguage = translationResponse.detectedSourceLanguage.toUpperCase();
+        String toLanguage = menuEntry.getTargetLanguageCode().toUpperCase();
+        log.info("Translation Complete."
+                + "\n\tBefore[" + fromLanguage + "]: '" + menuEntry.getChatLineData().getChatLine() + "'"
+                + "\n\tAfter[" + toLanguage + "]: '" + translation + "'");
+
+        trace.onClientThreadQueued();
+        clientThread.invokeLater(() -> {
+            trace.onClientThread();
+            // Preview the translation in chat input
+            if (snapshot.isPreviewingChatInput() && menuEntry.getChatLineData().isSaidByLocalPlayer()) {
+                stagePreview(translation);
+            }
+
+            sendTranslation(menuEntry.getChatLineData(), fromLanguage, toLanguage, translation);
+            trace.end(null);
+        });
+    }
+
+    /**
+     * Helper method to format a translation and send it to the chat box, under the chat filter the user is viewing.
+     * This must be called from the client thread.
+     *
+     * @param chatLineData - the chat line which was translated
+     * @param fromLanguage - the upper case language code translated from, e.g. 'EN'
+     * @param toLanguage   - the upper case language code translated to, e.g. 'DA'
+     * @param translation  - the translated text
+     */
+    private void sendTranslation(ChatLineData chatLineData, String fromLanguage, String toLanguage, String translation) {
+        final long startNanos = System.nanoTime();
+        // Copy items for translation formatting
+        String translationFormatted = translation;
+        String fromLanguageFormatted = fromLanguage;
+        String toLanguageFormatted = toLanguage;
+
+        // Highlighting for chat box
+        final ChatTranslatorConfigSnapshot snapshot = this.configSnapshot;
+        if (snapshot.isTranslationHighlighted()) {
+            // Color from language code
+            if (snapshot.isSourceLanguage(fromLanguageFormatted)) {
+                fromLanguageFormatted = ColorUtil.wrapWithColorTag(fromLanguageFormatted, snapshot.sourceLangColor());
+            } else if (snapshot.isTargetLanguage(fromLanguageFormatted)) {
+                fromLanguageFormatted = ColorUtil.wrapWithColorTag(fromLanguageFormatted, snapshot.targetLangColor());
+            }
+
+            // Color to language code
+            if (snapshot.isSourceLanguage(toLanguageFormatted)) {
+                toLanguageFormatted = ColorUtil.wrapWithColorTag(toLanguageFormatted, snapshot.sourceLangColor());
+                translationFormatted = ColorUtil.wrapWithColorTag(translationFormatted, snapshot.sourceLangColor());
+            } else if (snapshot.isTargetLanguage(toLanguageFormatted)) {
+                toLanguageFormatted = ColorUtil.wrapWithColorTag(toLanguageFormatted, snapshot.targetLangColor());
+                translationFormatted = ColorUtil.wrapWithColorTag(translationFormatted, snapshot.targetLangColor());
+            }
+        }
+
+        // Our own messages must not be picked up by automatic translation
+        this.sendingTranslation = true;
+        try {
+            // Send translation message
+            ChatMessageType messageFilter = getVisibleChatMessageType();
+            switch (messageFilter) {
+                case PUBLICCHAT:
+                    sendTranslationToPublicChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, chatLineData);
+                    break;
+                case FRIENDSCHAT:
+                    sendTranslationToFriendsChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, chatLineData);
+                    break;
+                case TRADE:
+                    sendTranslationToTradeChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, chatLineData);
+                    break;
+                case PRIVATECHAT:
+                    if (chatLineData.isSaidByPlayer()) {
+                        if (chatLineData.getRSN().startsWith("To ")) {
+                            chatLineData.fixRsnForPMFilter(); // Change "From <rsn>" to "<rsn>" - This is specific to the Private Chat filter.
+                            sendTranslationToPrivateChatOut(fromLanguageFormatted, toLanguageFormatted, translationFormatted, chatLineData);
+                            break;
+                        } else if (chatLineData.getRSN().startsWith("From ")) {
+                            chatLineData.fixRsnForPMFilter(); // Change "From <rsn>" to "<rsn>" - This is specific to the Private Chat filter.
+                            sendTranslationToPrivateChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, chatLineData);
+                            break;
                         }
-                    });
+                    }
+                    sendTranslationToPrivateChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, chatLineData);
+                    break;
+                case GAMEMESSAGE:
+                default:
+                    sendTranslationToGameChat(fromLanguageFormatted, toLanguageFormatted, translationFormatted, chatLineData);
+                    break;
+            }
+        } finally {
+            this.sendingTranslation = false;
+            this.metrics.formatLatency.record(System.nanoTime() - startNanos);
+        }
+    }
 
-                } catch (Exception e) {
-                    log.error("Translation exception: ", e);
-                    client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "Translation Error: " + e.getMessage(), "");
-                }
-            }).start();
+    /**
+     * Helper method to send an automatic translation of an incoming chat message. This is called from a background thread.
+     *
+     * @param chatLineData - the chat message
+     * @param translation  - the translation of the message
+     */
+    private void onAutoTranslated(ChatLineData chatLineData, TranslateTextResponseTranslation translation) {
+        final ChatTranslatorConfigSnapshot snapshot = this.configSnapshot;
+        final String toLanguage = snapshot.lastSourceLanguageCode();
+        // Skip messages which were already in the language the user reads
+        if (snapshot.isSourceLanguage(translation.detectedSourceLanguage)
+                || translation.translatedText.equalsIgnoreCase(chatLineData.getChatLine())) {
+            return;
         }
+        clientThread.invokeLater(() -> sendTranslation(chatLineData,
+                translation.detectedSourceLanguage.toUpperCase(),
+                toLanguage.toUpperCase(),
+                translation.translatedText));
+    }
+
+    /**
+     * Helper method to report a failed translation to the user.
+     *
+     * @param e - the cause of the failure
+     */
+    private void onTranslationError(Throwable e) {
+        log.error("Translation exception: ", e);
+        clientThread.invokeLater(() -> {
+            client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "Translation Error: " + e.getMessage(), "");
+        });
+    }
+
+    @Subscribe
+    public void onChatMessage(ChatMessage chatMessage) {
+        // Parse every message once as it arrives, so it can be translated from the chat box later
+        Player localPlayer = this.client.getLocalPlayer();
+        ChatLineIndex.Entry entry = this.chatLineIndex.add(chatMessage.getType(),
+                chatMessage.getMessageNode(),
+                localPlayer == null ? null : localPlayer.getName());
+
+        final ChatTranslatorConfigSnapshot snapshot = this.configSnapshot;
+        if (!snapshot.isAutoTranslateEnabled() || this.sendingTranslation || !this.translator.isAuthenticated()) return;
+        if (!isAutoTranslated(snapshot, chatMessage.getType())) return;
+
+        // Skip the local player's own messages
+        if (entry.sentByLocalPlayer || entry.text.isEmpty()) return;
+
+        this.autoTranslationPipeline.submit(entry.toChatLineData(),
+                snapshot.lastSourceLanguageCode(),
+                snapshot.autoTranslateWindowMillis());
     }
 
     @Subscribe
     public void onConfigChanged(ConfigChanged configChanged) throws Exception {
+        if (!configChanged.getGroup().equals("chattranslator")) return;
+        if (configChanged.getKey().startsWith("quotaDay")) return; // Saved by the translator as it sends requests
+        this.configSnapshot = ChatTranslatorConfigSnapshot.of(this.config);
+
+        if (configChanged.getKey().startsWith("cache") || configChanged.getKey().startsWith("network")) {
+            this.translator.applyConfig();
+        }
+        if (configChanged.getKey().equals("networkBackend") || configChanged.getKey().equals("networkLibreTranslateUrl")) {
+            if (!this.translator.isAuthenticated()) {
+                this.authenticateFromConfig(); // The new backend must authenticate before it is used
+            }
+        }
+        if (configChanged.getKey().equals("autoTranslate")) {
+            if (!config.isAutoTranslateEnabled()) {
+                this.autoTranslationPipeline.clear();
+            }
+        }
+        if (configChanged.getKey().startsWith("speculativeTranslate")) {
+            this.speculativeTranslator.cancel();
+        }
         if (configChanged.getKey().equals("previewChatInput")) {
             if (!config.isPreviewingChatInput()) {
                 stopPreview();
             }
         }
+        if (configChanged.getKey().equals("isTranslationHighlighted") || configChanged.getKey().equals("targetLangColor")) {
+            // Re-render any preview in the new color
+            clientThread.invokeLater(() -> {
+                if (this.previewRenderer != null) {
+                    this.previewRenderer = new ChatInputPreviewRenderer(this.previewRenderer.getTranslation(), getChatInputPreviewColor());
+                    writeChatInput(getChatInputPreviewText());
+                }
+            });
+        }
     }
 
     @Subscribe
     public void onVarClientStrChanged(VarClientStrChanged varClientStrChanged) throws Exception {
+        // Translate the input in the background while the user types it
+        if (varClientStrChanged.getIndex() == VarClientStr.CHATBOX_TYPED_TEXT.getIndex() && this.previewRenderer == null) {
+            this.speculate(client.getVar(VarClientStr.CHATBOX_TYPED_TEXT));
+        }
+
         // Return if the user does not want to preview chat
-        if (!config.isPreviewingChatInput()) return;
+        if (!this.configSnapshot.isPreviewingChatInput()) return;
 
         // Return if there is nothing to preview
-        if (this.previewTranslation == null) return;
+        if (this.previewRenderer == null) return;
 
         // Update the preview
         if (varClientStrChanged.getIndex() == VarClientStr.CHATBOX_TYPED_TEXT.getIndex()) {
             String userInput = client.getVar(VarClientStr.CHATBOX_TYPED_TEXT);
+            String previewTranslation = this.previewRenderer.getTranslation();
 
             // Conditions to cancel a preview when typing:
             // 1 : User sends the chatline
@@ -345,11 +648,33 @@ public class ChatTranslatorPlugin extends Plugin {
             }
 
             this.lastPreviewText = userInput;
-            clientThread.invokeLater(() -> writeChatInput(getChatInputPreviewText()));
+            clientThread.invokeLater(() -> {
+                String previewText = getChatInputPreviewText();
+                if (previewText != null) {
+                    writeChatInput(previewText);
+                }
+            });
         }
 
     }
 
+    /**
+     * Helper method to translate the chat input in the background once typing pauses, using the languages the chat
+     * input is translated with from the menu, so that translation is served from the cache.
+     *
+     * @param userInput - the chat input
+     */
+    private void speculate(@Nullable String userInput) {
+        final ChatTranslatorConfigSnapshot snapshot = this.configSnapshot;
+        if (userInput == null || !snapshot.isSpeculativeTranslationEnabled() || !snapshot.isStandardTranslationEnabled()
+                || !this.translator.isAuthenticated() || snapshot.lastTargetLanguageCode() == null) {
+            this.speculativeTranslator.cancel();
+            return;
+        }
+        this.speculativeTranslator.onInputChanged(userInput, snapshot.lastSourceLanguageCode(), snapshot.lastTargetLanguageCode(),
+                snapshot.speculativeTranslationDelayMillis());
+    }
+
     /**
      * @return the panel
      */
@@ -410,41 +735,46 @@ public class ChatTranslatorPlugin extends Plugin {
     ChatLineData getHoveredChatLineData() {
         try {
             Widget chatBox = this.client.getWidget(WidgetInfo.CHATBOX_MESSAGE_LINES);
-            // This magic will get all of the chat lines in the chat box and filter it down to the chat line hovered over
-            // by the mouse and then remove all formatting and join the "username:" widget text to the " message" widget text.
-            String chatLine = Stream.of(chatBox.getChildren())
-                    .filter(widget -> !widget.isHidden())
-                    .filter(widget -> widget.getId() < WidgetInfo.CHATBOX_FIRST_MESSAGE.getId())
-                    .filter(widget -> {
-                        int mouseY = this.client.getMouseCanvasPosition().getY();
-                        return (mouseY >= widget.getBounds().getMinY() && mouseY <= widget.getBounds().getMaxY());
-                    })
-                    .map(Widget::getText)
-                    .map(Text::removeTags)
-                    .collect(Collectors.joining(" "));
-
-            // Regex matcher buffer
-            Matcher matcher;
-
-            // Remove Friends Chat heading, i.e. '[Friends Chat] Nuzzler: Hey' -> 'Nuzzler: Hey'
-            Pattern fcPattern = Pattern.compile("^\\[.+\\] ");
-            matcher = fcPattern.matcher(chatLine);
-            if (matcher.find()) {
-                String fc = matcher.group();
-                chatLine = chatLine.replace(fc, ""); // Remove FC heading
+            if (chatBox == null || chatBox.getChildren() == null) {
+                return null;
+            }
+
+            // Find the chat line widgets hovered over by the mouse, i.e. the "username:" widget and the " message" widget
+            final int mouseY = this.client.getMouseCanvasPosition().getY();
+            final int firstMessageId = WidgetInfo.CHATBOX_FIRST_MESSAGE.getId();
+            final List<Widget> hovered = this.hoveredChatLineWidgets;
+            hovered.clear();
+            for (Widget widget : chatBox.getChildren()) {
+                if (widget == null || widget.isHidden() || widget.getId() >= firstMessageId) {
+                    continue;
+                }
+                Rectangle bounds = widget.getBounds();
+                if (mouseY >= bounds.getMinY() && mouseY <= bounds.getMaxY()) {
+                    hovered.add(widget);
+                }
+            }
+            if (hovered.isEmpty()) {
+                return null;
             }
 
-            // Capture username
-            Pattern rsnPattern = Pattern.compile("^.+: ");
-            String username = null;
-            matcher = rsnPattern.matcher(chatLine);
-            if (matcher.find()) {
-                username = matcher.group();
-                chatLine = chatLine.replace(username, ""); // Remove FC heading
-                username = username.substring(0, username.length() - 2); // Remove the ': ' at the end
+            // The message widget comes last, so look up the message it shows in the messages parsed as they arrived
+            final Widget messageWidget = hovered.get(hovered.size() - 1);
+            final Widget senderWidget = hovered.size() > 1 ? hovered.get(hovered.size() - 2) : null;
+            ChatLineIndex.Entry entry = this.chatLineIndex.find(senderWidget, messageWidget);
+            if (entry != null) {
+                return entry.toChatLineData();
             }
 
-            return new ChatLineData(username, chatLine, false);
+            // Otherwise, e.g. for messages from before the plugin started, join the text of the widgets and parse it
+            final StringBuilder chatLine = this.hoveredChatLineBuilder;
+            chatLine.setLength(0);
+            for (Widget widget : hovered) {
+                if (chatLine.length() > 0) {
+                    chatLine.append(' ');
+                }
+                ChatLineParser.appendWithoutTags(chatLine, widget.getText());
+            }
+            return ChatLineParser.parse(chatLine.toString());
         } catch (Exception e) {
             return null;
         }
@@ -466,6 +796,31 @@ public class ChatTranslatorPlugin extends Plugin {
         }
     }
 
+    /**
+     * Helper method to determine if messages of a type are translated automatically.
+     *
+     * @param snapshot - a snapshot of the plugin config
+     * @param type     - the type of chat message
+     * @return true if the user enabled automatic translation for the type, false otherwise
+     */
+    private boolean isAutoTranslated(ChatTranslatorConfigSnapshot snapshot, ChatMessageType type) {
+        switch (type) {
+            case PUBLICCHAT:
+            case MODCHAT:
+                return snapshot.isAutoTranslatingPublicChat();
+            case PRIVATECHAT:
+            case MODPRIVATECHAT:
+                return snapshot.isAutoTranslatingPrivateChat();
+            case FRIENDSCHAT:
+                return snapshot.isAutoTranslatingFriendsChat();
+            case CLAN_CHAT:
+            case CLAN_GUEST_CHAT:
+                return snapshot.isAutoTranslatingClanChat();
+            default:
+                return false;
+        }
+    }
+
     /**
      * Helper method to return a {@link ChatMessageType} that the player will see, even in their given filter.
      * For example, if the player is currently filtering to 'Trade' chat, we return {@link ChatMessageType#TRADE}.
@@ -526,7 +881,7 @@ public class ChatTranslatorPlugin extends Plugin {
             }
 
             // Stage the preview
-            this.previewTranslation = translation;
+            this.previewRenderer = new ChatInputPreviewRenderer(translation, getChatInputPreviewColor());
             this.lastPreviewText = "";
 
             writeChatInput(getChatInputPreviewText());
@@ -542,13 +897,12 @@ public class ChatTranslatorPlugin extends Plugin {
     private void stopPreview() {
         try {
             // Clear preview
-            this.previewTranslation = null;
+            this.previewRenderer = null;
             this.lastPreviewText = null;
 
             // Return back to the normal state
             String chatInput = client.getVar(VarClientStr.CHATBOX_TYPED_TEXT);
-            final Color defaultTextColor = new Color(0x90, 0x90, 0xff);
-            writeChatInput(ColorUtil.wrapWithColorTag(chatInput, defaultTextColor));
+            writeChatInput(ColorUtil.wrapWithColorTag(chatInput, DEFAULT_INPUT_COLOR));
             log.debug("Stopped translation preview.");
         } catch (Exception e) {
             log.error("Translation could not be cancelled", e);
@@ -573,8 +927,7 @@ public class ChatTranslatorPlugin extends Plugin {
             rawChatInput.append(client.getLocalPlayer().getName());
             rawChatInput.append(": ");
             rawChatInput.append(text);
-            final Color defaultTextColor = new Color(0x90, 0x90, 0xff);
-            rawChatInput.append(ColorUtil.wrapWithColorTag("*", defaultTextColor)); // The asterisk at the end
+            rawChatInput.append(CHAT_INPUT_CURSOR); // The asterisk at the end
 
             chatBuffer.setText(rawChatInput.toString());
         } catch (Exception e) {
@@ -585,56 +938,38 @@ public class ChatTranslatorPlugin extends Plugin {
 
     /**
      * Helper method to return the raw chat data of the current preview.
-     * For example, if the desired preview text is "Hej" (Hello), and the user has inputted "hZ", similar to the following will be returned:
-     * <pre>{@code
-     *     <col=green>h</col><col=red>Z</col><col=grey>j</col>
-     * }</pre>
-     * Where green is the correct color, red is the incorrect color, and grey is a not-typed character color.
      *
-     * @return the raw chat data for a preview of the current translation attempt
+     * @return the raw chat data for a preview of the current translation attempt, or null if there is no preview
+     * @see ChatInputPreviewRenderer
      */
     private @Nullable
     String getChatInputPreviewText() {
         try {
-            String userInput = client.getVar(VarClientStr.CHATBOX_TYPED_TEXT);
-
-            StringBuilder translationPreviewColoring = new StringBuilder();
-            for (int i = 0; i < previewTranslation.length(); i++) {
-                Character correct = previewTranslation.charAt(i);
-
-                if (i < userInput.length()) {
-                    // User typed a character at this index
-                    Character user = userInput.charAt(i);
-                    if (Character.toLowerCase(user) == Character.toLowerCase(correct)) {
-                        // With highlighting
-                        if (this.config.isTranslationHighlighted()) {
-                            translationPreviewColoring.append(ColorUtil.wrapWithColorTag(Character.toString(user), config.targetLangColor()));
-                        } else {
-                            final Color defaultTextColor = new Color(0x90, 0x90, 0xff);
-                            translationPreviewColoring.append(ColorUtil.wrapWithColorTag(Character.toString(user), defaultTextColor));
-                        }
-                    } else {
-                        translationPreviewColoring.append(ColorUtil.wrapWithColorTag(Character.toString(user), Color.RED));
-                    }
-                } else {
-                    // User did not type a character at this index
-                    translationPreviewColoring.append(ColorUtil.wrapWithColorTag(Character.toString(correct), Color.GRAY));
-                }
+            if (this.previewRenderer == null) {
+                return null;
             }
-
-            return translationPreviewColoring.toString();
+            String userInput = client.getVar(VarClientStr.CHATBOX_TYPED_TEXT);
+            return this.previewRenderer.render(userInput);
         } catch (Exception e) {
             return null;
         }
     }
 
+    /**
+     * @return the color of correctly typed characters in a translation preview
+     */
+    private Color getChatInputPreviewColor() {
+        final ChatTranslatorConfigSnapshot snapshot = this.configSnapshot;
+        return snapshot.isTranslationHighlighted() ? snapshot.targetLangColor() : DEFAULT_INPUT_COLOR;
+    }
+
     /**
      * Helper method to send a translation message to public chat. This is done because a user is filtering that chat and we want them to see the translation under the same filter.
      */
-    private void sendTranslationToPublicChat(String fromLanguageCode, String toLanguageCode, String translation, ChatTranslatorMenuEntry menuEntry) {
+    private void sendTranslationToPublicChat(String fromLanguageCode, String toLanguageCode, String translation, ChatLineData chatLineData) {
         client.addChatMessage(ChatMessageType.PUBLICCHAT,
-                "[" + (this.config.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode) + "] "
-                        + (menuEntry.getChatLineData().isSaidByPlayer() ? menuEntry.getChatLineData().getRSN() : "GAME"),
+                "[" + (this.configSnapshot.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode) + "] "
+                        + (chatLineData.isSaidByPlayer() ? chatLineData.getRSN() : "GAME"),
                 "</col>" + translation,
                 "xx");
     }
@@ -642,50 +977,50 @@ public class ChatTranslatorPlugin extends Plugin {
     /**
      * Helper method to send a translation message to private chat. This is done because a user is filtering that chat and we want them to see the translation under the same filter.
      */
-    private void sendTranslationToPrivateChat(String fromLanguageCode, String toLanguageCode, String translation, ChatTranslatorMenuEntry menuEntry) {
+    private void sendTranslationToPrivateChat(String fromLanguageCode, String toLanguageCode, String translation, ChatLineData chatLineData) {
         client.addChatMessage(ChatMessageType.PRIVATECHAT,
-                (menuEntry.getChatLineData().isSaidByPlayer() ? menuEntry.getChatLineData().getRSN() : "GAME"),
-                "</col>[" + (this.config.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode) + "] " + translation,
+                (chatLineData.isSaidByPlayer() ? chatLineData.getRSN() : "GAME"),
+                "</col>[" + (this.configSnapshot.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode) + "] " + translation,
                 "");
     }
 
     /**
      * Helper method to send a translation message to public chat as the user. This is done because a user is filtering that chat and we want them to see the translation under the same filter.
      */
-    private void sendTranslationToPrivateChatOut(String fromLanguageCode, String toLanguageCode, String translation, ChatTranslatorMenuEntry menuEntry) {
+    private void sendTranslationToPrivateChatOut(String fromLanguageCode, String toLanguageCode, String translation, ChatLineData chatLineData) {
         client.addChatMessage(ChatMessageType.PRIVATECHATOUT,
-                (menuEntry.getChatLineData().isSaidByPlayer() ? menuEntry.getChatLineData().getRSN() : "GAME"),
-                "</col>[" + (this.config.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode) + "] " + translation, "");
+                (chatLineData.isSaidByPlayer() ? chatLineData.getRSN() : "GAME"),
+                "</col>[" + (this.configSnapshot.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode) + "] " + translation, "");
     }
 
     /**
      * Helper method to send a translation message to trade chat. This is done because a user is filtering that chat and we want them to see the translation under the same filter.
      */
-    private void sendTranslationToTradeChat(String fromLanguageCode, String toLanguageCode, String translation, ChatTranslatorMenuEntry menuEntry) {
+    private void sendTranslationToTradeChat(String fromLanguageCode, String toLanguageCode, String translation, ChatLineData chatLineData) {
         client.addChatMessage(ChatMessageType.TRADE,
                 "",
-                "[" + (this.config.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode) + "]" + (menuEntry.getChatLineData().isSaidByLocalPlayer() ? " " + menuEntry.getChatLineData().getRSN() + ": " : ": ") + translation,
+                "[" + (this.configSnapshot.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode) + "]" + (chatLineData.isSaidByLocalPlayer() ? " " + chatLineData.getRSN() + ": " : ": ") + translation,
                 "");
     }
 
     /**
      * Helper method to send a translation message to friends chat. This is done because a user is filtering that chat and we want them to see the translation under the same filter.
      */
-    private void sendTranslationToFriendsChat(String fromLanguageCode, String toLanguageCode, String translation, ChatTranslatorMenuEntry menuEntry) {
+    private void sendTranslationToFriendsChat(String fromLanguageCode, String toLanguageCode, String translation, ChatLineData chatLineData) {
         client.addChatMessage(ChatMessageType.FRIENDSCHAT,
-                (menuEntry.getChatLineData().isGameMessage() ? "GAME" : menuEntry.getChatLineData().getRSN()),
+                (chatLineData.isGameMessage() ? "GAME" : chatLineData.getRSN()),
                 "</col>" + translation,
-                "</col>" + (this.config.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode));
+                "</col>" + (this.configSnapshot.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode));
     }
 
     /**
      * Helper method to send a translation message to game chat. This is the default.
      */
-    private void sendTranslationToGameChat(String fromLanguageCode, String toLanguageCode, String translation, ChatTranslatorMenuEntry menuEntry) {
+    private void sendTranslationToGameChat(String fromLanguageCode, String toLanguageCode, String translation, ChatLineData chatLineData) {
         client.addChatMessage(ChatMessageType.GAMEMESSAGE,
                 "",
-                "[" + (this.config.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode) + "] "
-                        + (menuEntry.getChatLineData().isSaidByPlayer() ? menuEntry.getChatLineData().getRSN() + ": " : "")
+                "[" + (this.configSnapshot.isShowingDetectedLanguages() ? fromLanguageCode + "->" + toLanguageCode : toLanguageCode) + "] "
+                        + (chatLineData.isSaidByPlayer() ? chatLineData.getRSN() + ": " : "")
                         + translation,
                 "");
     }
@@ -0,0 +1,129 @@
+package com.chattranslator;
+
+import com.chattranslator.data.TranslateTextResponseList;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translates the chat input in the background once typing pauses, so the translation is usually cached by the time the
+ * user translates their input from the menu. Only the latest input is translated; a request for input which has since
+ * changed is cancelled, which gives up its place in the quota's queue or cancels its call.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+class SpeculativeTranslator {
+
+    /**
+     * The shortest input worth translating.
+     */
+    private static final int MIN_LENGTH = 2;
+
+    /**
+     * The translator.
+     */
+    private final ChatTranslator translator;
+
+    /**
+     * The executor which waits out the pause in typing.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The scheduled translation of the latest input, or null if none is scheduled.
+     */
+    private Future<?> scheduledTranslation = null;
+
+    /**
+     * The translation of the latest input in flight, or null if there is none.
+     */
+    private CompletableFuture<TranslateTextResponseList> translation = null;
+
+    /**
+     * The latest input, or null if it is not translated.
+     */
+    private String input = null;
+
+    /**
+     * Construct the speculative translator.
+     *
+     * @param translator - the translator
+     * @param scheduler  - the executor which waits out the pause in typing
+     */
+    SpeculativeTranslator(ChatTranslator translator, ScheduledExecutorService scheduler) {
+        this.translator = translator;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Translate the chat input once typing pauses, cancelling the translation of the previous input.
+     *
+     * @param input          - the chat input
+     * @param sourceLanguage - the language code to translate from, or null to detect it
+     * @param targetLanguage - the language code to translate to, e.g. 'da' (Danish)
+     * @param delayMillis    - how long typing must pause before the input is translated
+     */
+    synchronized void onInputChanged(@Nonnull String input, @Nullable String sourceLanguage, @Nonnull String targetLanguage, long delayMillis) {
+        if (input.equals(this.input)) {
+            return;
+        }
+        this.cancel();
+        // Commands are never sent to chat
+        if (input.trim().length() < MIN_LENGTH || input.startsWith("::")) {
+            return;
+        }
+
+        this.input = input;
+        this.scheduledTranslation = this.scheduler.schedule(() -> this.translate(input, sourceLanguage, targetLanguage),
+                delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancel the translation of the latest input.
+     */
+    synchronized void cancel() {
+        this.input = null;
+        if (this.scheduledTranslation != null) {
+            this.scheduledTranslation.cancel(false);
+            this.scheduledTranslation = null;
+        }
+        if (this.translation != null) {
+            this.translation.cancel(false);
+            this.translation = null;
+        }
+    }
+
+    /**
+     * Helper method to translate the input, unless it has changed since it was scheduled.
+     */
+    private synchronized void translate(String input, @Nullable String sourceLanguage, String targetLanguage) {
+        if (!input.equals(this.input)) {
+            return;
+        }
+        this.scheduledTranslation = null;
+        if (!this.translator.isAuthenticated()) {
+            return;
+        }
+
+        log.debug("Speculatively translating chat input: '" + input + "'");
+        final CompletableFuture<TranslateTextResponseList> translation = this.translator.translateAsync(input, sourceLanguage, targetLanguage);
+        this.translation = translation;
+        translation.whenComplete((result, e) -> {
+            if (e != null && !translation.isCancelled()) {
+                log.debug("Speculative translation failed: " + e.getMessage());
+            }
+            synchronized (this) {
+                if (this.translation == translation) {
+                    this.translation = null;
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.chattranslator.backend;
+
+import com.chattranslator.ex.TranslationAPIException;
+import com.chattranslator.ex.TranslationAuthenticationException;
+import com.chattranslator.ex.TranslationException;
+import com.chattranslator.ex.TranslationTransientException;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Helpers shared by the {@link TranslationBackend} implementations to handle HTTP responses.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+public final class BackendResponses {
+
+    private BackendResponses() {
+    }
+
+    /**
+     * Check that a response was successful.
+     *
+     * @param response - the response
+     * @throws TranslationTransientException      for rate limiting or a server error, which may succeed if tried again
+     * @throws TranslationAuthenticationException if the API key was refused
+     * @throws TranslationAPIException            for any other unsuccessful response
+     * @throws IOException                        if the body of an unsuccessful response could not be read
+     */
+    public static void checkSuccessful(Response response) throws TranslationException, IOException {
+        if (response.code() == 200) {
+            return;
+        }
+        log.debug("Response:\n" + response.body().string());
+        throw classifyError(response);
+    }
+
+    /**
+     * Helper method to classify an unsuccessful response by whether trying again may help.
+     */
+    private static TranslationException classifyError(Response response) {
+        final int code = response.code();
+        if (code == 429 || code >= 500) {
+            long retryAfterMillis = 0;
+            String retryAfter = response.header("Retry-After");
+            if (retryAfter != null) {
+                try {
+                    retryAfterMillis = TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+                } catch (NumberFormatException e) {
+                    log.debug("Ignored Retry-After '" + retryAfter + "'");
+                }
+            }
+            return new TranslationTransientException("The translation service is temporarily unavailable (code " + code + "). Try again shortly.", retryAfterMillis);
+        }
+        if (code == 401 || code == 403) {
+            return new TranslationAuthenticationException("The translation service refused the API key (code " + code + ")");
+        }
+        return new TranslationAPIException("The translation service returned code " + code);
+    }
+}
@@ -0,0 +1,219 @@
+package com.chattranslator.backend;
+
+import com.chattranslator.data.GetSupportedLanguagesResponseList;
+import com.chattranslator.data.TranslateTextResponseList;
+import com.chattranslator.ex.TranslationAPIException;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The Google Cloud Translation API (v2), authenticated with an API key for Google Cloud Platform.
+ *
+ * @author agent
+ * @version October 2026
+ * @see <a href="https://cloud.google.com/translate/docs/reference/rest/v2/translate">https://cloud.google.com/translate/docs/reference/rest/v2/translate</a>
+ */
+@Slf4j
+public class GoogleTranslationBackend implements TranslationBackend {
+
+    /**
+     * The identifier of this backend.
+     */
+    public static final String ID = "google";
+
+    /**
+     * The base URL of the API.
+     */
+    private static final String API_URL = "https://translation.googleapis.com/language/translate/v2";
+
+    /**
+     * The type of request bodies.
+     */
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    @Override
+    public String getId() {
+        return ID;
+    }
+
+    @Override
+    public Request buildLanguagesRequest(@Nonnull String apiKey) {
+        log.debug("Google Cloud Platform: Sending request for supported languages");
+        return new Request.Builder()
+                .method("GET", null)
+                .url(API_URL + "/languages?target=en&key=" + apiKey)
+                .build();
+    }
+
+    @Override
+    public GetSupportedLanguagesResponseList parseLanguagesResponse(Response response) throws Exception {
+        return readResponseData(response, GetSupportedLanguagesResponseList::fromJSON);
+    }
+
+    @Override
+    public Request buildTranslateRequest(@Nonnull List<String> texts, @Nullable String sourceLanguage, @Nonnull String targetLanguage, @Nonnull String apiKey) {
+        // Build request body
+        JsonObject requestJson = new JsonObject();
+        if (sourceLanguage != null) {
+            requestJson.addProperty("source", sourceLanguage);
+        }
+        requestJson.addProperty("target", targetLanguage);
+        if (texts.size() == 1) {
+            requestJson.addProperty("q", texts.get(0));
+        } else {
+            JsonArray queries = new JsonArray();
+            texts.forEach(queries::add);
+            requestJson.add("q", queries);
+        }
+        log.debug("Request body: " + requestJson.toString());
+
+        // Build request
+        log.debug("Google Cloud Platform: Sending request for translation");
+        return new Request.Builder()
+                .method("POST", RequestBody.create(JSON, requestJson.toString()))
+                .header("Content-Type", "application/json")
+                .url(API_URL + "?key=" + apiKey)
+                .build();
+    }
+
+    @Override
+    public TranslateTextResponseList parseTranslateResponse(Response response, @Nullable String sourceLanguage) throws Exception {
+        return readResponseData(response, reader -> TranslateTextResponseList.fromJSON(reader, sourceLanguage, false));
+    }
+
+    @Override
+    public TranslateTextResponseList parseBatchTranslateResponse(Response response, @Nullable String sourceLanguage, int expected) throws Exception {
+        TranslateTextResponseList translationList = readResponseData(response,
+                reader -> TranslateTextResponseList.fromJSON(reader, sourceLanguage, true));
+        if (translationList.translations.length != expected) {
+            throw new TranslationAPIException("Google returned " + translationList.translations.length + " translations for " + expected + " texts");
+        }
+        return translationList;
+    }
+
+    /**
+     * Texts are translated as HTML, which is the API's default format.
+     */
+    @Override
+    public boolean supportsProtectedSpans() {
+        return true;
+    }
+
+    @Override
+    public Request buildDetectRequest(@Nonnull String text, @Nonnull String apiKey) {
+        JsonObject requestJson = new JsonObject();
+        requestJson.addProperty("q", text);
+
+        log.debug("Google Cloud Platform: Sending request for language detection");
+        return new Request.Builder()
+                .method("POST", RequestBody.create(JSON, requestJson.toString()))
+                .header("Content-Type", "application/json")
+                .url(API_URL + "/detect?key=" + apiKey)
+                .build();
+    }
+
+    @Override
+    public @Nullable
+    String parseDetectResponse(Response response) throws Exception {
+        return readResponseData(response, GoogleTranslationBackend::readDetections);
+    }
+
+    /**
+     * Helper method to read the most likely language of the first text from detections, e.g.
+     * <pre>{"detections": [[{"language": string, "confidence": number}]]}</pre>
+     */
+    private static @Nullable
+    String readDetections(JsonReader reader) throws IOException {
+        String language = null;
+        double bestConfidence = -1;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (!reader.nextName().equals("detections") || reader.peek() != JsonToken.BEGIN_ARRAY) {
+                reader.skipValue();
+                continue;
+            }
+            reader.beginArray();
+            for (int text = 0; reader.hasNext(); text++) {
+                if (text > 0) {
+                    reader.skipValue();
+                    continue;
+                }
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    String detected = null;
+                    double confidence = 0;
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        String name = reader.nextName();
+                        if (reader.peek() == JsonToken.NULL) {
+                            reader.nextNull();
+                        } else if (name.equals("language")) {
+                            detected = reader.nextString();
+                        } else if (name.equals("confidence")) {
+                            confidence = reader.nextDouble();
+                        } else {
+                            reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                    if (detected != null && confidence > bestConfidence) {
+                        language = detected;
+                        bestConfidence = confidence;
+                    }
+                }
+                reader.endArray();
+            }
+            reader.endArray();
+        }
+        reader.endObject();
+        return language;
+    }
+
+    /**
+     * Helper method to read the data of a response. The body is decoded straight from the connection as it is parsed,
+     * rather than being buffered into a string and a JSON tree first.
+     *
+     * @param response   - the response, e.g. <pre>{"data": {object(T)}}</pre>
+     * @param dataReader - parses the data of the response
+     * @param <T>        - the type of data
+     * @return the data of the response
+     * @throws Exception on an unsuccessful response or parse failure
+     */
+    private static <T> T readResponseData(Response response, DataReader<T> dataReader) throws Exception {
+        log.debug("Google Cloud Platform: Received response");
+        BackendResponses.checkSuccessful(response);
+
+        try (JsonReader reader = new JsonReader(response.body().charStream())) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("data")) {
+                    return dataReader.read(reader);
+                }
+                reader.skipValue();
+            }
+        }
+        throw new TranslationAPIException("Google returned no data");
+    }
+
+    /**
+     * Parses the data of a response from a JSON stream.
+     *
+     * @param <T> - the type of data
+     */
+    @FunctionalInterface
+    private interface DataReader<T> {
+        T read(JsonReader reader) throws IOException;
+    }
+}
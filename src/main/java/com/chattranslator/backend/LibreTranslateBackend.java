@@ -0,0 +1,303 @@
+package com.chattranslator.backend;
+
+import com.chattranslator.data.GetSupportedLanguagesResponseLanguage;
+import com.chattranslator.data.GetSupportedLanguagesResponseList;
+import com.chattranslator.data.TranslateTextResponseList;
+import com.chattranslator.data.TranslateTextResponseTranslation;
+import com.chattranslator.ex.TranslationAPIException;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A LibreTranslate compatible server, e.g. one self-hosted on the local network. Servers which don't require an API key
+ * accept an empty one.
+ *
+ * @author agent
+ * @version October 2026
+ * @see <a href="https://libretranslate.com/docs">https://libretranslate.com/docs</a>
+ */
+@Slf4j
+public class LibreTranslateBackend implements TranslationBackend {
+
+    /**
+     * The identifier of this backend.
+     */
+    public static final String ID = "libretranslate";
+
+    /**
+     * The type of request bodies.
+     */
+    private static final MediaType JSON = MediaType.parse("application/json");
+
+    /**
+     * The base URL of the server, e.g. 'http://localhost:5000/'.
+     */
+    private final HttpUrl baseUrl;
+
+    /**
+     * Construct a backend for a LibreTranslate server.
+     *
+     * @param baseUrl - the base URL of the server, e.g. 'http://localhost:5000/'
+     */
+    public LibreTranslateBackend(@Nonnull HttpUrl baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * @return the base URL of the server
+     */
+    public HttpUrl getBaseUrl() {
+        return this.baseUrl;
+    }
+
+    @Override
+    public String getId() {
+        return ID + ":" + this.baseUrl;
+    }
+
+    @Override
+    public Request buildLanguagesRequest(@Nonnull String apiKey) {
+        log.debug("LibreTranslate: Sending request for supported languages");
+        HttpUrl.Builder url = this.baseUrl.newBuilder().addPathSegment("languages");
+        if (!apiKey.isEmpty()) {
+            url.addQueryParameter("api_key", apiKey);
+        }
+        return new Request.Builder()
+                .method("GET", null)
+                .url(url.build())
+                .build();
+    }
+
+    /**
+     * Parse the response of a supported languages request, e.g.
+     * <pre>[{"code": string, "name": string, "targets": [string]}]</pre>
+     */
+    @Override
+    public GetSupportedLanguagesResponseList parseLanguagesResponse(Response response) throws Exception {
+        log.debug("LibreTranslate: Received response");
+        BackendResponses.checkSuccessful(response);
+
+        List<GetSupportedLanguagesResponseLanguage> languages = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(response.body().charStream())) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                String code = null;
+                String name = null;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String field = reader.nextName();
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else if (field.equals("code")) {
+                        code = reader.nextString();
+                    } else if (field.equals("name")) {
+                        name = reader.nextString();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+                if (code != null && name != null) {
+                    languages.add(GetSupportedLanguagesResponseLanguage.of(code, name));
+                }
+            }
+            reader.endArray();
+        }
+        return GetSupportedLanguagesResponseList.of(languages.toArray(new GetSupportedLanguagesResponseLanguage[0]));
+    }
+
+    @Override
+    public Request buildTranslateRequest(@Nonnull List<String> texts, @Nullable String sourceLanguage, @Nonnull String targetLanguage, @Nonnull String apiKey) {
+        JsonObject requestJson = new JsonObject();
+        if (texts.size() == 1) {
+            requestJson.addProperty("q", texts.get(0));
+        } else {
+            JsonArray queries = new JsonArray();
+            texts.forEach(queries::add);
+            requestJson.add("q", queries);
+        }
+        requestJson.addProperty("source", sourceLanguage == null ? "auto" : sourceLanguage);
+        requestJson.addProperty("target", targetLanguage);
+        requestJson.addProperty("format", "text");
+        log.debug("Request body: " + requestJson.toString());
+        addApiKey(requestJson, apiKey);
+
+        log.debug("LibreTranslate: Sending request for translation");
+        return this.buildPost("translate", requestJson);
+    }
+
+    @Override
+    public TranslateTextResponseList parseTranslateResponse(Response response, @Nullable String sourceLanguage) throws Exception {
+        return this.readTranslations(response, sourceLanguage);
+    }
+
+    @Override
+    public TranslateTextResponseList parseBatchTranslateResponse(Response response, @Nullable String sourceLanguage, int expected) throws Exception {
+        TranslateTextResponseList translationList = this.readTranslations(response, sourceLanguage);
+        if (translationList.translations.length != expected) {
+            throw new TranslationAPIException("LibreTranslate returned " + translationList.translations.length + " translations for " + expected + " texts");
+        }
+        return translationList;
+    }
+
+    @Override
+    public Request buildDetectRequest(@Nonnull String text, @Nonnull String apiKey) {
+        JsonObject requestJson = new JsonObject();
+        requestJson.addProperty("q", text);
+        addApiKey(requestJson, apiKey);
+
+        log.debug("LibreTranslate: Sending request for language detection");
+        return this.buildPost("detect", requestJson);
+    }
+
+    /**
+     * Parse the response of a language detection request, e.g.
+     * <pre>[{"language": string, "confidence": number}]</pre>
+     */
+    @Override
+    public @Nullable
+    String parseDetectResponse(Response response) throws Exception {
+        log.debug("LibreTranslate: Received response");
+        BackendResponses.checkSuccessful(response);
+
+        String language = null;
+        double bestConfidence = -1;
+        try (JsonReader reader = new JsonReader(response.body().charStream())) {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                DetectedLanguage detected = readDetectedLanguage(reader);
+                if (detected.language != null && detected.confidence > bestConfidence) {
+                    language = detected.language;
+                    bestConfidence = detected.confidence;
+                }
+            }
+            reader.endArray();
+        }
+        return language;
+    }
+
+    /**
+     * Helper method to build a POST request to an endpoint of the server.
+     */
+    private Request buildPost(String endpoint, JsonObject requestJson) {
+        return new Request.Builder()
+                .method("POST", RequestBody.create(JSON, requestJson.toString()))
+                .header("Content-Type", "application/json")
+                .url(this.baseUrl.newBuilder().addPathSegment(endpoint).build())
+                .build();
+    }
+
+    /**
+     * Helper method to add an API key to a request body, if there is one.
+     */
+    private static void addApiKey(JsonObject requestJson, String apiKey) {
+        if (!apiKey.isEmpty()) {
+            requestJson.addProperty("api_key", apiKey);
+        }
+    }
+
+    /**
+     * Helper method to read the translations of a translation request. A single text is translated as
+     * <pre>{"translatedText": string, "detectedLanguage": {"language": string, "confidence": number}}</pre>
+     * and several texts as
+     * <pre>{"translatedText": [string], "detectedLanguage": [{"language": string, "confidence": number}]}</pre>
+     * where the detected languages are only returned if the source language was detected automatically.
+     */
+    private TranslateTextResponseList readTranslations(Response response, @Nullable String sourceLanguage) throws Exception {
+        log.debug("LibreTranslate: Received response");
+        BackendResponses.checkSuccessful(response);
+
+        final List<String> translatedTexts = new ArrayList<>(1);
+        final List<String> detectedLanguages = new ArrayList<>(1);
+        try (JsonReader reader = new JsonReader(response.body().charStream())) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("translatedText") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        translatedTexts.add(reader.nextString());
+                    }
+                    reader.endArray();
+                } else if (name.equals("translatedText") && reader.peek() == JsonToken.STRING) {
+                    translatedTexts.add(reader.nextString());
+                } else if (name.equals("detectedLanguage") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        detectedLanguages.add(readDetectedLanguage(reader).language);
+                    }
+                    reader.endArray();
+                } else if (name.equals("detectedLanguage") && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                    detectedLanguages.add(readDetectedLanguage(reader).language);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+
+        final TranslateTextResponseTranslation[] translations = new TranslateTextResponseTranslation[translatedTexts.size()];
+        for (int i = 0; i < translations.length; i++) {
+            String detectedSourceLanguage = sourceLanguage;
+            if (detectedSourceLanguage == null) {
+                detectedSourceLanguage = i < detectedLanguages.size() && detectedLanguages.get(i) != null ? detectedLanguages.get(i) : "?";
+            }
+            translations[i] = TranslateTextResponseTranslation.of(detectedSourceLanguage, translatedTexts.get(i));
+        }
+        return TranslateTextResponseList.of(translations);
+    }
+
+    /**
+     * Helper method to read a detected language, e.g.
+     * <pre>{"language": string, "confidence": number}</pre>
+     */
+    private static DetectedLanguage readDetectedLanguage(JsonReader reader) throws IOException {
+        DetectedLanguage detected = new DetectedLanguage();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+            } else if (name.equals("language")) {
+                detected.language = reader.nextString();
+            } else if (name.equals("confidence")) {
+                detected.confidence = reader.nextDouble();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return detected;
+    }
+
+    /**
+     * A language detected by the server.
+     */
+    private static final class DetectedLanguage {
+
+        /**
+         * The detected language's code, or null if the server did not return one.
+         */
+        @Nullable
+        String language = null;
+
+        /**
+         * How confident the server is in the language, from 0 to 100.
+         */
+        double confidence = 0;
+    }
+}
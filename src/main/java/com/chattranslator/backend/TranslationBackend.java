@@ -0,0 +1,106 @@
+package com.chattranslator.backend;
+
+import com.chattranslator.data.GetSupportedLanguagesResponseList;
+import com.chattranslator.data.TranslateTextResponseList;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * A translation service reached over HTTP. A backend only builds requests and parses their responses, so the
+ * {@link com.chattranslator.ChatTranslator} can send every backend's calls through the same cache, quota and retries.
+ * <p>
+ * Parsing an unsuccessful response throws the exception {@link BackendResponses#checkSuccessful(Response)} classifies
+ * it as, so callers can tell failures worth retrying from ones which are not.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public interface TranslationBackend {
+
+    /**
+     * @return an identifier of the backend, which is saved with the languages it supports, e.g. 'google'
+     */
+    String getId();
+
+    /**
+     * Build a request for the supported languages, which is used for authentication.
+     *
+     * @param apiKey - the data used for authentication, which may be empty if the backend does not require it
+     * @return the request
+     */
+    Request buildLanguagesRequest(@Nonnull String apiKey);
+
+    /**
+     * Parse the response of a supported languages request.
+     *
+     * @param response - the response
+     * @return the supported languages
+     * @throws Exception on an unsuccessful response or parse failure
+     */
+    GetSupportedLanguagesResponseList parseLanguagesResponse(Response response) throws Exception;
+
+    /**
+     * Build a request for the translation of one or more texts.
+     *
+     * @param texts          - the texts to translate
+     * @param sourceLanguage - the source language's code, or null to auto-detect
+     * @param targetLanguage - the target language's code
+     * @param apiKey         - the data used for authentication, which may be empty if the backend does not require it
+     * @return the request
+     */
+    Request buildTranslateRequest(@Nonnull List<String> texts, @Nullable String sourceLanguage, @Nonnull String targetLanguage, @Nonnull String apiKey);
+
+    /**
+     * Parse the response of a request to translate a single text.
+     *
+     * @param response       - the response
+     * @param sourceLanguage - the source language's code which was requested, or null if auto-detected
+     * @return the translations
+     * @throws Exception on an unsuccessful response or parse failure
+     */
+    TranslateTextResponseList parseTranslateResponse(Response response, @Nullable String sourceLanguage) throws Exception;
+
+    /**
+     * Parse the response of a request to translate several texts.
+     *
+     * @param response       - the response
+     * @param sourceLanguage - the source language's code which was requested, or null if auto-detected
+     * @param expected       - the amount of texts which were requested
+     * @return one translation per text, in the order the texts were requested
+     * @throws Exception on an unsuccessful response, parse failure or a missing translation
+     */
+    TranslateTextResponseList parseBatchTranslateResponse(Response response, @Nullable String sourceLanguage, int expected) throws Exception;
+
+    /**
+     * Return whether the backend translates texts as HTML, leaving text wrapped in {@code <span translate="no">} as it
+     * is. Such spans protect phrases the translation service would mangle, e.g. game slang.
+     *
+     * @return true if protected spans are left untranslated, false if texts must be sent as plain text
+     */
+    default boolean supportsProtectedSpans() {
+        return false;
+    }
+
+    /**
+     * Build a request to detect the language of a text.
+     *
+     * @param text   - the text
+     * @param apiKey - the data used for authentication, which may be empty if the backend does not require it
+     * @return the request
+     */
+    Request buildDetectRequest(@Nonnull String text, @Nonnull String apiKey);
+
+    /**
+     * Parse the response of a language detection request.
+     *
+     * @param response - the response
+     * @return the most likely language's code, or null if none was detected
+     * @throws Exception on an unsuccessful response or parse failure
+     */
+    @Nullable
+    String parseDetectResponse(Response response) throws Exception;
+}
@@ -0,0 +1,32 @@
+package com.chattranslator.backend;
+
+/**
+ * The translation backends which can be chosen in the config.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public enum TranslationBackendType {
+    /**
+     * The Google Cloud Translation API.
+     */
+    GOOGLE("Google Cloud"),
+    /**
+     * A LibreTranslate compatible server.
+     */
+    LIBRETRANSLATE("LibreTranslate");
+
+    /**
+     * The name shown in the config.
+     */
+    private final String name;
+
+    TranslationBackendType(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
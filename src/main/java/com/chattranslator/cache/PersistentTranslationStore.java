@@ -0,0 +1,270 @@
+package com.chattranslator.cache;
+
+import com.chattranslator.data.TranslateTextResponseList;
+import com.chattranslator.data.TranslateTextResponseTranslation;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A disk-backed store of translations which survives client restarts. Translations are appended to a log file, one JSON
+ * record per line. Once the log holds too many stale records it is compacted down to the live translations.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+public class PersistentTranslationStore {
+
+    /**
+     * How many records the log may hold per live translation before it is compacted.
+     */
+    private static final int COMPACTION_RATIO = 2;
+
+    /**
+     * The log file.
+     */
+    private final File file;
+
+    /**
+     * The live translations in the log, in write order (oldest first).
+     */
+    private final LinkedHashMap<TranslationKey, TranslateTextResponseList> entries = new LinkedHashMap<>(16, 0.75f, false);
+
+    /**
+     * The maximum amount of translations kept.
+     */
+    private int maximumSize;
+
+    /**
+     * The amount of records in the log, including stale records.
+     */
+    private int records = 0;
+
+    /**
+     * The writer appending to the log, or null if the store is closed.
+     */
+    private @Nullable Writer writer = null;
+
+    /**
+     * Construct a persistent translation store.
+     *
+     * @param file        - the log file, which is created if it does not exist
+     * @param maximumSize - the maximum amount of translations kept
+     */
+    public PersistentTranslationStore(File file, int maximumSize) {
+        this.file = file;
+        this.maximumSize = Math.max(0, maximumSize);
+    }
+
+    /**
+     * Read the log from disk and open it for appending. Corrupt records are skipped.
+     *
+     * @return the stored translations, oldest first
+     * @throws IOException on failure to read or open the log
+     */
+    public synchronized Map<TranslationKey, TranslateTextResponseList> open() throws IOException {
+        this.entries.clear();
+        this.records = 0;
+        if (this.file.exists()) {
+            try (BufferedReader reader = Files.newBufferedReader(this.file.toPath(), StandardCharsets.UTF_8)) {
+                JsonParser parser = new JsonParser();
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    this.records++;
+                    try {
+                        JsonObject record = parser.parse(line).getAsJsonObject();
+                        TranslationKey key = TranslationKey.of(
+                                record.get("t").getAsString(),
+                                record.has("s") ? record.get("s").getAsString() : null,
+                                record.get("g").getAsString());
+                        this.entries.remove(key); // Re-inserting moves the record to the end
+                        this.entries.put(key, toTranslations(record.getAsJsonArray("r")));
+                    } catch (Exception e) {
+                        log.debug("Skipped corrupt translation record: " + line);
+                    }
+                }
+            }
+        } else {
+            File parent = this.file.getParentFile();
+            if (parent != null && !parent.exists() && !parent.mkdirs()) {
+                throw new IOException("Could not create directory " + parent);
+            }
+        }
+        this.trimToSize();
+        this.writer = Files.newBufferedWriter(this.file.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.compactIfNeeded();
+        log.debug("Loaded " + this.entries.size() + " stored translations from " + this.records + " records");
+        return Collections.unmodifiableMap(new LinkedHashMap<>(this.entries));
+    }
+
+    /**
+     * Return a stored translation.
+     *
+     * @param key - the translation request
+     * @return the stored translation, or null if it was not stored
+     */
+    public synchronized @Nullable
+    TranslateTextResponseList get(TranslationKey key) {
+        return this.entries.get(key);
+    }
+
+    /**
+     * Store a translation by appending it to the log.
+     *
+     * @param key          - the translation request
+     * @param translations - the translations returned for the request
+     */
+    public synchronized void put(TranslationKey key, TranslateTextResponseList translations) {
+        if (this.writer == null || this.maximumSize == 0 || translations.isEmpty()) {
+            return;
+        }
+        this.entries.remove(key);
+        this.entries.put(key, translations);
+        this.trimToSize();
+        try {
+            this.writer.write(toRecord(key, translations).toString());
+            this.writer.write('\n');
+            this.writer.flush();
+            this.records++;
+            this.compactIfNeeded();
+        } catch (IOException e) {
+            log.warn("Could not store translation", e);
+        }
+    }
+
+    /**
+     * Change the maximum amount of translations kept. The log is compacted if it is now too large.
+     *
+     * @param maximumSize - the maximum amount of translations kept
+     */
+    public synchronized void resize(int maximumSize) {
+        this.maximumSize = Math.max(0, maximumSize);
+        this.trimToSize();
+        try {
+            this.compactIfNeeded();
+        } catch (IOException e) {
+            log.warn("Could not compact stored translations", e);
+        }
+    }
+
+    /**
+     * Close the log. Stored translations remain on disk.
+     */
+    public synchronized void close() {
+        if (this.writer == null) {
+            return;
+        }
+        try {
+            this.writer.close();
+        } catch (IOException e) {
+            log.warn("Could not close stored translations", e);
+        }
+        this.writer = null;
+        this.entries.clear();
+    }
+
+    /**
+     * @return the amount of translations stored
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Helper method to forget the oldest translations until the store fits its maximum size.
+     */
+    private void trimToSize() {
+        Iterator<TranslationKey> iterator = this.entries.keySet().iterator();
+        while (this.entries.size() > this.maximumSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Helper method to rewrite the log with only live translations once it holds too many stale records.
+     *
+     * @throws IOException on failure to rewrite the log
+     */
+    private void compactIfNeeded() throws IOException {
+        if (this.writer == null || this.records <= Math.max(this.entries.size(), 1) * COMPACTION_RATIO) {
+            return;
+        }
+        log.debug("Compacting stored translations from " + this.records + " to " + this.entries.size() + " records");
+        this.writer.close();
+        this.writer = null;
+
+        File compacted = new File(this.file.getPath() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(compacted.toPath(), StandardCharsets.UTF_8)) {
+            for (Map.Entry<TranslationKey, TranslateTextResponseList> entry : this.entries.entrySet()) {
+                out.write(toRecord(entry.getKey(), entry.getValue()).toString());
+                out.write('\n');
+            }
+        }
+        try {
+            Files.move(compacted.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(compacted.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        this.records = this.entries.size();
+        this.writer = Files.newBufferedWriter(this.file.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Helper method to encode a translation as a log record, e.g.
+     * <pre>{"t": text, "s": source, "g": target, "r": [{"d": detectedSourceLanguage, "x": translatedText}]}</pre>
+     */
+    private static JsonObject toRecord(TranslationKey key, TranslateTextResponseList translations) {
+        JsonObject record = new JsonObject();
+        record.addProperty("t", key.text);
+        if (key.sourceLanguage != null) {
+            record.addProperty("s", key.sourceLanguage);
+        }
+        record.addProperty("g", key.targetLanguage);
+        JsonArray results = new JsonArray();
+        for (TranslateTextResponseTranslation translation : translations.translations) {
+            JsonObject result = new JsonObject();
+            result.addProperty("d", translation.detectedSourceLanguage);
+            result.addProperty("x", translation.translatedText);
+            results.add(result);
+        }
+        record.add("r", results);
+        return record;
+    }
+
+    /**
+     * Helper method to decode the translations of a log record.
+     */
+    private static TranslateTextResponseList toTranslations(JsonArray results) {
+        TranslateTextResponseTranslation[] translations = new TranslateTextResponseTranslation[results.size()];
+        for (int i = 0; i < translations.length; i++) {
+            JsonElement result = results.get(i);
+            JsonObject resultObject = result.getAsJsonObject();
+            translations[i] = TranslateTextResponseTranslation.of(
+                    resultObject.get("d").getAsString(),
+                    resultObject.get("x").getAsString());
+        }
+        return TranslateTextResponseList.of(translations);
+    }
+}
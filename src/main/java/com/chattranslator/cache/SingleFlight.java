@@ -0,0 +1,161 @@
+package com.chattranslator.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent calls for the same key. While a call is in flight, callers with the same key share its result
+ * instead of starting another call.
+ * <p>
+ * Every caller receives its own future. Cancelling it only detaches that caller; the call itself is cancelled once
+ * every caller sharing it has cancelled.
+ *
+ * @param <K> - the type of key
+ * @param <V> - the type of result
+ * @author agent
+ * @version October 2026
+ */
+public class SingleFlight<K, V> {
+
+    /**
+     * The calls in flight.
+     */
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * The amount of callers which shared a call already in flight.
+     */
+    private final AtomicLong shared = new AtomicLong();
+
+    /**
+     * Return the result of the call in flight for a key, or start a new call if there is none.
+     *
+     * @param key  - the key identifying the call
+     * @param call - starts the call
+     * @return a future of the call's result, owned by this caller
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> call) {
+        final Flight<V>[] created = new Flight[1];
+        final Flight<V> flight = this.flights.compute(key, (k, existing) -> {
+            if (existing != null) {
+                existing.waiters++;
+                return existing;
+            }
+            created[0] = new Flight<>();
+            return created[0];
+        });
+
+        if (created[0] == null) {
+            this.shared.incrementAndGet();
+        } else {
+            // Start the call outside of the map, as it may complete immediately
+            CompletableFuture<V> future;
+            try {
+                future = call.get();
+            } catch (RuntimeException e) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+            }
+            flight.start(future);
+            future.whenComplete((result, e) -> {
+                this.flights.remove(key, flight);
+                if (e != null) {
+                    flight.result.completeExceptionally(e);
+                } else {
+                    flight.result.complete(result);
+                }
+            });
+        }
+
+        final CompletableFuture<V> caller = new CompletableFuture<>();
+        flight.result.whenComplete((result, e) -> {
+            if (e != null) {
+                caller.completeExceptionally(e);
+            } else {
+                caller.complete(result);
+            }
+        });
+        caller.whenComplete((result, e) -> {
+            if (caller.isCancelled()) {
+                this.release(key, flight);
+            }
+        });
+        return caller;
+    }
+
+    /**
+     * @return the amount of calls currently in flight
+     */
+    public int size() {
+        return this.flights.size();
+    }
+
+    /**
+     * @return the amount of callers which shared a call already in flight, rather than starting their own
+     */
+    public long getSharedCount() {
+        return this.shared.get();
+    }
+
+    /**
+     * Helper method to detach a cancelled caller from its call, cancelling the call if no callers remain.
+     *
+     * @param key    - the key identifying the call
+     * @param flight - the call
+     */
+    private void release(K key, Flight<V> flight) {
+        final boolean[] abandoned = {false};
+        this.flights.computeIfPresent(key, (k, existing) -> {
+            if (existing != flight || --existing.waiters > 0) {
+                return existing;
+            }
+            abandoned[0] = true;
+            return null;
+        });
+        if (abandoned[0]) {
+            flight.cancel();
+        }
+    }
+
+    /**
+     * A call in flight.
+     */
+    private static class Flight<V> {
+
+        /**
+         * The result shared with every caller.
+         */
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+
+        /**
+         * The amount of callers waiting on the result. This is guarded by the map holding the flight.
+         */
+        private int waiters = 1;
+
+        /**
+         * The call, or null if it has not started.
+         */
+        private CompletableFuture<V> call = null;
+
+        /**
+         * Whether every caller cancelled before the call started.
+         */
+        private boolean cancelled = false;
+
+        private synchronized void start(CompletableFuture<V> call) {
+            this.call = call;
+            if (this.cancelled) {
+                call.cancel(true);
+            }
+        }
+
+        private synchronized void cancel() {
+            this.cancelled = true;
+            if (this.call != null) {
+                this.call.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.chattranslator.cache;
+
+import com.chattranslator.data.TranslateTextResponseList;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded, in-memory cache of translations. The least recently used translation is evicted once the cache is full, and
+ * translations may optionally expire after a time to live.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+public class TranslationCache {
+
+    /**
+     * The cached translations, in access order (least recently used first).
+     */
+    private final LinkedHashMap<TranslationKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The maximum amount of translations held.
+     */
+    private int maximumSize;
+
+    /**
+     * How long a translation lives in the cache in nanoseconds, or 0 if translations never expire.
+     */
+    private long timeToLiveNanos;
+
+    /**
+     * The amount of lookups which returned a translation.
+     */
+    private long hits = 0;
+
+    /**
+     * The amount of lookups which did not return a translation.
+     */
+    private long misses = 0;
+
+    /**
+     * The amount of translations removed to make room for others.
+     */
+    private long evictions = 0;
+
+    /**
+     * Construct a translation cache.
+     *
+     * @param maximumSize     - the maximum amount of translations held
+     * @param timeToLive      - how long a translation lives in the cache, or 0 if translations never expire
+     * @param timeToLiveUnits - the units of the time to live
+     */
+    public TranslationCache(int maximumSize, long timeToLive, TimeUnit timeToLiveUnits) {
+        this.maximumSize = Math.max(0, maximumSize);
+        this.timeToLiveNanos = Math.max(0, timeToLiveUnits.toNanos(timeToLive));
+    }
+
+    /**
+     * Return a cached translation.
+     *
+     * @param key - the translation request
+     * @return the cached translation, or null if it was not cached or has expired
+     */
+    public synchronized @Nullable
+    TranslateTextResponseList get(TranslationKey key) {
+        Entry entry = this.entries.get(key);
+        if (entry != null && entry.isExpired(System.nanoTime())) {
+            this.entries.remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            this.misses++;
+            return null;
+        }
+        this.hits++;
+        return entry.translations;
+    }
+
+    /**
+     * Cache a translation, evicting the least recently used translations if the cache is full.
+     *
+     * @param key          - the translation request
+     * @param translations - the translations returned for the request
+     */
+    public synchronized void put(TranslationKey key, TranslateTextResponseList translations) {
+        if (this.maximumSize == 0 || translations.isEmpty()) {
+            return;
+        }
+        long expiry = this.timeToLiveNanos == 0 ? 0 : System.nanoTime() + this.timeToLiveNanos;
+        this.entries.put(key, new Entry(translations, expiry));
+        this.evictToSize();
+    }
+
+    /**
+     * Change the limits of the cache. Translations are evicted immediately if the cache is over its new size.
+     *
+     * @param maximumSize     - the maximum amount of translations held
+     * @param timeToLive      - how long a translation lives in the cache, or 0 if translations never expire
+     * @param timeToLiveUnits - the units of the time to live
+     */
+    public synchronized void resize(int maximumSize, long timeToLive, TimeUnit timeToLiveUnits) {
+        this.maximumSize = Math.max(0, maximumSize);
+        this.timeToLiveNanos = Math.max(0, timeToLiveUnits.toNanos(timeToLive));
+        this.evictToSize();
+    }
+
+    /**
+     * Remove every translation from the cache. Statistics are kept.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * @return the amount of translations currently cached
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * @return the amount of lookups which returned a translation
+     */
+    public synchronized long getHitCount() {
+        return this.hits;
+    }
+
+    /**
+     * @return the amount of lookups which did not return a translation
+     */
+    public synchronized long getMissCount() {
+        return this.misses;
+    }
+
+    /**
+     * @return the amount of translations removed to make room for others
+     */
+    public synchronized long getEvictionCount() {
+        return this.evictions;
+    }
+
+    /**
+     * Helper method to evict the least recently used translations until the cache fits its maximum size.
+     */
+    private void evictToSize() {
+        Iterator<Map.Entry<TranslationKey, Entry>> iterator = this.entries.entrySet().iterator();
+        while (this.entries.size() > this.maximumSize && iterator.hasNext()) {
+            Map.Entry<TranslationKey, Entry> eldest = iterator.next();
+            iterator.remove();
+            this.evictions++;
+            log.debug("Evicted cached translation " + eldest.getKey());
+        }
+    }
+
+    /**
+     * A cached translation.
+     */
+    private static class Entry {
+
+        /**
+         * The translations returned for the request.
+         */
+        private final TranslateTextResponseList translations;
+
+        /**
+         * The {@link System#nanoTime()} this entry expires at, or 0 if it never expires.
+         */
+        private final long expiry;
+
+        private Entry(TranslateTextResponseList translations, long expiry) {
+            this.translations = translations;
+            this.expiry = expiry;
+        }
+
+        private boolean isExpired(long now) {
+            return this.expiry != 0 && now - this.expiry >= 0;
+        }
+    }
+}
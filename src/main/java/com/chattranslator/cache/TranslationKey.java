@@ -0,0 +1,115 @@
+package com.chattranslator.cache;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * An identifier for a translation request. Two requests with the same normalized text, source language and target language
+ * will always produce the same translation, so they share a key.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public final class TranslationKey {
+
+    /**
+     * The normalized text being translated.
+     */
+    public final String text;
+
+    /**
+     * The source language code, or null if the source language is auto-detected.
+     */
+    public final @Nullable String sourceLanguage;
+
+    /**
+     * The target language code.
+     */
+    public final String targetLanguage;
+
+    /**
+     * The pre-computed hash of this key.
+     */
+    private final int hash;
+
+    /**
+     * Construct a translation key. Use {@link #of(String, String, String)} to normalize the fields.
+     *
+     * @param text           - the normalized text
+     * @param sourceLanguage - the normalized source language code, or null
+     * @param targetLanguage - the normalized target language code
+     */
+    private TranslationKey(@Nonnull String text, @Nullable String sourceLanguage, @Nonnull String targetLanguage) {
+        this.text = text;
+        this.sourceLanguage = sourceLanguage;
+        this.targetLanguage = targetLanguage;
+        this.hash = Objects.hash(text, sourceLanguage, targetLanguage);
+    }
+
+    /**
+     * Create a key for a translation request. The text is trimmed and has its whitespace collapsed, so
+     * "Selling  Lobsters " and "Selling Lobsters" share a key. Case is kept, since it can change the translation.
+     *
+     * @param text           - the text to translate
+     * @param sourceLanguage - the source language's code, e.g. 'en' (English), or null for auto-detection
+     * @param targetLanguage - the target language's code, e.g. 'da' (Danish)
+     * @return the key for the request
+     */
+    public static TranslationKey of(@Nonnull String text, @Nullable String sourceLanguage, @Nonnull String targetLanguage) {
+        return new TranslationKey(
+                normalize(text),
+                sourceLanguage == null ? null : sourceLanguage.toLowerCase(Locale.ROOT),
+                targetLanguage.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Normalize text for use in a key.
+     *
+     * @param text - the text to normalize
+     * @return the text, trimmed and with all whitespace runs collapsed to a single space
+     */
+    static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean whitespace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                whitespace = normalized.length() > 0;
+            } else {
+                if (whitespace) {
+                    normalized.append(' ');
+                    whitespace = false;
+                }
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TranslationKey)) {
+            return false;
+        }
+        TranslationKey other = (TranslationKey) o;
+        return this.hash == other.hash
+                && this.text.equals(other.text)
+                && Objects.equals(this.sourceLanguage, other.sourceLanguage)
+                && this.targetLanguage.equals(other.targetLanguage);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return (this.sourceLanguage == null ? "auto" : this.sourceLanguage) + "->" + this.targetLanguage + ": '" + this.text + "'";
+    }
+}
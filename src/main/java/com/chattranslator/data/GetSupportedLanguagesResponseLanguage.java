@@ -1,8 +1,11 @@
 package com.chattranslator.data;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
 
 /**
  * A single supported language response corresponds to information related to one supported language.
@@ -34,6 +37,17 @@ public class GetSupportedLanguagesResponseLanguage {
         this.name = name;
     }
 
+    /**
+     * Create a supported language which did not come from the Google API, e.g. one from another translation backend.
+     *
+     * @param language the supported language code
+     * @param name     the human readable name of the language
+     * @return an instance of this class
+     */
+    public static GetSupportedLanguagesResponseLanguage of(String language, String name) {
+        return new GetSupportedLanguagesResponseLanguage(language, name);
+    }
+
     /**
      * Parse a JSON source to receive this object.
      *
@@ -54,4 +68,38 @@ public class GetSupportedLanguagesResponseLanguage {
             return null;
         }
     }
+
+    /**
+     * Parse a JSON stream to receive this object, without building an intermediate JSON tree. The reader must be
+     * positioned at the start of the object, and is left after its end.
+     *
+     * @param reader the JSON stream of this object, e.g.
+     *               <pre>{"language": string, "name": string,}</pre>
+     * @return an instance of this class on successful parsing, or null if the object is missing a field
+     * @throws IOException on a malformed stream
+     */
+    public @Nullable
+    static GetSupportedLanguagesResponseLanguage fromJSON(final JsonReader reader) throws IOException {
+        String language = null;
+        String name = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+            } else if (field.equals("language")) {
+                language = reader.nextString();
+            } else if (field.equals("name")) {
+                name = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (language == null || name == null) {
+            return null;
+        }
+        return new GetSupportedLanguagesResponseLanguage(language, name);
+    }
 }
@@ -1,7 +1,9 @@
 package com.chattranslator.data;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonReader;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.IntStream;
@@ -30,6 +32,17 @@ public class GetSupportedLanguagesResponseList {
         this.languages = languages;
     }
 
+    /**
+     * Create a list of supported languages which did not come from the Google API, e.g. one from another translation
+     * backend.
+     *
+     * @param languages the supported languages
+     * @return an instance of this class
+     */
+    public static GetSupportedLanguagesResponseList of(GetSupportedLanguagesResponseLanguage... languages) {
+        return new GetSupportedLanguagesResponseList(languages);
+    }
+
     /**
      * Parse a JSON source to receive this object.
      *
@@ -51,4 +64,35 @@ public class GetSupportedLanguagesResponseList {
 
         return new GetSupportedLanguagesResponseList(response);
     }
+
+    /**
+     * Parse a JSON stream to receive this object, without building an intermediate JSON tree. The reader must be
+     * positioned at the start of the object, and is left after its end.
+     *
+     * @param reader the JSON stream of this object, e.g.
+     *               <pre>{"languages": [{object(GetSupportedLanguagesResponseLanguage)}],}</pre>
+     * @return an instance of this class on successful parsing
+     * @throws IOException on a malformed stream
+     */
+    public static GetSupportedLanguagesResponseList fromJSON(final JsonReader reader) throws IOException {
+        List<GetSupportedLanguagesResponseLanguage> languages = new ArrayList<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("languages")) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    GetSupportedLanguagesResponseLanguage language = GetSupportedLanguagesResponseLanguage.fromJSON(reader);
+                    if (language != null) {
+                        languages.add(language);
+                    }
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new GetSupportedLanguagesResponseList(languages.toArray(new GetSupportedLanguagesResponseLanguage[0]));
+    }
 }
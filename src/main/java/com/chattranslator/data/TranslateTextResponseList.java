@@ -1,14 +1,14 @@
 package com.chattranslator.data;
 
 import com.chattranslator.ChatTranslatorMenuEntry;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -35,6 +35,16 @@ public class TranslateTextResponseList {
         this.translations = translations;
     }
 
+    /**
+     * Create a list of translations which did not come from a JSON source, e.g. one restored from a cache.
+     *
+     * @param translations the translations
+     * @return an instance of this class
+     */
+    public static TranslateTextResponseList of(TranslateTextResponseTranslation... translations) {
+        return new TranslateTextResponseList(translations);
+    }
+
     /**
      * @return true if this translation list is empty, false otherwise
      */
@@ -74,48 +84,38 @@ public class TranslateTextResponseList {
     }
 
     /**
-     * Parse a JSON source to receive this object.
+     * Parse a JSON stream to receive this object, without building an intermediate JSON tree. The reader must be
+     * positioned at the start of the object, and is left after its end.
      *
-     * @param json the JSON source of this object, e.g.
-     *             <pre>{"translations": [array(TranslateTextResponseTranslation)]}</pre>
+     * @param reader         the JSON stream of this object, e.g.
+     *                       <pre>{"translations": [array(TranslateTextResponseTranslation)],}</pre>
+     * @param sourceLanguage the source language passed with the request, or null if it was detected automatically
+     * @param batch          whether every translation must be kept in the position of the query (q) it was requested
+     *                       with, rather than skipping translations which could not be parsed
      * @return an instance of this class on successful parsing
-     * @throws Exception on parse failure
+     * @throws IOException on a malformed stream, or a translation which could not be parsed in a batch
      */
-    public static TranslateTextResponseList fromJSONExplicit(final JsonElement json, String sourceLanguage) throws Exception {
-        JsonObject jsonObject = json.getAsJsonObject();
-        JsonArray translations = jsonObject.getAsJsonArray("translations");
-        log.info("translations: " + translations.size());
-
-        if (translations.size() != 1) {
-            return fromJSONImplicit(json);
+    public static TranslateTextResponseList fromJSON(final JsonReader reader, @Nullable String sourceLanguage, boolean batch) throws IOException {
+        List<TranslateTextResponseTranslation> translations = new ArrayList<>(1);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("translations")) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    TranslateTextResponseTranslation translation = TranslateTextResponseTranslation.fromJSON(reader, sourceLanguage);
+                    if (translation != null) {
+                        translations.add(translation);
+                    } else if (batch) {
+                        throw new IOException("Translation " + translations.size() + " could not be parsed");
+                    }
+                }
+                reader.endArray();
+            } else {
+                reader.skipValue();
+            }
         }
+        reader.endObject();
 
-        TranslateTextResponseTranslation[] response = new TranslateTextResponseTranslation[1];
-        response[0] = TranslateTextResponseTranslation.fromJSONExplicit(translations.get(0), sourceLanguage);
-
-        return new TranslateTextResponseList(response);
-    }
-
-    /**
-     * Parse a JSON source to receive this object.
-     *
-     * @param json the JSON source of this object, e.g.
-     *             <pre>{"translations": [array(TranslateTextResponseTranslation)],}</pre>
-     * @return an instance of this class on successful parsing
-     * @throws Exception on parse failure
-     */
-    public static TranslateTextResponseList fromJSONImplicit(final JsonElement json) throws Exception {
-        JsonObject jsonObject = json.getAsJsonObject();
-        JsonArray translations = jsonObject.getAsJsonArray("translations");
-
-        TranslateTextResponseTranslation[] response = IntStream
-                .range(0, translations.size())
-                .mapToObj(translations::get)
-                .map(TranslateTextResponseTranslation::fromJSONImplicit)
-                .filter(obj -> obj != null)
-                .toArray(TranslateTextResponseTranslation[]::new);
-
-        return new TranslateTextResponseList(response);
+        return new TranslateTextResponseList(translations.toArray(new TranslateTextResponseTranslation[0]));
     }
-
 }
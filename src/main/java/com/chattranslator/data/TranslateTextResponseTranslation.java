@@ -1,10 +1,11 @@
 package com.chattranslator.data;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.text.StringEscapeUtils;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
 
 /**
  * A list of translation results for the requested text.
@@ -31,45 +32,53 @@ public class TranslateTextResponseTranslation {
     }
 
     /**
-     * Parse a JSON source to receive this object with an implicitly detected source language.
+     * Create a translation which did not come from a JSON source, e.g. one restored from a cache.
      *
-     * @param json the JSON source of this object, e.g.
-     *             <pre>{"detectedSourceLanguage": string,"translatedText": string,}</pre>
-     * @return an instance of this class on successful parsing
-     * @throws Exception on parse failure
+     * @param detectedSourceLanguage the source language of the translation
+     * @param translatedText         the translated text
+     * @return an instance of this class
      */
-    public @Nullable
-    static TranslateTextResponseTranslation fromJSONImplicit(final JsonElement json) {
-        try {
-            JsonObject jsonObject = json.getAsJsonObject();
-            String translatedText = StringEscapeUtils.unescapeHtml4(jsonObject.get("translatedText").getAsString());
-            if (jsonObject.has("detectedSourceLanguage")) {
-                String detectedSourceLanguage = jsonObject.get("detectedSourceLanguage").getAsString();
-                return new TranslateTextResponseTranslation(detectedSourceLanguage, translatedText);
-            } else {
-                return new TranslateTextResponseTranslation("?", translatedText);
-            }
-        } catch (Exception e ) {
-            return null;
-        }
+    public static TranslateTextResponseTranslation of(String detectedSourceLanguage, String translatedText) {
+        return new TranslateTextResponseTranslation(detectedSourceLanguage, translatedText);
     }
 
     /**
-     * Parse a JSON source to receive this object with an explicitly provided source language.
+     * Parse a JSON stream to receive this object, without building an intermediate JSON tree. The reader must be
+     * positioned at the start of the object, and is left after its end.
      *
-     * @param json the JSON source of this object, e.g.
-     *             <pre>{"detectedSourceLanguage": string,}</pre>
-     * @return an instance of this class on successful parsing
-     * @throws Exception on parse failure
+     * @param reader         the JSON stream of this object, e.g.
+     *                       <pre>{"detectedSourceLanguage": string,"translatedText": string,}</pre>
+     * @param sourceLanguage the source language passed with the request, or null if it was detected automatically
+     * @return an instance of this class on successful parsing, or null if the object holds no translated text
+     * @throws IOException on a malformed stream
      */
     public @Nullable
-    static TranslateTextResponseTranslation fromJSONExplicit(JsonElement json, String sourceLanguage) {
-        try {
-            JsonObject jsonObject = json.getAsJsonObject();
-            String translatedText = StringEscapeUtils.unescapeHtml4(jsonObject.get("translatedText").getAsString());
-            return new TranslateTextResponseTranslation(sourceLanguage, translatedText);
-        } catch (Exception e ) {
+    static TranslateTextResponseTranslation fromJSON(final JsonReader reader, @Nullable String sourceLanguage) throws IOException {
+        String detectedSourceLanguage = null;
+        String translatedText = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+            } else if (name.equals("translatedText")) {
+                translatedText = reader.nextString();
+            } else if (name.equals("detectedSourceLanguage")) {
+                detectedSourceLanguage = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        if (translatedText == null) {
             return null;
         }
+        if (sourceLanguage != null) {
+            detectedSourceLanguage = sourceLanguage;
+        } else if (detectedSourceLanguage == null) {
+            detectedSourceLanguage = "?";
+        }
+        return new TranslateTextResponseTranslation(detectedSourceLanguage, StringEscapeUtils.unescapeHtml4(translatedText));
     }
 }
@@ -0,0 +1,25 @@
+package com.chattranslator.detect;
+
+import com.google.inject.ImplementedBy;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Detects the language of text locally, without a call to the translation API.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@ImplementedBy(TrigramLanguageDetector.class)
+public interface LanguageDetector {
+
+    /**
+     * Detect the language of text.
+     *
+     * @param text - the text to detect the language of
+     * @return the detected language's code, e.g. 'en' (English), or null if the language could not be detected confidently
+     */
+    @Nullable
+    String detect(@Nonnull String text);
+}
@@ -0,0 +1,185 @@
+package com.chattranslator.detect;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A language detector which compares the character trigrams of text against bundled language profiles. Each profile
+ * ranks the most common trigrams of a language, and text scores higher against a profile the more of its trigrams are
+ * common in that language.
+ * <p>
+ * Chat lines are short, so a language is only returned when the text is long enough and one profile clearly scores
+ * better than the rest.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+@Singleton
+public class TrigramLanguageDetector implements LanguageDetector {
+
+    /**
+     * The bundled language profiles. Each line holds a language code, a tab, then its trigrams separated by '|' from most
+     * to least common. Word boundaries are represented by spaces, e.g. " th", "the", "he ".
+     */
+    private static final String PROFILES_RESOURCE = "/language_profiles.txt";
+
+    /**
+     * The minimum amount of trigrams in text before detection is attempted.
+     */
+    private static final int MIN_TRIGRAMS = 8;
+
+    /**
+     * The minimum score of the best language, from 0 (no common trigrams) to 1 (only the most common trigram).
+     */
+    private static final double MIN_SCORE = 0.2;
+
+    /**
+     * The minimum relative lead of the best language's score over the second best.
+     */
+    private static final double MIN_MARGIN = 0.15;
+
+    /**
+     * The rank of each trigram, keyed by language code.
+     */
+    private final Map<String, Map<String, Integer>> profiles;
+
+    /**
+     * Construct the detector from the bundled language profiles.
+     */
+    @Inject
+    public TrigramLanguageDetector() {
+        this(loadProfiles());
+    }
+
+    /**
+     * Construct the detector from language profiles.
+     *
+     * @param profiles - the rank of each trigram, keyed by language code
+     */
+    TrigramLanguageDetector(Map<String, Map<String, Integer>> profiles) {
+        this.profiles = profiles;
+    }
+
+    @Override
+    public @Nullable
+    String detect(@Nonnull String text) {
+        Map<String, Integer> trigrams = countTrigrams(text);
+        int total = 0;
+        for (int count : trigrams.values()) {
+            total += count;
+        }
+        if (total < MIN_TRIGRAMS) {
+            return null;
+        }
+
+        String best = null;
+        double bestScore = 0;
+        double secondScore = 0;
+        for (Map.Entry<String, Map<String, Integer>> profile : this.profiles.entrySet()) {
+            double score = score(trigrams, total, profile.getValue());
+            if (score > bestScore) {
+                secondScore = bestScore;
+                bestScore = score;
+                best = profile.getKey();
+            } else if (score > secondScore) {
+                secondScore = score;
+            }
+        }
+
+        if (best == null || bestScore < MIN_SCORE || (bestScore - secondScore) / bestScore < MIN_MARGIN) {
+            return null;
+        }
+        log.debug("Detected '" + best + "' for '" + text + "' (score " + bestScore + ", next " + secondScore + ")");
+        return best;
+    }
+
+    /**
+     * Helper method to score trigrams against a language profile. Each trigram found in the profile scores higher the
+     * more common it is in the language.
+     *
+     * @param trigrams - the trigram counts of the text
+     * @param total    - the total amount of trigrams in the text
+     * @param profile  - the rank of each trigram in the language
+     * @return the score, from 0 to 1
+     */
+    private static double score(Map<String, Integer> trigrams, int total, Map<String, Integer> profile) {
+        final int size = profile.size();
+        long score = 0;
+        for (Map.Entry<String, Integer> trigram : trigrams.entrySet()) {
+            Integer rank = profile.get(trigram.getKey());
+            if (rank != null) {
+                score += (long) trigram.getValue() * (size - rank);
+            }
+        }
+        return (double) score / ((long) total * size);
+    }
+
+    /**
+     * Helper method to count the trigrams of the words in text. Words are runs of letters, lower cased and padded with a
+     * space on each side.
+     *
+     * @param text - the text
+     * @return the count of each trigram
+     */
+    static Map<String, Integer> countTrigrams(String text) {
+        Map<String, Integer> trigrams = new HashMap<>();
+        StringBuilder word = new StringBuilder(" ");
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetter(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (word.length() > 1) {
+                word.append(' ');
+                for (int j = 0; j + 3 <= word.length(); j++) {
+                    trigrams.merge(word.substring(j, j + 3), 1, Integer::sum);
+                }
+                word.setLength(1);
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Helper method to load the bundled language profiles.
+     *
+     * @return the rank of each trigram, keyed by language code, or no profiles if they could not be loaded
+     */
+    private static Map<String, Map<String, Integer>> loadProfiles() {
+        Map<String, Map<String, Integer>> profiles = new LinkedHashMap<>();
+        try (InputStream in = TrigramLanguageDetector.class.getResourceAsStream(PROFILES_RESOURCE)) {
+            if (in == null) {
+                throw new IOException("Missing resource " + PROFILES_RESOURCE);
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                if (tab <= 0) {
+                    continue;
+                }
+                String[] ranked = line.substring(tab + 1).split("\\|");
+                Map<String, Integer> profile = new HashMap<>(ranked.length * 2);
+                for (int rank = 0; rank < ranked.length; rank++) {
+                    profile.putIfAbsent(ranked[rank], rank);
+                }
+                profiles.put(line.substring(0, tab), profile);
+            }
+        } catch (IOException e) {
+            log.warn("Could not load language profiles, local language detection is disabled", e);
+        }
+        return profiles;
+    }
+}
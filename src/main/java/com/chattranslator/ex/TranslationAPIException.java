@@ -0,0 +1,16 @@
+package com.chattranslator.ex;
+
+/**
+ * An exception generated from a failed call to the translation service.
+ *
+ * @version January 2021
+ * @author <a href="https://spencer.imbleau.com">Spencer Imbleau</a>
+ */
+public class TranslationAPIException extends TranslationException {
+    public TranslationAPIException(String errorMessage, Throwable err) {
+        super(errorMessage, err);
+    }
+    public TranslationAPIException(String errorMessage) {
+        super(errorMessage);
+    }
+}
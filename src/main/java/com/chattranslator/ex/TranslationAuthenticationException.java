@@ -0,0 +1,16 @@
+package com.chattranslator.ex;
+
+/**
+ * An exception generated from invalid authentication to the translation service.
+ *
+ * @version January 2021
+ * @author <a href="https://spencer.imbleau.com">Spencer Imbleau</a>
+ */
+public class TranslationAuthenticationException extends TranslationException {
+    public TranslationAuthenticationException(String errorMessage, Throwable err) {
+        super(errorMessage, err);
+    }
+    public TranslationAuthenticationException(String errorMessage) {
+        super(errorMessage);
+    }
+}
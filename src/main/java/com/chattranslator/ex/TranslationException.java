@@ -0,0 +1,16 @@
+package com.chattranslator.ex;
+
+/**
+ * A generic exception which occurred from bad interaction with the translation service.
+ *
+ * @version January 2021
+ * @author <a href="https://spencer.imbleau.com">Spencer Imbleau</a>
+ */
+public class TranslationException extends Exception {
+    public TranslationException(String errorMessage, Throwable err) {
+        super(errorMessage, err);
+    }
+    public TranslationException(String errorMessage) {
+        super(errorMessage);
+    }
+}
@@ -0,0 +1,17 @@
+package com.chattranslator.ex;
+
+/**
+ * An exception generated when a call to the translation service is held back by the plugin's own rate limits or
+ * daily character budget, rather than failing at the service.
+ *
+ * @version October 2026
+ * @author agent
+ */
+public class TranslationQuotaException extends TranslationException {
+    public TranslationQuotaException(String errorMessage, Throwable err) {
+        super(errorMessage, err);
+    }
+    public TranslationQuotaException(String errorMessage) {
+        super(errorMessage);
+    }
+}
@@ -0,0 +1,32 @@
+package com.chattranslator.ex;
+
+/**
+ * An exception generated from a call to the translation service which failed temporarily, e.g. from a network failure,
+ * a server error or rate limiting. The same call may succeed if it is tried again.
+ *
+ * @version October 2026
+ * @author agent
+ */
+public class TranslationTransientException extends TranslationAPIException {
+
+    /**
+     * How long the service asked to wait before trying again in milliseconds, or 0 if it did not say.
+     */
+    private final long retryAfterMillis;
+
+    public TranslationTransientException(String errorMessage, Throwable err) {
+        super(errorMessage, err);
+        this.retryAfterMillis = 0;
+    }
+    public TranslationTransientException(String errorMessage, long retryAfterMillis) {
+        super(errorMessage);
+        this.retryAfterMillis = Math.max(0, retryAfterMillis);
+    }
+
+    /**
+     * @return how long the service asked to wait before trying again in milliseconds, or 0 if it did not say
+     */
+    public long getRetryAfterMillis() {
+        return this.retryAfterMillis;
+    }
+}
@@ -0,0 +1,17 @@
+package com.chattranslator.ex;
+
+/**
+ * An exception generated when a call to the translation service is not attempted, because recent calls kept failing
+ * and the service is presumed to be down for a while.
+ *
+ * @version October 2026
+ * @author agent
+ */
+public class TranslationUnavailableException extends TranslationException {
+    public TranslationUnavailableException(String errorMessage, Throwable err) {
+        super(errorMessage, err);
+    }
+    public TranslationUnavailableException(String errorMessage) {
+        super(errorMessage);
+    }
+}
@@ -0,0 +1,162 @@
+package com.chattranslator.glossary;
+
+import com.chattranslator.lang.LanguageRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A glossary of Old School RuneScape slang and common chat phrases, e.g. 'gz', 'ty' and 'world hop', with their
+ * translations into each language with a bundled phrase table. Chat made only of known phrases is translated locally,
+ * which is instant and keeps jargon the translation service would mangle.
+ * <p>
+ * Phrases are English, so the glossary is only used for text in English or in an undetected language.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+@Singleton
+public class Glossary {
+
+    /**
+     * The bundled phrase tables, one per language translated to, e.g. '/glossary/es.tsv'. Each line holds a lower case
+     * phrase, a tab, then its translation. Lines starting with '#' are comments.
+     */
+    private static final String TABLE_RESOURCE = "/glossary/%s.tsv";
+
+    /**
+     * The language glossary phrases are in.
+     */
+    public static final String PHRASE_LANGUAGE = "en";
+
+    /**
+     * Words which are kept as they are when translating, e.g. '99' or '10k'. Decimals like '2.5m' are split into two
+     * such words.
+     */
+    private static final Pattern NUMBER = Pattern.compile("\\d+[kmb]?");
+
+    /**
+     * The phrase table of each language code translated to. Languages without a table have an empty one.
+     */
+    private final Map<String, PhraseTrie> tables = new ConcurrentHashMap<>();
+
+    /**
+     * Construct the glossary. Phrase tables are loaded the first time they are used.
+     */
+    @Inject
+    public Glossary() {
+    }
+
+    /**
+     * Find the glossary phrases in text.
+     *
+     * @param text           - the text
+     * @param sourceLanguage - the language code of the text, or null if it is unknown
+     * @param targetLanguage - the language code to translate to, e.g. 'es' (Spanish)
+     * @return the phrases found, or null if the text is not in the glossary's language or no phrases were found
+     */
+    public @Nullable
+    GlossaryMatch match(@Nonnull String text, @Nullable String sourceLanguage, @Nonnull String targetLanguage) {
+        if (sourceLanguage != null && !PHRASE_LANGUAGE.equals(baseLanguage(sourceLanguage))) {
+            return null;
+        }
+        final PhraseTrie table = this.tables.computeIfAbsent(baseLanguage(targetLanguage), Glossary::loadTable);
+        if (table.size() == 0) {
+            return null;
+        }
+
+        // Split the text into lower case words, remembering where each one is
+        final List<String> words = new ArrayList<>();
+        final List<int[]> bounds = new ArrayList<>();
+        for (int i = 0; i < text.length(); ) {
+            if (!isWordCharacter(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < text.length() && isWordCharacter(text.charAt(i))) {
+                i++;
+            }
+            words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+            bounds.add(new int[]{start, i});
+        }
+
+        final List<GlossaryMatch.Phrase> phrases = new ArrayList<>();
+        boolean complete = !words.isEmpty();
+        for (int i = 0; i < words.size(); ) {
+            PhraseTrie.Match match = table.longestMatch(words, i);
+            if (match == null) {
+                complete &= NUMBER.matcher(words.get(i)).matches();
+                i++;
+                continue;
+            }
+            phrases.add(new GlossaryMatch.Phrase(bounds.get(i)[0], bounds.get(i + match.length - 1)[1], match.translation));
+            i += match.length;
+        }
+        return phrases.isEmpty() ? null : new GlossaryMatch(text, phrases, complete);
+    }
+
+    /**
+     * Helper method to return the base language of a language code, e.g. 'pt' for 'pt-BR'.
+     */
+    private static String baseLanguage(String languageCode) {
+        String normalized = LanguageRegistry.normalize(languageCode);
+        int region = normalized.indexOf('-');
+        return region < 0 ? normalized : normalized.substring(0, region);
+    }
+
+    /**
+     * Helper method to determine whether a character is part of a word, e.g. letters, digits and the apostrophe in
+     * "don't".
+     */
+    private static boolean isWordCharacter(char c) {
+        return Character.isLetterOrDigit(c) || c == '\'';
+    }
+
+    /**
+     * Helper method to load the bundled phrase table of a language.
+     *
+     * @param languageCode - the base language code
+     * @return the phrase table, or an empty one if the language has none or it could not be loaded
+     */
+    private static PhraseTrie loadTable(String languageCode) {
+        final PhraseTrie table = new PhraseTrie();
+        final String resource = String.format(TABLE_RESOURCE, languageCode);
+        try (InputStream in = Glossary.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                log.debug("No glossary for language: " + languageCode);
+                return table;
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                if (line.startsWith("#") || tab <= 0) {
+                    continue;
+                }
+                List<String> words = Arrays.asList(line.substring(0, tab).trim().toLowerCase(Locale.ROOT).split(" +"));
+                table.put(words, line.substring(tab + 1).trim());
+            }
+            log.debug("Loaded " + table.size() + " glossary phrases for language: " + languageCode);
+        } catch (IOException e) {
+            log.warn("Could not load the glossary for language: " + languageCode, e);
+        }
+        return table;
+    }
+}
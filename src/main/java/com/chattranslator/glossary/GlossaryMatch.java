@@ -0,0 +1,144 @@
+package com.chattranslator.glossary;
+
+import org.apache.commons.text.StringEscapeUtils;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The glossary phrases found in a text. A text is complete if every word is part of a phrase or a number, e.g.
+ * 'gz 99' or 'ty', so it can be translated without the translation service. Otherwise the phrases found can be
+ * protected, so the translation service leaves their translations as they are.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public final class GlossaryMatch {
+
+    /**
+     * A protected phrase, wrapped in the span {@link #protect()} emits, which the translation service returns as it was
+     * sent. Only this exact span is matched, so spans typed in the chat itself are kept.
+     */
+    private static final Pattern PROTECTED_PHRASE = Pattern.compile("<span translate=\"no\">(.*?)</span>");
+
+    /**
+     * The text.
+     */
+    private final String text;
+
+    /**
+     * The phrases found in the text, in order.
+     */
+    private final List<Phrase> phrases;
+
+    /**
+     * Whether every word of the text is part of a phrase or a number.
+     */
+    private final boolean complete;
+
+    GlossaryMatch(String text, List<Phrase> phrases, boolean complete) {
+        this.text = text;
+        this.phrases = phrases;
+        this.complete = complete;
+    }
+
+    /**
+     * @return true if every word of the text is part of a phrase or a number, false otherwise
+     */
+    public boolean isComplete() {
+        return this.complete;
+    }
+
+    /**
+     * @return true if any phrase was found, false otherwise
+     */
+    public boolean hasPhrases() {
+        return !this.phrases.isEmpty();
+    }
+
+    /**
+     * Translate the text by replacing each phrase with its translation. Everything between phrases, e.g. numbers and
+     * punctuation, is kept as it is.
+     *
+     * @return the translated text
+     */
+    public String translate() {
+        StringBuilder translated = new StringBuilder(this.text.length() + 16);
+        int end = 0;
+        for (Phrase phrase : this.phrases) {
+            translated.append(this.text, end, phrase.start);
+            translated.append(this.matchCase(phrase));
+            end = phrase.end;
+        }
+        return translated.append(this.text, end, this.text.length()).toString();
+    }
+
+    /**
+     * Build HTML for the translation service in which each phrase is replaced by its translation, wrapped in a span
+     * the translation service does not translate.
+     *
+     * @return the HTML
+     * @see #unprotect(String)
+     */
+    public String protect() {
+        StringBuilder html = new StringBuilder(this.text.length() + this.phrases.size() * 32);
+        int end = 0;
+        for (Phrase phrase : this.phrases) {
+            html.append(StringEscapeUtils.escapeHtml4(this.text.substring(end, phrase.start)));
+            html.append("<span translate=\"no\">")
+                    .append(StringEscapeUtils.escapeHtml4(this.matchCase(phrase)))
+                    .append("</span>");
+            end = phrase.end;
+        }
+        return html.append(StringEscapeUtils.escapeHtml4(this.text.substring(end))).toString();
+    }
+
+    /**
+     * Remove the protection of phrases from a translation of {@link #protect()}, once its HTML entities are decoded.
+     *
+     * @param translatedText - the translated text
+     * @return the translated text without the spans protecting phrases
+     */
+    public static String unprotect(String translatedText) {
+        return PROTECTED_PHRASE.matcher(translatedText).replaceAll("$1");
+    }
+
+    /**
+     * Helper method to return the translation of a phrase, capitalized if the phrase was, e.g. at the start of a
+     * sentence.
+     */
+    private String matchCase(Phrase phrase) {
+        String translation = phrase.translation;
+        if (translation.isEmpty() || !Character.isUpperCase(this.text.charAt(phrase.start))) {
+            return translation;
+        }
+        return Character.toUpperCase(translation.charAt(0)) + translation.substring(1);
+    }
+
+    /**
+     * A glossary phrase found in the text.
+     */
+    static final class Phrase {
+
+        /**
+         * The index of the first character of the phrase in the text.
+         */
+        final int start;
+
+        /**
+         * The index after the last character of the phrase in the text.
+         */
+        final int end;
+
+        /**
+         * The translation of the phrase.
+         */
+        final String translation;
+
+        Phrase(int start, int end, String translation) {
+            this.start = start;
+            this.end = end;
+            this.translation = translation;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.chattranslator.glossary;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trie of phrases keyed word by word, which finds the longest phrase starting at a word of tokenized text in one walk.
+ *
+ * @author agent
+ * @version October 2026
+ */
+final class PhraseTrie {
+
+    /**
+     * The root of the trie, which matches no words.
+     */
+    private final Node root = new Node();
+
+    /**
+     * The amount of phrases in the trie.
+     */
+    private int size = 0;
+
+    /**
+     * Add a phrase, replacing the translation of an identical phrase.
+     *
+     * @param words       - the lower case words of the phrase
+     * @param translation - the translation of the phrase
+     */
+    void put(List<String> words, String translation) {
+        Node node = this.root;
+        for (String word : words) {
+            node = node.children.computeIfAbsent(word, w -> new Node());
+        }
+        if (node.translation == null) {
+            this.size++;
+        }
+        node.translation = translation;
+    }
+
+    /**
+     * Find the longest phrase which starts at a word.
+     *
+     * @param words - the lower case words of the text
+     * @param start - the index of the word the phrase starts at
+     * @return the longest phrase, or null if no phrase starts at the word
+     */
+    @Nullable
+    Match longestMatch(List<String> words, int start) {
+        Match match = null;
+        Node node = this.root;
+        for (int i = start; i < words.size(); i++) {
+            node = node.children.get(words.get(i));
+            if (node == null) {
+                break;
+            }
+            if (node.translation != null) {
+                match = new Match(i - start + 1, node.translation);
+            }
+        }
+        return match;
+    }
+
+    /**
+     * @return the amount of phrases in the trie
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * A word of a phrase, and the words which may follow it.
+     */
+    private static final class Node {
+
+        /**
+         * The nodes of the words which may follow this one.
+         */
+        final Map<String, Node> children = new HashMap<>(4);
+
+        /**
+         * The translation of the phrase ending at this word, or null if no phrase ends here.
+         */
+        @Nullable
+        String translation = null;
+    }
+
+    /**
+     * A phrase found in text.
+     */
+    static final class Match {
+
+        /**
+         * The amount of words in the phrase.
+         */
+        final int length;
+
+        /**
+         * The translation of the phrase.
+         */
+        final String translation;
+
+        Match(int length, String translation) {
+            this.length = length;
+            this.translation = translation;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.chattranslator.jfr;
+
+/**
+ * Creates and commits the flight recorder events. This is the only class the traces call which refers to the flight
+ * recorder API, so it must only be used once {@link JfrSupport#isAvailable()}.
+ * <p>
+ * Events are handed to the traces as plain objects, so the traces load without the flight recorder API.
+ *
+ * @author agent
+ * @version October 2026
+ */
+final class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    /**
+     * @return a begun translation event, or null if the event is not being recorded
+     */
+    static Object beginTranslation() {
+        TranslationEvent event = new TranslationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commit a translation event.
+     *
+     * @param event - the event from {@link #beginTranslation()}
+     * @param trace - the stages of the translation
+     */
+    static void commitTranslation(Object event, TranslationTrace trace) {
+        TranslationEvent translationEvent = (TranslationEvent) event;
+        translationEvent.end();
+        if (!translationEvent.shouldCommit()) {
+            return;
+        }
+        translationEvent.textLength = trace.textLength;
+        translationEvent.sourceLanguage = trace.sourceLanguage;
+        translationEvent.targetLanguage = trace.targetLanguage;
+        translationEvent.cacheOutcome = trace.cacheOutcome;
+        translationEvent.queueDuration = trace.getQueueNanos();
+        translationEvent.httpDuration = trace.getHttpNanos();
+        translationEvent.parseDuration = trace.getParseNanos();
+        translationEvent.failure = trace.failure;
+        translationEvent.commit();
+    }
+
+    /**
+     * @return a begun menu translation event, or null if the event is not being recorded
+     */
+    static Object beginMenuTranslation() {
+        MenuTranslationEvent event = new MenuTranslationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commit a menu translation event.
+     *
+     * @param event - the event from {@link #beginMenuTranslation()}
+     * @param trace - the stages of the translation
+     */
+    static void commitMenuTranslation(Object event, MenuTranslationTrace trace) {
+        MenuTranslationEvent menuEvent = (MenuTranslationEvent) event;
+        menuEvent.end();
+        if (!menuEvent.shouldCommit()) {
+            return;
+        }
+        menuEvent.textLength = trace.textLength;
+        menuEvent.sourceLanguage = trace.sourceLanguage;
+        menuEvent.targetLanguage = trace.targetLanguage;
+        menuEvent.menuDuration = trace.getMenuNanos();
+        menuEvent.translateDuration = trace.getTranslateNanos();
+        menuEvent.clientThreadDuration = trace.getClientThreadNanos();
+        menuEvent.chatBoxDuration = trace.getChatBoxNanos();
+        menuEvent.failure = trace.failure;
+        menuEvent.commit();
+    }
+}
@@ -0,0 +1,55 @@
+package com.chattranslator.jfr;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks whether Java Flight Recorder events can be emitted. The flight recorder API is missing from Java 8 runtimes
+ * older than 8u262, so this class never refers to it; only {@link JfrEvents} does, and it is only loaded once the API
+ * is known to be present.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+final class JfrSupport {
+
+    /**
+     * Whether the flight recorder API is present. This is cleared if the events fail to load.
+     */
+    private static volatile boolean available = isPresent();
+
+    private JfrSupport() {
+    }
+
+    /**
+     * @return true if flight recorder events can be emitted, false otherwise
+     */
+    static boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * Stop emitting flight recorder events after they failed to load.
+     *
+     * @param e - the failure
+     */
+    static void disable(LinkageError e) {
+        if (available) {
+            available = false;
+            log.warn("Flight recorder events are unavailable", e);
+        }
+    }
+
+    /**
+     * Helper method to check whether the flight recorder API is present.
+     */
+    private static boolean isPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JfrSupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.debug("Flight recorder API not found, events are disabled");
+            return false;
+        }
+    }
+}
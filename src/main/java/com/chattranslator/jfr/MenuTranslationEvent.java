@@ -0,0 +1,60 @@
+package com.chattranslator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A flight recorder event for a translation requested from a chat line's menu, from the click until the translation is
+ * in the chat box.
+ *
+ * @author agent
+ * @version October 2026
+ * @see MenuTranslationTrace
+ */
+@Name("com.chattranslator.MenuTranslation")
+@Label("Menu Translation")
+@Category({"Chat Translator"})
+@Description("A translation requested from a chat line's menu, with the time spent in each stage")
+@StackTrace(false)
+final class MenuTranslationEvent extends Event {
+
+    @Label("Text Length")
+    @Description("The amount of characters translated")
+    int textLength;
+
+    @Label("Source Language")
+    @Description("The language translated from, or 'auto' if it is detected")
+    String sourceLanguage;
+
+    @Label("Target Language")
+    String targetLanguage;
+
+    @Label("Menu Duration")
+    @Description("Time handling the menu click until the translation was requested")
+    @Timespan(Timespan.NANOSECONDS)
+    long menuDuration;
+
+    @Label("Translate Duration")
+    @Description("Time until the translator returned the translation, see the Translation event for its stages")
+    @Timespan(Timespan.NANOSECONDS)
+    long translateDuration;
+
+    @Label("Client Thread Duration")
+    @Description("Time waiting for the client thread to run the invokeLater task")
+    @Timespan(Timespan.NANOSECONDS)
+    long clientThreadDuration;
+
+    @Label("Chat Box Duration")
+    @Description("Time formatting the translation and adding it to the chat box")
+    @Timespan(Timespan.NANOSECONDS)
+    long chatBoxDuration;
+
+    @Label("Failure")
+    @Description("The reason the translation failed, or null if it succeeded")
+    String failure;
+}
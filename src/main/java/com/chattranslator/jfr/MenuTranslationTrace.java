@@ -0,0 +1,156 @@
+package com.chattranslator.jfr;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Times the stages of a translation requested from a chat line's menu, from the click until the translation is in the
+ * chat box, and emits them as a flight recorder event. When the event is not being recorded, or the flight recorder is
+ * unavailable, tracing does nothing.
+ * <p>
+ * The click, the HTTP callback and the client thread each record their own stage in turn, so a trace needs no locking.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public final class MenuTranslationTrace {
+
+    /**
+     * A trace which records nothing.
+     */
+    private static final MenuTranslationTrace DISABLED = new MenuTranslationTrace(null, 0, null, "");
+
+    /**
+     * The flight recorder event, or null if nothing is recorded.
+     */
+    @Nullable
+    private final Object event;
+
+    final int textLength;
+    final String sourceLanguage;
+    final String targetLanguage;
+    String failure = null;
+
+    private final long clickedNanos;
+    private long requestedNanos;
+    private long translatedNanos;
+    private long clientThreadQueuedNanos;
+    private long clientThreadNanos;
+    private long endNanos;
+
+    private MenuTranslationTrace(@Nullable Object event, int textLength, @Nullable String sourceLanguage, @Nonnull String targetLanguage) {
+        this.event = event;
+        this.textLength = textLength;
+        this.sourceLanguage = sourceLanguage == null ? "auto" : sourceLanguage;
+        this.targetLanguage = targetLanguage;
+        this.clickedNanos = System.nanoTime();
+    }
+
+    /**
+     * Begin tracing a translation when its menu option is clicked.
+     *
+     * @param textLength     - the amount of characters translated
+     * @param sourceLanguage - the source language's code, or null if it is detected
+     * @param targetLanguage - the target language's code
+     * @return the trace
+     */
+    public static MenuTranslationTrace begin(int textLength, @Nullable String sourceLanguage, @Nonnull String targetLanguage) {
+        if (!JfrSupport.isAvailable()) {
+            return DISABLED;
+        }
+        try {
+            Object event = JfrEvents.beginMenuTranslation();
+            return event == null ? DISABLED : new MenuTranslationTrace(event, textLength, sourceLanguage, targetLanguage);
+        } catch (LinkageError e) {
+            JfrSupport.disable(e);
+            return DISABLED;
+        }
+    }
+
+    /**
+     * Record the translation being requested from the translator.
+     */
+    public void onRequested() {
+        if (this.event != null) {
+            this.requestedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Record the translator returning the translation.
+     */
+    public void onTranslated() {
+        if (this.event != null) {
+            this.translatedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Record the translation being handed to the client thread.
+     */
+    public void onClientThreadQueued() {
+        if (this.event != null) {
+            this.clientThreadQueuedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Record the client thread starting to add the translation to the chat box.
+     */
+    public void onClientThread() {
+        if (this.event != null) {
+            this.clientThreadNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * End the trace and emit its event.
+     *
+     * @param failure - the reason the translation failed, or null if it is in the chat box
+     */
+    public void end(@Nullable Throwable failure) {
+        if (this.event == null) {
+            return;
+        }
+        this.endNanos = System.nanoTime();
+        if (failure != null) {
+            this.failure = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        }
+        JfrEvents.commitMenuTranslation(this.event, this);
+    }
+
+    /**
+     * @return the time handling the click until the translation was requested, in nanoseconds
+     */
+    long getMenuNanos() {
+        return between(this.clickedNanos, this.requestedNanos);
+    }
+
+    /**
+     * @return the time until the translator returned the translation, in nanoseconds
+     */
+    long getTranslateNanos() {
+        return between(this.requestedNanos, this.translatedNanos);
+    }
+
+    /**
+     * @return the time waiting for the client thread, in nanoseconds
+     */
+    long getClientThreadNanos() {
+        return between(this.clientThreadQueuedNanos, this.clientThreadNanos);
+    }
+
+    /**
+     * @return the time adding the translation to the chat box, in nanoseconds
+     */
+    long getChatBoxNanos() {
+        return between(this.clientThreadNanos, this.endNanos);
+    }
+
+    /**
+     * Helper method to return the time between two stages, or 0 if either was not reached.
+     */
+    private static long between(long fromNanos, long toNanos) {
+        return fromNanos == 0 || toNanos == 0 ? 0 : toNanos - fromNanos;
+    }
+}
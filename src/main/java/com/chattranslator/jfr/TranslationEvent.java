@@ -0,0 +1,58 @@
+package com.chattranslator.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A flight recorder event for a call to translate text, from the call until its result is ready.
+ *
+ * @author agent
+ * @version October 2026
+ * @see TranslationTrace
+ */
+@Name("com.chattranslator.Translation")
+@Label("Translation")
+@Category({"Chat Translator"})
+@Description("A call to translate text, with the time spent in each stage")
+@StackTrace(false)
+final class TranslationEvent extends Event {
+
+    @Label("Text Length")
+    @Description("The amount of characters translated")
+    int textLength;
+
+    @Label("Source Language")
+    @Description("The language translated from, or 'auto' if it was detected by the translation service")
+    String sourceLanguage;
+
+    @Label("Target Language")
+    String targetLanguage;
+
+    @Label("Cache Outcome")
+    @Description("'hit' if served from the cache, 'miss' if sent, 'shared' if it joined an identical call in flight, 'skipped' if already in the target language, or 'glossary' if translated locally")
+    String cacheOutcome;
+
+    @Label("Queue Duration")
+    @Description("Time waiting for the rate limits to allow the call")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueDuration;
+
+    @Label("HTTP Duration")
+    @Description("Time from sending the request until the response arrived, including retries")
+    @Timespan(Timespan.NANOSECONDS)
+    long httpDuration;
+
+    @Label("Parse Duration")
+    @Description("Time parsing the response")
+    @Timespan(Timespan.NANOSECONDS)
+    long parseDuration;
+
+    @Label("Failure")
+    @Description("The reason the call failed, or null if it succeeded")
+    String failure;
+}
@@ -0,0 +1,165 @@
+package com.chattranslator.jfr;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Times a call to translate text through sending, receiving and parsing its request, and emits a
+ * {@link TranslationEvent} once the call completes. A trace begun while the event is disabled records nothing.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public final class TranslationTrace {
+
+    /**
+     * The translation was served from the cache.
+     */
+    public static final String CACHE_HIT = "hit";
+
+    /**
+     * The translation was sent to the translation service.
+     */
+    public static final String CACHE_MISS = "miss";
+
+    /**
+     * The translation joined an identical call already in flight.
+     */
+    public static final String CACHE_SHARED = "shared";
+
+    /**
+     * The text was already in the target language, so it was not translated.
+     */
+    public static final String CACHE_SKIPPED = "skipped";
+
+    /**
+     * The text was translated locally by the glossary.
+     */
+    public static final String CACHE_GLOSSARY = "glossary";
+
+    /**
+     * A trace which records nothing.
+     */
+    private static final TranslationTrace DISABLED = new TranslationTrace(null, 0, null, "");
+
+    /**
+     * The flight recorder event, or null if nothing is recorded.
+     */
+    @Nullable
+    private final Object event;
+
+    final int textLength;
+    final String sourceLanguage;
+    final String targetLanguage;
+    String cacheOutcome = CACHE_MISS;
+    String failure = null;
+
+    private final long startNanos;
+    private long sentNanos;
+    private long receivedNanos;
+    private long parsedNanos;
+
+    private TranslationTrace(@Nullable Object event, int textLength, @Nullable String sourceLanguage, @Nonnull String targetLanguage) {
+        this.event = event;
+        this.textLength = textLength;
+        this.sourceLanguage = sourceLanguage == null ? "auto" : sourceLanguage;
+        this.targetLanguage = targetLanguage;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Begin tracing a call to translate text.
+     *
+     * @param textLength     - the amount of characters translated
+     * @param sourceLanguage - the source language's code, or null if it is detected by the translation service
+     * @param targetLanguage - the target language's code
+     * @return the trace
+     */
+    public static TranslationTrace begin(int textLength, @Nullable String sourceLanguage, @Nonnull String targetLanguage) {
+        if (!JfrSupport.isAvailable()) {
+            return DISABLED;
+        }
+        try {
+            Object event = JfrEvents.beginTranslation();
+            return event == null ? DISABLED : new TranslationTrace(event, textLength, sourceLanguage, targetLanguage);
+        } catch (LinkageError e) {
+            JfrSupport.disable(e);
+            return DISABLED;
+        }
+    }
+
+    /**
+     * Record whether the translation came from the cache.
+     *
+     * @param cacheOutcome - one of {@link #CACHE_HIT}, {@link #CACHE_MISS}, {@link #CACHE_SHARED}, {@link #CACHE_SKIPPED}
+     *                     or {@link #CACHE_GLOSSARY}
+     */
+    public void setCacheOutcome(String cacheOutcome) {
+        if (this.event != null) {
+            this.cacheOutcome = cacheOutcome;
+        }
+    }
+
+    /**
+     * Record the request being sent, once the rate limits allowed it.
+     */
+    public void onSent() {
+        if (this.event != null) {
+            this.sentNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Record the response arriving, before it is parsed.
+     */
+    public void onReceived() {
+        if (this.event != null) {
+            this.receivedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Record the response being parsed.
+     */
+    public void onParsed() {
+        if (this.event != null) {
+            this.parsedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * End the trace and emit its event.
+     *
+     * @param failure - the reason the call failed, or null if it succeeded
+     */
+    public void end(@Nullable Throwable failure) {
+        if (this.event == null) {
+            return;
+        }
+        if (failure != null) {
+            this.failure = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        }
+        JfrEvents.commitTranslation(this.event, this);
+    }
+
+    /**
+     * @return the time waiting for the rate limits, in nanoseconds
+     */
+    long getQueueNanos() {
+        return this.sentNanos == 0 ? 0 : this.sentNanos - this.startNanos;
+    }
+
+    /**
+     * @return the time from sending the request until the response arrived, in nanoseconds
+     */
+    long getHttpNanos() {
+        return this.sentNanos == 0 || this.receivedNanos == 0 ? 0 : this.receivedNanos - this.sentNanos;
+    }
+
+    /**
+     * @return the time parsing the response, in nanoseconds
+     */
+    long getParseNanos() {
+        return this.receivedNanos == 0 || this.parsedNanos == 0 ? 0 : this.parsedNanos - this.receivedNanos;
+    }
+}
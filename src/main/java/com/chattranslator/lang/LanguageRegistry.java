@@ -0,0 +1,291 @@
+package com.chattranslator.lang;
+
+import com.chattranslator.backend.GoogleTranslationBackend;
+import com.chattranslator.data.GetSupportedLanguagesResponseLanguage;
+import com.chattranslator.data.GetSupportedLanguagesResponseList;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.RuneLite;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The languages supported by the translation API, indexed by language code. The languages are saved to disk whenever
+ * they are updated, so they are available at startup without calling the API until they need to be refreshed. Every
+ * translation backend supports different languages, so the languages are saved with the backend which returned them.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+@Singleton
+public class LanguageRegistry {
+
+    /**
+     * The file the languages are saved to.
+     */
+    private static final File LANGUAGES_FILE = new File(RuneLite.RUNELITE_DIR, "chat-translator/languages.json");
+
+    /**
+     * How long saved languages are used before they are requested from the API again.
+     */
+    private static final long REFRESH_INTERVAL_MILLIS = TimeUnit.DAYS.toMillis(7);
+
+    /**
+     * The file the languages are saved to.
+     */
+    private final File file;
+
+    /**
+     * The current languages. This is replaced as a whole, so readers always see a consistent index.
+     */
+    private volatile Index index = Index.EMPTY;
+
+    /**
+     * Construct an empty language registry.
+     */
+    @Inject
+    public LanguageRegistry() {
+        this(LANGUAGES_FILE);
+    }
+
+    /**
+     * Construct an empty language registry which saves languages to a file.
+     *
+     * @param file - the file the languages are saved to
+     */
+    LanguageRegistry(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Normalize a language code for comparison, e.g. 'zh-TW' to 'zh-tw'. Language codes are compared ignoring case,
+     * but are sent to the API as they were received.
+     *
+     * @param languageCode - the language code, or null
+     * @return the normalized language code, or null if the language code was null
+     */
+    public static @Nullable
+    String normalize(@Nullable String languageCode) {
+        return languageCode == null ? null : languageCode.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return the supported languages, or null if they are not known yet
+     */
+    public @Nullable
+    GetSupportedLanguagesResponseList getLanguages() {
+        return this.index.languages;
+    }
+
+    /**
+     * Return a supported language.
+     *
+     * @param languageCode - the language code, e.g. 'en', in any case
+     * @return the language, or null if it is not supported or the languages are not known yet
+     */
+    public @Nullable
+    GetSupportedLanguagesResponseLanguage get(@Nullable String languageCode) {
+        return languageCode == null ? null : this.index.languagesByCode.get(normalize(languageCode));
+    }
+
+    /**
+     * Return the name of a supported language.
+     *
+     * @param languageCode - the language code, e.g. 'en', in any case
+     * @return the name of the language, e.g. 'English', or null if it is not supported or the languages are not known yet
+     */
+    public @Nullable
+    String getName(@Nullable String languageCode) {
+        GetSupportedLanguagesResponseLanguage language = this.get(languageCode);
+        return language == null ? null : language.name;
+    }
+
+    /**
+     * @return true if the supported languages are not known yet, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.index.languages == null;
+    }
+
+    /**
+     * Return whether the supported languages were returned by a backend.
+     *
+     * @param backendId - the identifier of the translation backend
+     * @return true if the languages are known and were returned by the backend, false otherwise
+     */
+    public boolean isFrom(String backendId) {
+        Index index = this.index;
+        return index.languages != null && backendId.equals(index.backendId);
+    }
+
+    /**
+     * Return whether the supported languages need to be requested from a backend.
+     *
+     * @param backendId - the identifier of the translation backend in use
+     * @return true if the supported languages are not known yet, were returned by another backend, or are due to be
+     * requested again, false otherwise
+     */
+    public boolean needsRefresh(String backendId) {
+        Index index = this.index;
+        return index.languages == null
+                || !backendId.equals(index.backendId)
+                || System.currentTimeMillis() - index.updatedMillis > REFRESH_INTERVAL_MILLIS;
+    }
+
+    /**
+     * Replace the supported languages with ones returned by the API, and save them to disk.
+     *
+     * @param languages - the supported languages
+     * @param backendId - the identifier of the translation backend which returned them
+     */
+    public void update(GetSupportedLanguagesResponseList languages, String backendId) {
+        Index index = new Index(languages, backendId, System.currentTimeMillis());
+        this.index = index;
+        try {
+            this.save(index);
+        } catch (IOException e) {
+            log.warn("Could not save supported languages", e);
+        }
+    }
+
+    /**
+     * Load the supported languages saved to disk, if any.
+     *
+     * @return true if saved languages were loaded, false otherwise
+     */
+    public boolean load() {
+        if (!this.file.exists()) {
+            return false;
+        }
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(this.file.toPath(), StandardCharsets.UTF_8))) {
+            long updatedMillis = 0;
+            String backendId = GoogleTranslationBackend.ID; // Languages were only returned by Google before backends
+            GetSupportedLanguagesResponseList languages = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "updated":
+                        updatedMillis = reader.nextLong();
+                        break;
+                    case "backend":
+                        backendId = reader.nextString();
+                        break;
+                    case "data":
+                        languages = GetSupportedLanguagesResponseList.fromJSON(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            if (languages == null || languages.languages.length == 0) {
+                return false;
+            }
+            this.index = new Index(languages, backendId, updatedMillis);
+            log.debug("Loaded " + languages.languages.length + " saved languages");
+            return true;
+        } catch (Exception e) {
+            log.warn("Could not load saved languages", e);
+            return false;
+        }
+    }
+
+    /**
+     * Helper method to save languages to disk, e.g.
+     * <pre>{"updated": millis, "backend": string, "data": {"languages": [{"language": string, "name": string}]}}</pre>
+     */
+    private synchronized void save(Index index) throws IOException {
+        File parent = this.file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Could not create directory " + parent);
+        }
+
+        File saved = new File(this.file.getPath() + ".tmp");
+        try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(saved.toPath(), StandardCharsets.UTF_8))) {
+            writer.beginObject();
+            writer.name("updated").value(index.updatedMillis);
+            writer.name("backend").value(index.backendId);
+            writer.name("data").beginObject();
+            writer.name("languages").beginArray();
+            for (GetSupportedLanguagesResponseLanguage language : index.languages.languages) {
+                writer.beginObject();
+                writer.name("language").value(language.language);
+                writer.name("name").value(language.name);
+                writer.endObject();
+            }
+            writer.endArray();
+            writer.endObject();
+            writer.endObject();
+        }
+        try {
+            Files.move(saved.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(saved.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * An immutable index of the supported languages.
+     */
+    private static final class Index {
+
+        /**
+         * An index without any languages.
+         */
+        static final Index EMPTY = new Index();
+
+        /**
+         * The supported languages, or null if they are not known.
+         */
+        final @Nullable GetSupportedLanguagesResponseList languages;
+
+        /**
+         * The supported languages keyed by their interned, normalized language code.
+         */
+        final Map<String, GetSupportedLanguagesResponseLanguage> languagesByCode;
+
+        /**
+         * The identifier of the translation backend which returned the languages, or null if they are not known.
+         */
+        final @Nullable String backendId;
+
+        /**
+         * When the languages were returned by the API, in epoch milliseconds.
+         */
+        final long updatedMillis;
+
+        private Index() {
+            this.languages = null;
+            this.languagesByCode = Collections.emptyMap();
+            this.backendId = null;
+            this.updatedMillis = 0;
+        }
+
+        Index(GetSupportedLanguagesResponseList languages, String backendId, long updatedMillis) {
+            Map<String, GetSupportedLanguagesResponseLanguage> languagesByCode = new HashMap<>(languages.languages.length * 4 / 3 + 1);
+            for (GetSupportedLanguagesResponseLanguage language : languages.languages) {
+                languagesByCode.putIfAbsent(normalize(language.language).intern(), language);
+            }
+            this.languages = languages;
+            this.languagesByCode = Collections.unmodifiableMap(languagesByCode);
+            this.backendId = backendId;
+            this.updatedMillis = updatedMillis;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.chattranslator.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies, which can be recorded from any thread without locking.
+ * <p>
+ * Latencies are counted in microsecond buckets which split every power of two into four, so a percentile is accurate to
+ * within 25% of the latency, while the histogram stays a fixed size.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The amount of buckets, which covers latencies up to 2^40 microseconds (about 12 days).
+     */
+    private static final int BUCKETS = 160;
+
+    /**
+     * The amount of latencies recorded in each bucket.
+     */
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    /**
+     * The amount of latencies recorded.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The sum of the latencies recorded, in microseconds.
+     */
+    private final LongAdder totalMicros = new LongAdder();
+
+    /**
+     * The longest latency recorded, in microseconds.
+     */
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Construct an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos - the latency, in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        this.buckets[bucketOf(micros)].increment();
+        this.count.increment();
+        this.totalMicros.add(micros);
+        this.maxMicros.accumulate(micros);
+    }
+
+    /**
+     * @return the amount of latencies recorded
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * @return the mean latency in milliseconds, or 0 if none were recorded
+     */
+    public double getMeanMillis() {
+        long count = this.count.sum();
+        return count == 0 ? 0 : this.totalMicros.sum() / 1000.0 / count;
+    }
+
+    /**
+     * @return the longest latency in milliseconds, or 0 if none were recorded
+     */
+    public double getMaxMillis() {
+        return this.maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * Return a percentile of the latencies, e.g. the 0.99 percentile is the latency 99% of latencies are within.
+     *
+     * @param percentile - the percentile, from 0 to 1
+     * @return the latency in milliseconds, or 0 if none were recorded
+     */
+    public double getPercentileMillis(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(1, Math.max(0, percentile)) * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), this.maxMicros.get()) / 1000.0;
+            }
+        }
+        return this.getMaxMillis();
+    }
+
+    /**
+     * Forget every latency recorded. Latencies recorded while resetting may be partly forgotten.
+     */
+    public void reset() {
+        for (LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+        this.count.reset();
+        this.totalMicros.reset();
+        this.maxMicros.reset();
+    }
+
+    /**
+     * Helper method to return the bucket a latency is counted in.
+     */
+    private static int bucketOf(long micros) {
+        if (micros < 4) {
+            return (int) micros;
+        }
+        // The power of two, and the next two bits below it
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int fraction = (int) (micros >>> (exponent - 2)) & 3;
+        return Math.min(BUCKETS - 1, 4 * (exponent - 1) + fraction);
+    }
+
+    /**
+     * Helper method to return the longest latency counted in a bucket, in microseconds.
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < 4) {
+            return bucket;
+        }
+        int exponent = bucket / 4 + 1;
+        int fraction = bucket % 4;
+        return ((4L + fraction + 1) << (exponent - 2)) - 1;
+    }
+}
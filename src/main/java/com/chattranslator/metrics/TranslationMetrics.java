@@ -0,0 +1,281 @@
+package com.chattranslator.metrics;
+
+import com.chattranslator.quota.QuotaGovernor;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histograms of the translator, shown in the side panel and exposed over JMX as
+ * {@value #OBJECT_NAME}. Everything is recorded without locking, so recording is cheap enough for every call.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+@Singleton
+public class TranslationMetrics implements TranslationMetricsMBean {
+
+    /**
+     * The name the metrics are registered under over JMX.
+     */
+    public static final String OBJECT_NAME = "com.chattranslator:type=TranslationMetrics";
+
+    /**
+     * Counts the calls waiting for the quota.
+     */
+    @Inject
+    private QuotaGovernor quota;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder refusals = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder charactersSent = new LongAdder();
+    private final LongAdder callsInFlight = new LongAdder();
+    private final LongAdder authentications = new LongAdder();
+    private final LongAdder authenticationFailures = new LongAdder();
+
+    /**
+     * The latency of translation calls, from the first request until the call completes, including retries.
+     */
+    public final LatencyHistogram translateLatency = new LatencyHistogram();
+
+    /**
+     * The latency of authentication calls.
+     */
+    public final LatencyHistogram authenticateLatency = new LatencyHistogram();
+
+    /**
+     * The time taken to format a translation and send it to the chat box.
+     */
+    public final LatencyHistogram formatLatency = new LatencyHistogram();
+
+    /**
+     * Record an HTTP request sent to the translation service.
+     *
+     * @param retry - whether the request retries a failed request
+     */
+    public void onRequest(boolean retry) {
+        this.requests.increment();
+        if (retry) {
+            this.retries.increment();
+        }
+    }
+
+    /**
+     * Record a call to the translation service being sent.
+     */
+    public void onCallStarted() {
+        this.callsInFlight.increment();
+    }
+
+    /**
+     * Record a call to the translation service completing.
+     *
+     * @param failed - whether the call failed
+     */
+    public void onCallCompleted(boolean failed) {
+        this.callsInFlight.decrement();
+        this.calls.increment();
+        if (failed) {
+            this.failures.increment();
+        }
+    }
+
+    /**
+     * Record a call to the translation service being cancelled before it completed.
+     */
+    public void onCallCancelled() {
+        this.callsInFlight.decrement();
+    }
+
+    /**
+     * Record a call refused by the quota, or while the translation service is down.
+     */
+    public void onRefused() {
+        this.refusals.increment();
+    }
+
+    /**
+     * Record a translation served from the cache.
+     */
+    public void onCacheHit() {
+        this.cacheHits.increment();
+    }
+
+    /**
+     * Record characters sent for translation.
+     *
+     * @param characters - the amount of characters
+     */
+    public void onCharactersSent(int characters) {
+        this.charactersSent.add(characters);
+    }
+
+    /**
+     * Record the result of an authentication.
+     *
+     * @param authenticated - whether the authentication succeeded
+     */
+    public void onAuthenticated(boolean authenticated) {
+        (authenticated ? this.authentications : this.authenticationFailures).increment();
+    }
+
+    /**
+     * Register the metrics over JMX, replacing metrics registered by an earlier start of the plugin.
+     */
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+        } catch (JMException e) {
+            log.warn("Could not register translation metrics", e);
+        }
+    }
+
+    /**
+     * Unregister the metrics from JMX.
+     */
+    public void unregisterMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            log.warn("Could not unregister translation metrics", e);
+        }
+    }
+
+    @Override
+    public long getRequests() {
+        return this.requests.sum();
+    }
+
+    @Override
+    public long getRetries() {
+        return this.retries.sum();
+    }
+
+    @Override
+    public long getCalls() {
+        return this.calls.sum();
+    }
+
+    @Override
+    public long getFailures() {
+        return this.failures.sum();
+    }
+
+    @Override
+    public double getErrorRate() {
+        long calls = this.calls.sum();
+        return calls == 0 ? 0 : (double) this.failures.sum() / calls;
+    }
+
+    @Override
+    public long getRefusals() {
+        return this.refusals.sum();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return this.cacheHits.sum();
+    }
+
+    @Override
+    public long getCharactersSent() {
+        return this.charactersSent.sum();
+    }
+
+    @Override
+    public long getCallsInFlight() {
+        return Math.max(0, this.callsInFlight.sum());
+    }
+
+    @Override
+    public int getQueuedCalls() {
+        return this.quota.getQueued();
+    }
+
+    @Override
+    public long getAuthentications() {
+        return this.authentications.sum();
+    }
+
+    @Override
+    public long getAuthenticationFailures() {
+        return this.authenticationFailures.sum();
+    }
+
+    @Override
+    public double getTranslateLatencyP50Millis() {
+        return this.translateLatency.getPercentileMillis(0.5);
+    }
+
+    @Override
+    public double getTranslateLatencyP95Millis() {
+        return this.translateLatency.getPercentileMillis(0.95);
+    }
+
+    @Override
+    public double getTranslateLatencyP99Millis() {
+        return this.translateLatency.getPercentileMillis(0.99);
+    }
+
+    @Override
+    public double getTranslateLatencyMaxMillis() {
+        return this.translateLatency.getMaxMillis();
+    }
+
+    @Override
+    public double getAuthenticateLatencyP50Millis() {
+        return this.authenticateLatency.getPercentileMillis(0.5);
+    }
+
+    @Override
+    public double getAuthenticateLatencyP99Millis() {
+        return this.authenticateLatency.getPercentileMillis(0.99);
+    }
+
+    @Override
+    public double getFormatLatencyP50Millis() {
+        return this.formatLatency.getPercentileMillis(0.5);
+    }
+
+    @Override
+    public double getFormatLatencyP99Millis() {
+        return this.formatLatency.getPercentileMillis(0.99);
+    }
+
+    @Override
+    public void reset() {
+        // Calls in flight are not reset, as they are still counted down when they complete
+        this.requests.reset();
+        this.retries.reset();
+        this.calls.reset();
+        this.failures.reset();
+        this.refusals.reset();
+        this.cacheHits.reset();
+        this.charactersSent.reset();
+        this.authentications.reset();
+        this.authenticationFailures.reset();
+        this.translateLatency.reset();
+        this.authenticateLatency.reset();
+        this.formatLatency.reset();
+    }
+}
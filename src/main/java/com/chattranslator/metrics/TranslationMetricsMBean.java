@@ -0,0 +1,115 @@
+package com.chattranslator.metrics;
+
+/**
+ * The management interface of the {@link TranslationMetrics}, which exposes them over JMX, e.g. to JConsole or VisualVM.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public interface TranslationMetricsMBean {
+
+    /**
+     * @return the amount of HTTP requests sent to the translation service, including retries
+     */
+    long getRequests();
+
+    /**
+     * @return the amount of requests which were retries of a failed request
+     */
+    long getRetries();
+
+    /**
+     * @return the amount of calls to the translation service which completed, successfully or not
+     */
+    long getCalls();
+
+    /**
+     * @return the amount of calls to the translation service which failed
+     */
+    long getFailures();
+
+    /**
+     * @return the fraction of completed calls which failed, from 0 to 1
+     */
+    double getErrorRate();
+
+    /**
+     * @return the amount of calls refused by the quota or while the translation service is down
+     */
+    long getRefusals();
+
+    /**
+     * @return the amount of translations served from the cache
+     */
+    long getCacheHits();
+
+    /**
+     * @return the amount of characters sent for translation
+     */
+    long getCharactersSent();
+
+    /**
+     * @return the amount of calls currently sent and waiting for a response
+     */
+    long getCallsInFlight();
+
+    /**
+     * @return the amount of calls waiting for the quota
+     */
+    int getQueuedCalls();
+
+    /**
+     * @return the amount of successful authentications
+     */
+    long getAuthentications();
+
+    /**
+     * @return the amount of failed authentications
+     */
+    long getAuthenticationFailures();
+
+    /**
+     * @return the median latency of translation calls, in milliseconds
+     */
+    double getTranslateLatencyP50Millis();
+
+    /**
+     * @return the 95th percentile latency of translation calls, in milliseconds
+     */
+    double getTranslateLatencyP95Millis();
+
+    /**
+     * @return the 99th percentile latency of translation calls, in milliseconds
+     */
+    double getTranslateLatencyP99Millis();
+
+    /**
+     * @return the longest latency of a translation call, in milliseconds
+     */
+    double getTranslateLatencyMaxMillis();
+
+    /**
+     * @return the median latency of authentication calls, in milliseconds
+     */
+    double getAuthenticateLatencyP50Millis();
+
+    /**
+     * @return the 99th percentile latency of authentication calls, in milliseconds
+     */
+    double getAuthenticateLatencyP99Millis();
+
+    /**
+     * @return the median time taken to format a translation for the chat box, in milliseconds
+     */
+    double getFormatLatencyP50Millis();
+
+    /**
+     * @return the 99th percentile time taken to format a translation for the chat box, in milliseconds
+     */
+    double getFormatLatencyP99Millis();
+
+    /**
+     * Reset every counter and histogram.
+     */
+    void reset();
+}
@@ -0,0 +1,372 @@
+package com.chattranslator.quota;
+
+import com.chattranslator.ChatTranslatorConfig;
+import com.chattranslator.ex.TranslationQuotaException;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Governs how much is sent to the translation API. Calls are limited to a rate of requests per second and characters
+ * per minute, and to a budget of characters per day, which is saved in the config so it holds across sessions.
+ * <p>
+ * Calls over the rate limits are queued until the limits allow them, in the order they were made. Calls which can't be
+ * queued, or which would exceed the daily budget, are refused with a {@link TranslationQuotaException}, so callers can fall
+ * back to cached translations.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+@Singleton
+public class QuotaGovernor {
+
+    /**
+     * The maximum amount of calls waiting for the rate limits.
+     */
+    private static final int MAX_QUEUED = 64;
+
+    /**
+     * The time zone Google resets daily quotas in.
+     */
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("America/Los_Angeles");
+
+    /**
+     * Why calls are refused once the daily budget is spent.
+     */
+    private static final String BUDGET_SPENT_MESSAGE = "Your daily translation budget is spent. Only previously translated lines can be shown.";
+
+    /**
+     * Why calls are refused while the queue is full.
+     */
+    private static final String QUEUE_FULL_MESSAGE = "Too many translations at once. Try again shortly.";
+
+    /**
+     * How long after characters are counted the count is saved, so a burst of calls is saved once.
+     */
+    private static final long SAVE_DELAY_SECONDS = 5;
+
+    /**
+     * The configuration of the plugin, which holds the limits and the characters sent today.
+     */
+    @Inject
+    private ChatTranslatorConfig config;
+
+    /**
+     * Waits until the rate limits allow queued calls.
+     */
+    @Inject
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Limits the requests per second.
+     */
+    private final TokenBucket requests = new TokenBucket(0, 1, TimeUnit.SECONDS, System.nanoTime());
+
+    /**
+     * Limits the characters per minute.
+     */
+    private final TokenBucket characters = new TokenBucket(0, 1, TimeUnit.MINUTES, System.nanoTime());
+
+    /**
+     * The calls waiting for the rate limits, oldest first.
+     */
+    private final ArrayDeque<Permit> queue = new ArrayDeque<>();
+
+    /**
+     * The scheduled check of the queue, or null if none is scheduled.
+     */
+    private Future<?> scheduledDrain = null;
+
+    /**
+     * The scheduled save of the characters sent today, or null if none is scheduled.
+     */
+    private Future<?> scheduledSave = null;
+
+    /**
+     * Serializes saves of the characters sent today, so an older count never overwrites a newer one.
+     */
+    private final Object saveLock = new Object();
+
+    /**
+     * The day the characters sent were last saved on, or null if they were not saved. This is guarded by the save lock.
+     */
+    private LocalDate savedDay = null;
+
+    /**
+     * The amount of characters last saved for the saved day. This is guarded by the save lock.
+     */
+    private long savedToday = 0;
+
+    /**
+     * The maximum amount of characters sent per day, or 0 if unlimited.
+     */
+    private long dailyBudget = 0;
+
+    /**
+     * The day the characters sent were counted on, or null before the count is loaded from the config.
+     */
+    private LocalDate day = null;
+
+    /**
+     * The amount of characters sent on the day.
+     */
+    private long sentToday = 0;
+
+    /**
+     * Apply the latest limits from the config. Calls waiting in the queue are checked against the new limits.
+     */
+    public void applyConfig() {
+        synchronized (this) {
+            long now = System.nanoTime();
+            this.requests.resize(this.config.requestsPerSecond(), 1, TimeUnit.SECONDS, now);
+            this.characters.resize(this.config.charactersPerMinute(), 1, TimeUnit.MINUTES, now);
+            this.dailyBudget = Math.max(0, this.config.dailyCharacterBudget());
+            if (this.day == null) {
+                this.loadUsage();
+            }
+        }
+        this.drain();
+    }
+
+    /**
+     * Wait for the limits to allow a call, then count it against them.
+     *
+     * @param amount - the amount of characters the call sends
+     * @return a future which completes once the call may be sent, or completes exceptionally with a
+     * {@link TranslationQuotaException} if the call is refused. Cancelling the future gives up its place in the queue.
+     */
+    public CompletableFuture<Void> acquire(int amount) {
+        final Permit permit = new Permit(amount);
+        synchronized (this) {
+            final long now = System.nanoTime();
+            if (!this.hasBudget(amount)) {
+                log.debug("Daily character budget reached, refused " + amount + " characters");
+                permit.refusal = new TranslationQuotaException(BUDGET_SPENT_MESSAGE);
+            } else if (this.queue.isEmpty() && this.nanosUntilAvailable(amount, now) == 0) {
+                this.take(amount, now);
+            } else if (this.queue.size() >= MAX_QUEUED) {
+                log.debug("Rate limit queue full, refused " + amount + " characters");
+                permit.refusal = new TranslationQuotaException(QUEUE_FULL_MESSAGE);
+            } else {
+                this.queue.addLast(permit);
+                this.scheduleDrain(now);
+                return permit.future;
+            }
+        }
+        permit.grant();
+        return permit.future;
+    }
+
+    /**
+     * @return the amount of characters sent today
+     */
+    public synchronized long getSentToday() {
+        this.rollOver();
+        return this.sentToday;
+    }
+
+    /**
+     * @return the maximum amount of characters sent per day, or 0 if unlimited
+     */
+    public synchronized long getDailyBudget() {
+        return this.dailyBudget;
+    }
+
+    /**
+     * @return the amount of calls waiting in the queue
+     */
+    public synchronized int getQueued() {
+        return this.queue.size();
+    }
+
+    /**
+     * Save the characters sent today without waiting for the scheduled save, e.g. when the plugin shuts down.
+     */
+    public void saveNow() {
+        synchronized (this) {
+            if (this.scheduledSave != null) {
+                this.scheduledSave.cancel(false);
+                this.scheduledSave = null;
+            }
+        }
+        this.saveUsage();
+    }
+
+    /**
+     * Helper method to allow queued calls once the rate limits do.
+     */
+    private void drain() {
+        final List<Permit> ready = new ArrayList<>();
+        synchronized (this) {
+            if (this.scheduledDrain != null) {
+                this.scheduledDrain.cancel(false);
+                this.scheduledDrain = null;
+            }
+            final long now = System.nanoTime();
+            Iterator<Permit> iterator = this.queue.iterator();
+            while (iterator.hasNext()) {
+                Permit permit = iterator.next();
+                if (permit.future.isDone()) {
+                    iterator.remove(); // Cancelled while waiting
+                } else if (!this.hasBudget(permit.amount)) {
+                    iterator.remove();
+                    permit.refusal = new TranslationQuotaException(BUDGET_SPENT_MESSAGE);
+                    ready.add(permit);
+                } else if (this.nanosUntilAvailable(permit.amount, now) == 0) {
+                    iterator.remove();
+                    this.take(permit.amount, now);
+                    ready.add(permit);
+                } else {
+                    break;
+                }
+            }
+            this.scheduleDrain(now);
+        }
+        // Complete outside of the lock, as the calls start from the completion
+        ready.forEach(Permit::grant);
+    }
+
+    /**
+     * Helper method to schedule the next check of the queue for when its oldest call is allowed.
+     */
+    private void scheduleDrain(long nowNanos) {
+        if (this.scheduledDrain != null || this.queue.isEmpty()) {
+            return;
+        }
+        long delay = Math.max(1, this.nanosUntilAvailable(this.queue.peekFirst().amount, nowNanos));
+        this.scheduledDrain = this.scheduler.schedule(this::drain, delay, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Helper method to return how long until the rate limits allow a call.
+     */
+    private long nanosUntilAvailable(int amount, long nowNanos) {
+        return Math.max(this.requests.nanosUntilAvailable(1, nowNanos),
+                this.characters.nanosUntilAvailable(amount, nowNanos));
+    }
+
+    /**
+     * Helper method to return whether the daily budget allows a call.
+     */
+    private boolean hasBudget(int amount) {
+        this.rollOver();
+        return this.dailyBudget <= 0 || this.sentToday + amount <= this.dailyBudget;
+    }
+
+    /**
+     * Helper method to count a call against the limits.
+     */
+    private void take(int amount, long nowNanos) {
+        this.requests.take(1, nowNanos);
+        this.characters.take(amount, nowNanos);
+        this.sentToday += amount;
+        if (this.scheduledSave == null) {
+            this.scheduledSave = this.scheduler.schedule(this::saveUsage, SAVE_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Helper method to save the characters sent today to the config, so the budget holds across sessions. Saving
+     * notifies config listeners, so it is done outside of the lock guarding the limits.
+     */
+    private void saveUsage() {
+        synchronized (this.saveLock) {
+            final LocalDate day;
+            final long sentToday;
+            synchronized (this) {
+                this.scheduledSave = null;
+                if (this.day == null) {
+                    return;
+                }
+                day = this.day;
+                sentToday = this.sentToday;
+            }
+            // Counts only grow during a day, and are read in the order they are saved
+            if (day.equals(this.savedDay) && sentToday <= this.savedToday) {
+                return;
+            }
+            this.config.quotaDay(day.toString());
+            this.config.quotaDayCharacters((int) Math.min(Integer.MAX_VALUE, sentToday));
+            this.savedDay = day;
+            this.savedToday = sentToday;
+        }
+    }
+
+    /**
+     * Helper method to start counting characters again once the day changes.
+     */
+    private void rollOver() {
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        if (!today.equals(this.day)) {
+            this.day = today;
+            this.sentToday = 0;
+        }
+    }
+
+    /**
+     * Helper method to load the characters sent today from the config.
+     */
+    private void loadUsage() {
+        this.rollOver();
+        String savedDay = this.config.quotaDay();
+        if (savedDay == null) {
+            return;
+        }
+        try {
+            if (LocalDate.parse(savedDay).equals(this.day)) {
+                this.sentToday = Math.max(0, this.config.quotaDayCharacters());
+            }
+        } catch (DateTimeParseException e) {
+            log.debug("Ignored saved quota day '" + savedDay + "'");
+        }
+    }
+
+    /**
+     * A call waiting for the limits.
+     */
+    private static final class Permit {
+
+        /**
+         * The amount of characters the call sends.
+         */
+        final int amount;
+
+        /**
+         * Completes once the call may be sent.
+         */
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        /**
+         * Why the call was refused, or null if it was allowed.
+         */
+        TranslationQuotaException refusal = null;
+
+        Permit(int amount) {
+            this.amount = amount;
+        }
+
+        /**
+         * Complete the future with the outcome of the call.
+         */
+        void grant() {
+            if (this.refusal != null) {
+                this.future.completeExceptionally(this.refusal);
+            } else {
+                this.future.complete(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.chattranslator.quota;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket, which holds up to a capacity of tokens and refills it evenly over a period. Work is allowed once the
+ * bucket holds enough tokens for it, so bursts up to the capacity pass immediately, and the long running rate never
+ * exceeds the capacity per period.
+ * <p>
+ * Work larger than the capacity is allowed once the bucket is full, leaving the bucket in debt until it refills. The
+ * bucket is not thread safe, and must be guarded by its owner.
+ *
+ * @author agent
+ * @version October 2026
+ */
+final class TokenBucket {
+
+    /**
+     * The maximum amount of tokens held, or 0 if the bucket is unlimited.
+     */
+    private long capacity;
+
+    /**
+     * The amount of tokens refilled per nanosecond.
+     */
+    private double tokensPerNano;
+
+    /**
+     * The amount of tokens held, which is negative while the bucket is in debt.
+     */
+    private double tokens;
+
+    /**
+     * When the tokens were last refilled, in {@link System#nanoTime()}.
+     */
+    private long refilledNanos;
+
+    /**
+     * Create a full token bucket.
+     *
+     * @param capacity    - the maximum amount of tokens held, or 0 for an unlimited bucket
+     * @param period      - how long the bucket takes to refill from empty
+     * @param periodUnits - the units of the period
+     * @param nowNanos    - the current {@link System#nanoTime()}
+     */
+    TokenBucket(long capacity, long period, TimeUnit periodUnits, long nowNanos) {
+        this.resize(capacity, period, periodUnits, nowNanos);
+    }
+
+    /**
+     * Change the rate of the bucket. Tokens held are kept, up to the new capacity.
+     *
+     * @param capacity    - the maximum amount of tokens held, or 0 for an unlimited bucket
+     * @param period      - how long the bucket takes to refill from empty
+     * @param periodUnits - the units of the period
+     * @param nowNanos    - the current {@link System#nanoTime()}
+     */
+    void resize(long capacity, long period, TimeUnit periodUnits, long nowNanos) {
+        boolean wasUnlimited = this.isUnlimited();
+        this.refill(nowNanos);
+        this.capacity = Math.max(0, capacity);
+        this.tokensPerNano = (double) this.capacity / Math.max(1, periodUnits.toNanos(period));
+        this.tokens = wasUnlimited ? this.capacity : Math.min(this.tokens, this.capacity);
+        this.refilledNanos = nowNanos;
+    }
+
+    /**
+     * @return true if the bucket never holds work back, false otherwise
+     */
+    boolean isUnlimited() {
+        return this.capacity <= 0;
+    }
+
+    /**
+     * Return how long until the bucket holds enough tokens for some work.
+     *
+     * @param amount   - the amount of tokens the work needs
+     * @param nowNanos - the current {@link System#nanoTime()}
+     * @return the nanoseconds to wait, or 0 if the work may start now
+     */
+    long nanosUntilAvailable(long amount, long nowNanos) {
+        if (this.isUnlimited()) {
+            return 0;
+        }
+        this.refill(nowNanos);
+        double missing = Math.min(amount, this.capacity) - this.tokens;
+        return missing <= 0 ? 0 : (long) Math.ceil(missing / this.tokensPerNano);
+    }
+
+    /**
+     * Take tokens for some work. This should only be called once {@link #nanosUntilAvailable(long, long)} is 0.
+     *
+     * @param amount   - the amount of tokens the work needs
+     * @param nowNanos - the current {@link System#nanoTime()}
+     */
+    void take(long amount, long nowNanos) {
+        if (this.isUnlimited()) {
+            return;
+        }
+        this.refill(nowNanos);
+        this.tokens -= amount;
+    }
+
+    /**
+     * Helper method to add the tokens refilled since the last refill.
+     */
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - this.refilledNanos;
+        if (elapsed > 0) {
+            this.tokens = Math.min(this.capacity, this.tokens + elapsed * this.tokensPerNano);
+            this.refilledNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.chattranslator.retry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A circuit breaker, which stops calls to a service that keeps failing, so an outage fails fast rather than waiting on
+ * calls bound to fail.
+ * <p>
+ * The circuit starts {@link State#CLOSED}, letting every call through. Once enough calls fail in a row it opens, and
+ * refuses every call for a while. After that it is {@link State#HALF_OPEN}, and lets a single trial call through, which
+ * closes the circuit if it succeeds, or opens it again if it fails.
+ *
+ * @author agent
+ * @version October 2026
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    /**
+     * The states of a circuit.
+     */
+    public enum State {
+        /**
+         * Calls are let through.
+         */
+        CLOSED,
+        /**
+         * Calls are refused.
+         */
+        OPEN,
+        /**
+         * A single trial call is let through.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * The amount of calls which must fail in a row to open the circuit.
+     */
+    private final int failureThreshold;
+
+    /**
+     * How long the circuit stays open in nanoseconds.
+     */
+    private final long openNanos;
+
+    /**
+     * The amount of calls which failed in a row.
+     */
+    private int failures = 0;
+
+    /**
+     * When the circuit opened, in {@link System#nanoTime()}.
+     */
+    private long openedNanos = 0;
+
+    /**
+     * Whether the circuit is open. It is half open once it has been open for long enough.
+     */
+    private boolean open = false;
+
+    /**
+     * Whether a trial call is in flight while the circuit is half open.
+     */
+    private boolean trialInFlight = false;
+
+    /**
+     * Construct a closed circuit breaker.
+     *
+     * @param failureThreshold - the amount of calls which must fail in a row to open the circuit
+     * @param openDuration     - how long the circuit stays open before a trial call is let through
+     * @param openUnits        - the units of the open duration
+     */
+    public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit openUnits) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openUnits.toNanos(openDuration);
+    }
+
+    /**
+     * @return the state of the circuit
+     */
+    public synchronized State getState() {
+        if (!this.open) {
+            return State.CLOSED;
+        }
+        return System.nanoTime() - this.openedNanos < this.openNanos ? State.OPEN : State.HALF_OPEN;
+    }
+
+    /**
+     * @return true if calls are currently refused, false otherwise
+     */
+    public boolean isOpen() {
+        return this.getState() == State.OPEN;
+    }
+
+    /**
+     * Ask to make a call. Every call let through must be followed by one of {@link #onSuccess()},
+     * {@link #onFailure()} or {@link #onAbandoned()}.
+     *
+     * @return true if the call may be made, false if it is refused
+     */
+    public synchronized boolean tryAcquire() {
+        switch (this.getState()) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (this.trialInFlight) {
+                    return false;
+                }
+                this.trialInFlight = true;
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Record a call which succeeded, closing the circuit.
+     */
+    public synchronized void onSuccess() {
+        if (this.open) {
+            log.info("Translation API recovered, resuming calls");
+        }
+        this.failures = 0;
+        this.open = false;
+        this.trialInFlight = false;
+    }
+
+    /**
+     * Record a call which failed, opening the circuit if enough calls failed in a row, or if the trial call failed.
+     */
+    public synchronized void onFailure() {
+        this.failures++;
+        if (this.trialInFlight || (!this.open && this.failures >= this.failureThreshold)) {
+            log.warn("Translation API failed " + this.failures + " times in a row, pausing calls for "
+                    + TimeUnit.NANOSECONDS.toSeconds(this.openNanos) + " seconds");
+            this.open = true;
+            this.openedNanos = System.nanoTime();
+        }
+        this.trialInFlight = false;
+    }
+
+    /**
+     * Record a call which was abandoned before it succeeded or failed, e.g. because it was cancelled.
+     */
+    public synchronized void onAbandoned() {
+        this.trialInFlight = false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.chattranslator.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether and when a failed call is tried again. The delay between attempts grows exponentially up to a cap, and
+ * is jittered, so clients which failed together don't all retry at the same moment.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public final class RetryPolicy {
+
+    /**
+     * The maximum amount of attempts of a call, including the first.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The delay before the first retry, in milliseconds.
+     */
+    private final long baseDelayMillis;
+
+    /**
+     * The longest delay before a retry, in milliseconds.
+     */
+    private final long maxDelayMillis;
+
+    /**
+     * Construct a retry policy.
+     *
+     * @param maxAttempts - the maximum amount of attempts of a call, including the first
+     * @param baseDelay   - the delay before the first retry, which doubles with every retry after it
+     * @param maxDelay    - the longest delay before a retry
+     * @param delayUnits  - the units of the delays
+     */
+    public RetryPolicy(int maxAttempts, long baseDelay, long maxDelay, TimeUnit delayUnits) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = Math.max(1, delayUnits.toMillis(baseDelay));
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, delayUnits.toMillis(maxDelay));
+    }
+
+    /**
+     * Return how long to wait before trying a failed call again.
+     *
+     * @param attempt          - the attempt which failed, starting from 1
+     * @param retryAfterMillis - how long the service asked to wait before trying again, or 0 if it did not say
+     * @return the milliseconds to wait, or -1 if the call should not be tried again
+     */
+    public long delayMillis(int attempt, long retryAfterMillis) {
+        if (attempt >= this.maxAttempts || retryAfterMillis > this.maxDelayMillis) {
+            return -1;
+        }
+        // Equal jitter: wait at least half of the exponential delay, so retries still back off
+        long exponential = Math.min(this.maxDelayMillis, this.baseDelayMillis << Math.min(attempt - 1, 20));
+        long delay = exponential / 2 + ThreadLocalRandom.current().nextLong(exponential / 2 + 1);
+        return Math.max(delay, retryAfterMillis);
+    }
+}
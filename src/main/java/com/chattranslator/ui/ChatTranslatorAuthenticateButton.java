@@ -2,7 +2,7 @@ package com.chattranslator.ui;
 
 import com.chattranslator.ChatTranslator;
 import com.chattranslator.ChatTranslatorPlugin;
-import com.chattranslator.ex.GoogleException;
+import com.chattranslator.ex.TranslationException;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.util.SwingUtil;
 
@@ -21,12 +21,13 @@ public class ChatTranslatorAuthenticateButton extends JButton implements Runnabl
 
     private static final String AUTH_TEXT = "Authenticate";
     private static final String UNAUTH_TEXT = "Unauthenticate";
-    private static final String AUTH_TOOLTIP = "Enter your API key to authenticate.";
+    private static final String AUTH_TOOLTIP = "Enter your API key to authenticate. LibreTranslate servers without API keys accept an empty key.";
     private static final String UNAUTH_TOOLTIP = "Unauthenticate your account.";
     private static final Color BUTTON_COLOR = ColorScheme.DARKER_GRAY_COLOR;
     private static final Color BUTTON_HOVER_COLOR = ColorScheme.DARKER_GRAY_HOVER_COLOR;
 
     private static final String LOADING_TEXT = "Authenticating...";
+    private static final String CONNECTING_TEXT = "Connecting...";
     private static final Color LOADING_COLOR = ColorScheme.PROGRESS_INPROGRESS_COLOR;
 
     private static final String ERROR_TEXT = "Failed Authentication";
@@ -158,17 +159,40 @@ public class ChatTranslatorAuthenticateButton extends JButton implements Runnabl
             this.plugin.getPanel().enableLanguagePanel(translator.getSupportedLanguages());
             this.plugin.loadLastSettings();
             result = true;
-        } catch (GoogleException e) {
+        } catch (TranslationException e) {
             result = false;
         }
-        if (result) { // Check the result
+        if (!result) {
+            this.plugin.getPanel().disableLanguagePanel();
+        }
+        this.showAuthenticationResult(result);
+    }
+
+    /**
+     * Show that saved credentials are being authenticated, which the user must wait for.
+     */
+    public void showConnecting() {
+        this.setEnabled(false);
+        this.setBackground(LOADING_COLOR);
+        this.setText(CONNECTING_TEXT);
+        buttonReturnText = getText();
+        buttonReturnColor = getBackground();
+    }
+
+    /**
+     * Show the result of an authentication attempt and let the user interact again.
+     *
+     * @param authenticated - whether the attempt was successful
+     */
+    public void showAuthenticationResult(boolean authenticated) {
+        if (authenticated) {
             this.setBackground(SUCCESS_COLOR);
             this.setText(SUCCESS_TEXT);
             this.setToolTipText(UNAUTH_TOOLTIP);
         } else {
             this.setBackground(ERROR_COLOR);
             this.setText(ERROR_TEXT);
-            this.plugin.getPanel().disableLanguagePanel();
+            this.setToolTipText(AUTH_TOOLTIP);
         }
         buttonReturnText = getText();
         buttonReturnColor = getBackground();
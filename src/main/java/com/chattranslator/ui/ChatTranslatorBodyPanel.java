@@ -26,17 +26,24 @@ public class ChatTranslatorBodyPanel extends PluginPanel {
      */
     public final ChatTranslatorLanguagePanel langPanel;
 
+    /**
+     * The panel which shows statistics of the translator.
+     */
+    public final ChatTranslatorStatsPanel statsPanel;
+
     /**
      * Construct the body panel.
      *
-     * @param authPanel - the child authentication panel
-     * @param langPanel - the child language panel
+     * @param authPanel  - the child authentication panel
+     * @param langPanel  - the child language panel
+     * @param statsPanel - the child statistics panel
      */
     @Inject
-    public ChatTranslatorBodyPanel(ChatTranslatorAuthPanel authPanel, ChatTranslatorLanguagePanel langPanel) {
+    public ChatTranslatorBodyPanel(ChatTranslatorAuthPanel authPanel, ChatTranslatorLanguagePanel langPanel, ChatTranslatorStatsPanel statsPanel) {
         super();
         this.authPanel = authPanel;
         this.langPanel = langPanel;
+        this.statsPanel = statsPanel;
 
         // General style
         setBorder(new EmptyBorder(0, 6, 6, 6));
@@ -54,6 +61,7 @@ public class ChatTranslatorBodyPanel extends PluginPanel {
         // Assembly
         vBox.add(this.authPanel);
         vBox.add(this.langPanel);
+        vBox.add(this.statsPanel);
 
         // Fill body with contents
         add(scrollPane, BorderLayout.CENTER);
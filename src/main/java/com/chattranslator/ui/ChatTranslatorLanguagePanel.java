@@ -3,11 +3,14 @@ package com.chattranslator.ui;
 import com.chattranslator.ChatTranslatorConfig;
 import com.chattranslator.data.GetSupportedLanguagesResponseLanguage;
 import com.chattranslator.data.GetSupportedLanguagesResponseList;
+import com.chattranslator.lang.LanguageRegistry;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.PluginPanel;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import javax.inject.Inject;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -39,6 +42,11 @@ public class ChatTranslatorLanguagePanel extends PluginPanel {
      */
     private final JComboBox<LanguageComboItem> targetLanguageComboBox;
 
+    /**
+     * The combo box items keyed by their normalized language code.
+     */
+    private final Map<String, LanguageComboItem> itemsByCode = new HashMap<>();
+
     /**
      * Construct the language options panel.
      *
@@ -103,6 +111,7 @@ public class ChatTranslatorLanguagePanel extends PluginPanel {
     public void disableOptions() {
         this.sourceLanguageComboBox.removeAllItems();
         this.targetLanguageComboBox.removeAllItems();
+        this.itemsByCode.clear();
         this.sourceLanguageComboBox.setEnabled(false);
         this.targetLanguageComboBox.setEnabled(false);
     }
@@ -119,10 +128,12 @@ public class ChatTranslatorLanguagePanel extends PluginPanel {
 
         this.sourceLanguageComboBox.removeAllItems();
         this.targetLanguageComboBox.removeAllItems();
+        this.itemsByCode.clear();
         for (GetSupportedLanguagesResponseLanguage lang : languages.languages) {
             LanguageComboItem wrapper = new LanguageComboItem(lang);
             this.sourceLanguageComboBox.addItem(wrapper);
             this.targetLanguageComboBox.addItem(wrapper);
+            this.itemsByCode.putIfAbsent(LanguageRegistry.normalize(lang.language), wrapper);
         }
 
         // Start listening for config changes the user makes
@@ -183,17 +194,10 @@ public class ChatTranslatorLanguagePanel extends PluginPanel {
             return;
         }
 
-        boolean loaded = false;
-        for (int i = 0; i < comboBox.getItemCount(); i++) {
-            LanguageComboItem item = comboBox.getItemAt(i);
-            GetSupportedLanguagesResponseLanguage lang = item.language;
-            if (lang.language.equalsIgnoreCase(languageCode)) {
-                comboBox.setSelectedItem(item);
-                loaded = true;
-                break;
-            }
-        }
-        if (!loaded) {
+        LanguageComboItem item = this.itemsByCode.get(LanguageRegistry.normalize(languageCode));
+        if (item != null) {
+            comboBox.setSelectedItem(item);
+        } else {
             log.warn("Could not load language: '" + languageCode + "', as it was not found in " + comboBox.getItemCount() + " entries.");
         }
     }
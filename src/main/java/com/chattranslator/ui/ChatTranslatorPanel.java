@@ -80,4 +80,31 @@ public class ChatTranslatorPanel extends PluginPanel {
         this.bodyPanel.langPanel.disableOptions();
     }
 
+    /**
+     * Show that saved credentials are being authenticated. The language options are disabled until authentication
+     * completes.
+     */
+    public void showConnecting() {
+        this.bodyPanel.authPanel.authenticateButton.showConnecting();
+        this.bodyPanel.langPanel.disableOptions();
+    }
+
+    /**
+     * Show that saved credentials were authenticated, and enable the language options.
+     *
+     * @param languages - the supported languages for translation
+     */
+    public void showAuthenticated(GetSupportedLanguagesResponseList languages) {
+        this.bodyPanel.authPanel.authenticateButton.showAuthenticationResult(true);
+        this.bodyPanel.langPanel.enableOptions(languages);
+    }
+
+    /**
+     * Show that saved credentials failed to authenticate.
+     */
+    public void showAuthenticationFailed() {
+        this.bodyPanel.authPanel.authenticateButton.showAuthenticationResult(false);
+        this.bodyPanel.langPanel.disableOptions();
+    }
+
 }
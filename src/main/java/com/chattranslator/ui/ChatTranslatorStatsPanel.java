@@ -0,0 +1,140 @@
+package com.chattranslator.ui;
+
+import com.chattranslator.metrics.TranslationMetrics;
+import net.runelite.client.ui.ColorScheme;
+import net.runelite.client.ui.FontManager;
+import net.runelite.client.ui.PluginPanel;
+
+import javax.inject.Inject;
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import java.awt.*;
+
+/**
+ * The statistics panel for the Chat Translator. This shows live metrics of the translator, refreshed while the panel
+ * is visible.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class ChatTranslatorStatsPanel extends PluginPanel {
+
+    /**
+     * How often the statistics are refreshed, in milliseconds.
+     */
+    private static final int REFRESH_MILLIS = 1000;
+
+    /**
+     * The metrics shown.
+     */
+    private final TranslationMetrics metrics;
+
+    /**
+     * Refreshes the statistics while the panel is shown.
+     */
+    private final Timer refreshTimer;
+
+    private final JLabel requests = new JLabel();
+    private final JLabel errorRate = new JLabel();
+    private final JLabel cacheHits = new JLabel();
+    private final JLabel charactersSent = new JLabel();
+    private final JLabel pending = new JLabel();
+    private final JLabel translateLatency = new JLabel();
+    private final JLabel translateLatencyMax = new JLabel();
+    private final JLabel authenticateLatency = new JLabel();
+    private final JLabel formatLatency = new JLabel();
+
+    /**
+     * Construct the statistics panel.
+     *
+     * @param metrics - the metrics of the translator
+     */
+    @Inject
+    public ChatTranslatorStatsPanel(TranslationMetrics metrics) {
+        super();
+        this.metrics = metrics;
+
+        // Border insets
+        setBorder(new EmptyBorder(10, 0, 0, 0));
+        setBackground(ColorScheme.DARK_GRAY_COLOR);
+        setLayout(new BorderLayout());
+
+        // Create title label
+        JLabel title = new JLabel("Statistics");
+        title.setForeground(Color.WHITE);
+        title.setFont(FontManager.getRunescapeBoldFont());
+
+        // Create statistics grid
+        final JPanel grid = new JPanel(new GridLayout(0, 2, 5, 2));
+        grid.setBorder(new EmptyBorder(5, 0, 0, 0));
+        grid.setBackground(ColorScheme.DARK_GRAY_COLOR);
+        addRow(grid, "Requests", this.requests, "HTTP requests sent, and how many were retries");
+        addRow(grid, "Errors", this.errorRate, "Calls which failed, and calls refused by the quota or during an outage");
+        addRow(grid, "Cache hits", this.cacheHits, "Translations served without calling the translation service");
+        addRow(grid, "Characters", this.charactersSent, "Characters sent for translation");
+        addRow(grid, "Pending", this.pending, "Calls waiting for a response, and calls waiting for the quota");
+        addRow(grid, "Latency", this.translateLatency, "Median and 99th percentile latency of translations");
+        addRow(grid, "Slowest", this.translateLatencyMax, "Longest latency of a translation");
+        addRow(grid, "Auth latency", this.authenticateLatency, "Median and 99th percentile latency of authentication");
+        addRow(grid, "Formatting", this.formatLatency, "Median and 99th percentile time to format a translation for the chat box");
+
+        // Fill content pane
+        add(title, BorderLayout.NORTH);
+        add(grid, BorderLayout.CENTER);
+
+        this.refreshTimer = new Timer(REFRESH_MILLIS, e -> this.refresh());
+        this.refresh();
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        this.refreshTimer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        this.refreshTimer.stop();
+        super.removeNotify();
+    }
+
+    /**
+     * Refresh the statistics shown. This must be called from the event dispatch thread.
+     */
+    public void refresh() {
+        // Nobody is looking while the side panel is closed
+        if (!isShowing()) {
+            return;
+        }
+        this.requests.setText(this.metrics.getRequests() + " (" + this.metrics.getRetries() + " retried)");
+        this.errorRate.setText(String.format("%.1f%% (%d refused)", this.metrics.getErrorRate() * 100, this.metrics.getRefusals()));
+        this.cacheHits.setText(String.valueOf(this.metrics.getCacheHits()));
+        this.charactersSent.setText(String.valueOf(this.metrics.getCharactersSent()));
+        this.pending.setText(this.metrics.getCallsInFlight() + " sent, " + this.metrics.getQueuedCalls() + " queued");
+        this.translateLatency.setText(formatMillis(this.metrics.getTranslateLatencyP50Millis(), this.metrics.getTranslateLatencyP99Millis()));
+        this.translateLatencyMax.setText(String.format("%.0f ms", this.metrics.getTranslateLatencyMaxMillis()));
+        this.authenticateLatency.setText(formatMillis(this.metrics.getAuthenticateLatencyP50Millis(), this.metrics.getAuthenticateLatencyP99Millis()));
+        // Formatting takes well under a millisecond, so it is shown more precisely
+        this.formatLatency.setText(String.format("%.2f / %.2f ms", this.metrics.getFormatLatencyP50Millis(), this.metrics.getFormatLatencyP99Millis()));
+    }
+
+    /**
+     * Helper method to add a named statistic to the grid.
+     */
+    private static void addRow(JPanel grid, String name, JLabel value, String tooltip) {
+        JLabel nameLabel = new JLabel(name);
+        nameLabel.setForeground(Color.GRAY);
+        nameLabel.setToolTipText(tooltip);
+        value.setForeground(Color.WHITE);
+        value.setToolTipText(tooltip);
+        grid.add(nameLabel);
+        grid.add(value);
+    }
+
+    /**
+     * Helper method to format a median and 99th percentile latency, e.g. '120 / 850 ms'.
+     */
+    private static String formatMillis(double p50, double p99) {
+        return String.format("%.0f / %.0f ms", p50, p99);
+    }
+}
@@ -0,0 +1,245 @@
+package com.chattranslator;
+
+import com.chattranslator.data.TranslateTextResponseTranslation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link AutoTranslationPipeline}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class AutoTranslationPipelineTest {
+
+    private final ManualScheduler scheduler = new ManualScheduler();
+    private final FakeTranslator translator = new FakeTranslator();
+    private final List<String> translated = new ArrayList<>();
+    private final AutoTranslationPipeline pipeline = new AutoTranslationPipeline(this.translator, this.scheduler,
+            (chatLineData, translation) -> this.translated.add(translation.translatedText));
+
+    @Before
+    public void setUp() {
+        this.translator.pipeline = this.pipeline;
+    }
+
+    @After
+    public void tearDown() {
+        this.scheduler.shutdownNow();
+    }
+
+    private void submit(String text, String targetLanguage) {
+        this.pipeline.submit(new ChatLineData("Zezima", text, false), targetLanguage, 100);
+    }
+
+    @Test
+    public void coalescesMessagesWithinWindow() {
+        submit("hola", "en");
+        submit("merci", "en");
+        submit("danke", "en");
+        assertEquals(0, this.translator.batches.size());
+        assertEquals(1, this.scheduler.tasks.size());
+
+        this.scheduler.runTasks();
+        assertEquals(1, this.translator.batches.size());
+        assertEquals(Arrays.asList("hola", "merci", "danke"), this.translator.batches.get(0).texts);
+
+        this.translator.batches.get(0).complete();
+        assertEquals(Arrays.asList("hola translated", "merci translated", "danke translated"), this.translated);
+    }
+
+    @Test
+    public void flushesFullBatchImmediately() {
+        for (int i = 0; i < 32; i++) {
+            submit("message " + i, "en");
+        }
+        assertEquals(1, this.translator.batches.size());
+        assertEquals(32, this.translator.batches.get(0).texts.size());
+        assertTrue(this.scheduler.tasks.get(0).future.isCancelled());
+    }
+
+    @Test
+    public void queuesMessagesWhileBatchInFlight() {
+        submit("hola", "en");
+        this.scheduler.runTasks();
+        submit("merci", "en");
+        submit("danke", "en");
+        assertEquals(1, this.translator.batches.size());
+        assertEquals(0, this.scheduler.tasks.size());
+
+        // The queued messages are sent as soon as the batch in flight completes
+        this.translator.batches.get(0).complete();
+        assertEquals(2, this.translator.batches.size());
+        assertEquals(Arrays.asList("merci", "danke"), this.translator.batches.get(1).texts);
+    }
+
+    @Test
+    public void dropsOldestMessagesWhenFull() {
+        submit("in flight", "en");
+        this.scheduler.runTasks();
+        for (int i = 0; i < 65; i++) {
+            submit("message " + i, "en");
+        }
+
+        this.translator.batches.get(0).complete();
+        this.translator.batches.get(1).complete();
+        List<String> sent = this.translator.batches.stream()
+                .skip(1)
+                .flatMap(batch -> batch.texts.stream())
+                .collect(Collectors.toList());
+        assertEquals(64, sent.size());
+        assertEquals("message 1", sent.get(0));
+        assertEquals("message 64", sent.get(63));
+    }
+
+    @Test
+    public void batchesMessagesByTargetLanguage() {
+        submit("hola", "en");
+        submit("hello", "es");
+        submit("merci", "en");
+        this.scheduler.runTasks();
+        assertEquals(Arrays.asList("hola", "merci"), this.translator.batches.get(0).texts);
+        assertEquals("en", this.translator.batches.get(0).targetLanguage);
+
+        this.translator.batches.get(0).complete();
+        assertEquals(Arrays.asList("hello"), this.translator.batches.get(1).texts);
+        assertEquals("es", this.translator.batches.get(1).targetLanguage);
+    }
+
+    @Test
+    public void failedBatchStillSendsQueuedMessages() {
+        submit("hola", "en");
+        this.scheduler.runTasks();
+        submit("merci", "en");
+        this.translator.batches.get(0).future.completeExceptionally(new RuntimeException("offline"));
+        assertEquals(0, this.translated.size());
+        assertEquals(2, this.translator.batches.size());
+    }
+
+    @Test
+    public void clearForgetsPendingMessages() {
+        submit("hola", "en");
+        this.pipeline.clear();
+        assertTrue(this.scheduler.tasks.get(0).future.isCancelled());
+        this.scheduler.runTasks();
+        assertEquals(0, this.translator.batches.size());
+    }
+
+    @Test
+    public void clearCancelsBatchInFlight() {
+        submit("hola", "en");
+        this.scheduler.runTasks();
+        submit("merci", "en");
+        this.pipeline.clear();
+        assertTrue(this.translator.batches.get(0).future.isCancelled());
+
+        // Nothing is left to send, and new messages are sent without waiting on the cancelled batch
+        assertEquals(1, this.translator.batches.size());
+        submit("danke", "en");
+        this.scheduler.runTasks();
+        assertEquals(2, this.translator.batches.size());
+        assertEquals(Arrays.asList("danke"), this.translator.batches.get(1).texts);
+        assertEquals(0, this.translated.size());
+    }
+
+    @Test
+    public void sendsBatchOutsideLock() {
+        for (int i = 0; i < 32; i++) {
+            submit("message " + i, "en");
+        }
+        submit("hola", "en");
+        this.scheduler.runTasks();
+        this.translator.batches.get(0).complete();
+        assertEquals(2, this.translator.batches.size());
+        assertFalse(this.translator.sentUnderLock);
+    }
+
+    /**
+     * A translator which records batches instead of sending them, so tests control when each completes.
+     */
+    private static final class FakeTranslator extends ChatTranslator {
+
+        private final List<Batch> batches = new ArrayList<>();
+        private Object pipeline;
+        private boolean sentUnderLock = false;
+
+        @Override
+        public CompletableFuture<List<TranslateTextResponseTranslation>> translateBatchAsync(List<String> texts, String sourceLanguage, String targetLanguage) {
+            this.sentUnderLock |= Thread.holdsLock(this.pipeline);
+            Batch batch = new Batch(new ArrayList<>(texts), targetLanguage);
+            this.batches.add(batch);
+            return batch.future;
+        }
+    }
+
+    private static final class Batch {
+        private final List<String> texts;
+        private final String targetLanguage;
+        private final CompletableFuture<List<TranslateTextResponseTranslation>> future = new CompletableFuture<>();
+
+        private Batch(List<String> texts, String targetLanguage) {
+            this.texts = texts;
+            this.targetLanguage = targetLanguage;
+        }
+
+        private void complete() {
+            this.future.complete(this.texts.stream()
+                    .map(text -> TranslateTextResponseTranslation.of("es", text + " translated"))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    /**
+     * A scheduler which runs tasks only when told to, so tests control when the coalescing window passes.
+     */
+    private static final class ManualScheduler extends ScheduledThreadPoolExecutor {
+
+        private final List<Task> tasks = new ArrayList<>();
+
+        private ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            Task task = new Task(command, super.schedule(() -> {
+            }, 1, TimeUnit.DAYS));
+            this.tasks.add(task);
+            return task.future;
+        }
+
+        private void runTasks() {
+            List<Task> pending = new ArrayList<>(this.tasks);
+            this.tasks.clear();
+            for (Task task : pending) {
+                if (!task.future.isCancelled()) {
+                    task.command.run();
+                }
+            }
+        }
+
+        private static final class Task {
+            private final Runnable command;
+            private final ScheduledFuture<?> future;
+
+            private Task(Runnable command, ScheduledFuture<?> future) {
+                this.command = command;
+                this.future = future;
+            }
+        }
+    }
+}
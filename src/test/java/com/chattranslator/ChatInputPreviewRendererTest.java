@@ -0,0 +1,63 @@
+package com.chattranslator;
+
+import net.runelite.client.util.ColorUtil;
+import org.junit.Test;
+
+import java.awt.Color;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link ChatInputPreviewRenderer}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class ChatInputPreviewRendererTest {
+
+    private static final String CORRECT = ColorUtil.colorTag(Color.GREEN);
+    private static final String INCORRECT = ColorUtil.colorTag(Color.RED);
+    private static final String UNTYPED = ColorUtil.colorTag(Color.GRAY);
+    private static final String CLOSE = "</col>";
+
+    private static String render(String translation, String input) {
+        return new ChatInputPreviewRenderer(translation, Color.GREEN).render(input);
+    }
+
+    @Test
+    public void rendersUntypedTranslation() {
+        assertEquals(UNTYPED + "Hej" + CLOSE, render("Hej", ""));
+    }
+
+    @Test
+    public void joinsRunsOfOneColor() {
+        assertEquals(CORRECT + "h" + CLOSE + INCORRECT + "Z" + CLOSE + UNTYPED + "j" + CLOSE, render("Hej", "hZ"));
+        assertEquals(CORRECT + "hEJ" + CLOSE, render("Hej", "hEJ"));
+        assertEquals(INCORRECT + "ab" + CLOSE + CORRECT + "j" + CLOSE, render("Hej", "abj"));
+    }
+
+    @Test
+    public void ignoresInputPastTranslation() {
+        assertEquals(CORRECT + "Hej" + CLOSE, render("Hej", "Hej there"));
+    }
+
+    @Test
+    public void rendersIncrementallyAsFullRender() {
+        final String translation = "Vendo langostas";
+        final String[] inputs = {
+                "", "V", "Ve", "Vw", "Vwn", "Ven", "Vend", "Vendo", "Vendo l", "Vendo lx", "Vendo l",
+                "vendo", "Bendo", "Vendo langostas", "Vendo langostas!", "Vendo langostaz", "", "Vendo"
+        };
+        ChatInputPreviewRenderer renderer = new ChatInputPreviewRenderer(translation, Color.GREEN);
+        for (String input : inputs) {
+            assertEquals("render of '" + input + "'", render(translation, input), renderer.render(input));
+        }
+    }
+
+    @Test
+    public void rendersEmptyTranslation() {
+        ChatInputPreviewRenderer renderer = new ChatInputPreviewRenderer("", Color.GREEN);
+        assertEquals("", renderer.render(""));
+        assertEquals("", renderer.render("hi"));
+    }
+}
@@ -0,0 +1,159 @@
+package com.chattranslator;
+
+import net.runelite.api.ChatMessageType;
+import net.runelite.api.MessageNode;
+import net.runelite.api.widgets.Widget;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ChatLineIndex}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class ChatLineIndexTest {
+
+    private static MessageNode messageNode(int id, String name, String value) {
+        return (MessageNode) Proxy.newProxyInstance(MessageNode.class.getClassLoader(), new Class<?>[]{MessageNode.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getId":
+                            return id;
+                        case "getName":
+                            return name;
+                        case "getValue":
+                            return value;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Helper method to create a chat box widget whose text can be changed, as the client does when the chat scrolls.
+     */
+    private static Widget widget(String[] text) {
+        return (Widget) Proxy.newProxyInstance(Widget.class.getClassLoader(), new Class<?>[]{Widget.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getText":
+                            return text[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Test
+    public void indexesMessageWithoutFormatting() {
+        ChatLineIndex index = new ChatLineIndex(10);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(1, "<img=2>Zezima", "<col=ff0000>hello</col> "), "Zezima");
+
+        ChatLineIndex.Entry entry = index.get(1);
+        assertEquals("Zezima", entry.rsn);
+        assertEquals("hello", entry.text);
+        assertTrue(entry.sentByLocalPlayer);
+        assertEquals(entry, index.find("Zezima:", "hello"));
+    }
+
+    @Test
+    public void indexesGameMessageWithoutSender() {
+        ChatLineIndex index = new ChatLineIndex(10);
+        ChatLineIndex.Entry entry = index.add(ChatMessageType.GAMEMESSAGE, messageNode(1, "", "Welcome to RuneScape."), "Zezima");
+        assertNull(entry.rsn);
+        assertFalse(entry.sentByLocalPlayer);
+        assertTrue(entry.toChatLineData().isGameMessage());
+    }
+
+    @Test
+    public void findsNewestMessageWithText() {
+        ChatLineIndex index = new ChatLineIndex(10);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(1, "Zezima", "gz"), null);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(2, "Lynx Titan", "gz"), null);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(3, "Zezima", "gz"), null);
+        assertEquals(3, index.find("Zezima:", "gz").id);
+        assertEquals(2, index.find("Lynx\u00A0Titan:", "gz").id);
+        assertNull(index.find("Woox:", "gz"));
+    }
+
+    @Test
+    public void evictsOldestMessages() {
+        ChatLineIndex index = new ChatLineIndex(3);
+        for (int id = 1; id <= 4; id++) {
+            index.add(ChatMessageType.PUBLICCHAT, messageNode(id, "Zezima", "message " + id), null);
+        }
+        assertEquals(3, index.size());
+        assertNull(index.get(1));
+        assertNull(index.find("Zezima:", "message 1"));
+        assertEquals(4, index.find("Zezima:", "message 4").id);
+    }
+
+    @Test
+    public void evictionKeepsNewerMessageWithSameText() {
+        ChatLineIndex index = new ChatLineIndex(2);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(1, "Zezima", "gz"), null);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(2, "Zezima", "gz"), null);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(3, "Zezima", "ty"), null);
+        assertNull(index.get(1));
+        assertEquals(2, index.find("Zezima:", "gz").id);
+    }
+
+    @Test
+    public void replacesMessageWithSameId() {
+        ChatLineIndex index = new ChatLineIndex(10);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(1, "Zezima", "hi"), null);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(1, "Zezima", "bye"), null);
+        assertEquals(1, index.size());
+        assertNull(index.find("Zezima:", "hi"));
+        assertEquals("bye", index.find("Zezima:", "bye").text);
+    }
+
+    @Test
+    public void findsMessageShownWithoutSender() {
+        ChatLineIndex index = new ChatLineIndex(10);
+        index.add(ChatMessageType.GAMEMESSAGE, messageNode(1, "", "gz"), null);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(2, "Zezima", "gz"), null);
+        assertEquals(1, index.find("", "gz").id);
+        assertEquals(2, index.find("[Friends Chat] Zezima:", "gz").id);
+    }
+
+    @Test
+    public void mapsWidgetToShownMessage() {
+        ChatLineIndex index = new ChatLineIndex(10);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(1, "Zezima", "gz"), null);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(2, "Lynx Titan", "ty"), null);
+
+        String[] senderText = {"<col=000000>Zezima</col>:"};
+        String[] messageText = {"<col=0000ff>gz</col>"};
+        Widget sender = widget(senderText);
+        Widget message = widget(messageText);
+        assertEquals(1, index.find(sender, message).id);
+        assertEquals(1, index.find(sender, message).id);
+
+        // The chat box scrolled, so the same widgets show another message
+        senderText[0] = "Lynx\u00A0Titan:";
+        messageText[0] = "ty";
+        assertEquals(2, index.find(sender, message).id);
+        assertNull(index.find(null, message));
+    }
+
+    @Test
+    public void clearForgetsEverything() {
+        ChatLineIndex index = new ChatLineIndex(10);
+        index.add(ChatMessageType.PUBLICCHAT, messageNode(1, "Zezima", "hi"), null);
+        index.clear();
+        assertEquals(0, index.size());
+        assertNull(index.find("Zezima:", "hi"));
+    }
+}
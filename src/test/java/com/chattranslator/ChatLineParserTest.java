@@ -0,0 +1,80 @@
+package com.chattranslator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ChatLineParser}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class ChatLineParserTest {
+
+    @Test
+    public void parsesSenderAndMessage() {
+        ChatLineData data = ChatLineParser.parse("Nuzzler: Hey");
+        assertEquals("Nuzzler", data.getRSN());
+        assertEquals("Hey", data.getChatLine());
+    }
+
+    @Test
+    public void skipsChannelHeading() {
+        ChatLineData data = ChatLineParser.parse("[Friends Chat] Nuzzler: Hey");
+        assertEquals("Nuzzler", data.getRSN());
+        assertEquals("Hey", data.getChatLine());
+    }
+
+    @Test
+    public void skipsTimestampHeading() {
+        ChatLineData data = ChatLineParser.parse("[10:02] Nuzzler: Hey");
+        assertEquals("Nuzzler", data.getRSN());
+        assertEquals("Hey", data.getChatLine());
+    }
+
+    @Test
+    public void keepsColonsInMessage() {
+        ChatLineData data = ChatLineParser.parse("[Clan] Nuzzler: Selling: lobsters: 200 ea");
+        assertEquals("Nuzzler", data.getRSN());
+        assertEquals("Selling: lobsters: 200 ea", data.getChatLine());
+    }
+
+    @Test
+    public void keepsSenderWithSpaces() {
+        ChatLineData data = ChatLineParser.parse("Iron Nuzzler: gz");
+        assertEquals("Iron Nuzzler", data.getRSN());
+        assertEquals("gz", data.getChatLine());
+    }
+
+    @Test
+    public void parsesGameMessage() {
+        ChatLineData data = ChatLineParser.parse("Welcome to Old School RuneScape.");
+        assertNull(data.getRSN());
+        assertTrue(data.isGameMessage());
+        assertEquals("Welcome to Old School RuneScape.", data.getChatLine());
+    }
+
+    @Test
+    public void keepsLeadingColonInMessage() {
+        ChatLineData data = ChatLineParser.parse("[Clan] : Hey");
+        assertNull(data.getRSN());
+        assertEquals(": Hey", data.getChatLine());
+    }
+
+    @Test
+    public void appendsWithoutTags() {
+        StringBuilder builder = new StringBuilder("> ");
+        ChatLineParser.appendWithoutTags(builder, "<col=ff0000>Hey</col> there<img=2>");
+        assertEquals("> Hey there", builder.toString());
+    }
+
+    @Test
+    public void appendsUnclosedTag() {
+        StringBuilder builder = new StringBuilder();
+        ChatLineParser.appendWithoutTags(builder, "2 < 3");
+        assertEquals("2 < 3", builder.toString());
+    }
+}
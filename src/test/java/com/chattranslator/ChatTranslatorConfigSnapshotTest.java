@@ -0,0 +1,100 @@
+package com.chattranslator;
+
+import org.junit.Test;
+
+import java.awt.Color;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ChatTranslatorConfigSnapshot}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class ChatTranslatorConfigSnapshotTest {
+
+    /**
+     * The config values, by method name. Options without a value are false, 0 or null.
+     */
+    private final Map<String, Object> values = new HashMap<>();
+
+    /**
+     * The amount of times the config was read.
+     */
+    private int reads = 0;
+
+    private final ChatTranslatorConfig config = (ChatTranslatorConfig) Proxy.newProxyInstance(
+            ChatTranslatorConfig.class.getClassLoader(), new Class<?>[]{ChatTranslatorConfig.class},
+            (proxy, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    return method.getName().equals("equals") ? proxy == args[0]
+                            : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : "config";
+                }
+                this.reads++;
+                Object value = this.values.get(method.getName());
+                if (value == null && method.getReturnType() == boolean.class) {
+                    return false;
+                } else if (value == null && method.getReturnType() == int.class) {
+                    return 0;
+                }
+                return value;
+            });
+
+    @Test
+    public void copiesOptions() {
+        this.values.put("isStandardTranslationEnabled", true);
+        this.values.put("autoTranslateWindowMillis", 250);
+        this.values.put("sourceLangColor", Color.RED);
+        this.values.put("lastTargetLanguageName", "Danish");
+
+        ChatTranslatorConfigSnapshot snapshot = ChatTranslatorConfigSnapshot.of(this.config);
+        assertTrue(snapshot.isStandardTranslationEnabled());
+        assertFalse(snapshot.isAutoTranslateEnabled());
+        assertEquals(250, snapshot.autoTranslateWindowMillis());
+        assertEquals(Color.RED, snapshot.sourceLangColor());
+        assertEquals("Danish", snapshot.lastTargetLanguageName());
+    }
+
+    @Test
+    public void keepsOptionsWhenConfigChanges() {
+        this.values.put("isStandardTranslationEnabled", true);
+        this.values.put("lastTargetLanguageCode", "da");
+        ChatTranslatorConfigSnapshot snapshot = ChatTranslatorConfigSnapshot.of(this.config);
+
+        this.values.put("isStandardTranslationEnabled", false);
+        this.values.put("lastTargetLanguageCode", "de");
+        assertTrue(snapshot.isStandardTranslationEnabled());
+        assertEquals("da", snapshot.lastTargetLanguageCode());
+    }
+
+    @Test
+    public void readsConfigOnlyWhenTaken() {
+        ChatTranslatorConfigSnapshot snapshot = ChatTranslatorConfigSnapshot.of(this.config);
+        final int reads = this.reads;
+        for (int i = 0; i < 10; i++) {
+            snapshot.isStandardTranslationEnabled();
+            snapshot.isTargetLanguage("da");
+        }
+        assertEquals(reads, this.reads);
+    }
+
+    @Test
+    public void comparesLanguagesIgnoringCase() {
+        this.values.put("lastSourceLanguageCode", "zh-TW");
+        this.values.put("lastTargetLanguageCode", "en");
+        ChatTranslatorConfigSnapshot snapshot = ChatTranslatorConfigSnapshot.of(this.config);
+
+        assertTrue(snapshot.isSourceLanguage("zh-tw"));
+        assertTrue(snapshot.isSourceLanguage("ZH-TW"));
+        assertFalse(snapshot.isSourceLanguage("zh"));
+        assertFalse(snapshot.isSourceLanguage(null));
+        assertTrue(snapshot.isTargetLanguage("EN"));
+        assertFalse(snapshot.isTargetLanguage("zh-TW"));
+    }
+}
@@ -0,0 +1,172 @@
+package com.chattranslator;
+
+import com.chattranslator.data.TranslateTextResponseList;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link SpeculativeTranslator}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class SpeculativeTranslatorTest {
+
+    private final ManualScheduler scheduler = new ManualScheduler();
+    private final FakeTranslator translator = new FakeTranslator();
+    private final SpeculativeTranslator speculativeTranslator = new SpeculativeTranslator(this.translator, this.scheduler);
+
+    @After
+    public void tearDown() {
+        this.scheduler.shutdownNow();
+    }
+
+    private void type(String input) {
+        this.speculativeTranslator.onInputChanged(input, null, "es", 300);
+    }
+
+    @Test
+    public void translatesOnceTypingPauses() {
+        type("hello");
+        assertEquals(0, this.translator.texts.size());
+
+        this.scheduler.runTasks();
+        assertEquals(Arrays.asList("hello"), this.translator.texts);
+    }
+
+    @Test
+    public void changedInputCancelsScheduledTranslation() {
+        type("hel");
+        type("hello");
+        assertTrue(this.scheduler.tasks.get(0).future.isCancelled());
+
+        this.scheduler.runTasks();
+        assertEquals(Arrays.asList("hello"), this.translator.texts);
+    }
+
+    @Test
+    public void changedInputCancelsTranslationInFlight() {
+        type("hello");
+        this.scheduler.runTasks();
+        CompletableFuture<TranslateTextResponseList> first = this.translator.translations.get(0);
+
+        type("hello there");
+        assertTrue(first.isCancelled());
+        this.scheduler.runTasks();
+        assertEquals(Arrays.asList("hello", "hello there"), this.translator.texts);
+        assertFalse(this.translator.translations.get(1).isCancelled());
+    }
+
+    @Test
+    public void unchangedInputKeepsTranslation() {
+        type("hello");
+        this.scheduler.runTasks();
+        type("hello");
+        assertFalse(this.translator.translations.get(0).isCancelled());
+        assertEquals(0, this.scheduler.tasks.size());
+    }
+
+    @Test
+    public void cancelStopsTranslation() {
+        type("hello");
+        this.scheduler.runTasks();
+        type("hello there");
+        this.speculativeTranslator.cancel();
+        assertTrue(this.scheduler.tasks.get(0).future.isCancelled());
+
+        this.scheduler.runTasks();
+        assertEquals(1, this.translator.texts.size());
+        assertTrue(this.translator.translations.get(0).isCancelled());
+    }
+
+    @Test
+    public void ignoresShortInputAndCommands() {
+        type("h");
+        type("::toggleroofs");
+        this.scheduler.runTasks();
+        assertEquals(0, this.translator.texts.size());
+    }
+
+    @Test
+    public void skipsTranslationWhenNotAuthenticated() {
+        this.translator.authenticated = false;
+        type("hello");
+        this.scheduler.runTasks();
+        assertEquals(0, this.translator.texts.size());
+    }
+
+    /**
+     * A translator which records translations instead of sending them, and never completes them.
+     */
+    private static final class FakeTranslator extends ChatTranslator {
+
+        private final List<String> texts = new ArrayList<>();
+        private final List<CompletableFuture<TranslateTextResponseList>> translations = new ArrayList<>();
+        private boolean authenticated = true;
+
+        @Override
+        public boolean isAuthenticated() {
+            return this.authenticated;
+        }
+
+        @Override
+        public CompletableFuture<TranslateTextResponseList> translateAsync(String text, String sourceLanguage, String targetLanguage) {
+            CompletableFuture<TranslateTextResponseList> translation = new CompletableFuture<>();
+            this.texts.add(text);
+            this.translations.add(translation);
+            return translation;
+        }
+    }
+
+    /**
+     * A scheduler which runs tasks only when told to, so tests control when typing pauses.
+     */
+    private static final class ManualScheduler extends ScheduledThreadPoolExecutor {
+
+        private final List<Task> tasks = new ArrayList<>();
+
+        private ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            Task task = new Task(command, super.schedule(() -> {
+            }, 1, TimeUnit.DAYS));
+            this.tasks.add(task);
+            return task.future;
+        }
+
+        private void runTasks() {
+            List<Task> pending = new ArrayList<>(this.tasks);
+            this.tasks.clear();
+            for (Task task : pending) {
+                if (!task.future.isCancelled()) {
+                    task.command.run();
+                }
+            }
+        }
+
+        private static final class Task {
+            private final Runnable command;
+            private final ScheduledFuture<?> future;
+
+            private Task(Runnable command, ScheduledFuture<?> future) {
+                this.command = command;
+                this.future = future;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.chattranslator.backend;
+
+import com.chattranslator.data.TranslateTextResponseList;
+import com.chattranslator.ex.TranslationAPIException;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link LibreTranslateBackend}, parsing the response forms a server returns for one text and for several.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class LibreTranslateBackendTest {
+
+    private static final HttpUrl BASE_URL = HttpUrl.parse("http://localhost:5000/");
+
+    private final LibreTranslateBackend backend = new LibreTranslateBackend(BASE_URL);
+
+    private static Response response(String json) {
+        return new Response.Builder()
+                .request(new Request.Builder().url(BASE_URL).build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(MediaType.parse("application/json"), json))
+                .build();
+    }
+
+    @Test
+    public void readsSingleTranslationWithDetectedLanguageObject() throws Exception {
+        TranslateTextResponseList translationList = this.backend.parseTranslateResponse(response(
+                "{\"detectedLanguage\": {\"confidence\": 90.0, \"language\": \"es\"}, \"translatedText\": \"hello\"}"), null);
+        assertEquals(1, translationList.translations.length);
+        assertEquals("hello", translationList.translations[0].translatedText);
+        assertEquals("es", translationList.translations[0].detectedSourceLanguage);
+    }
+
+    @Test
+    public void readsBatchTranslationsWithDetectedLanguageArray() throws Exception {
+        TranslateTextResponseList translationList = this.backend.parseBatchTranslateResponse(response(
+                "{\"translatedText\": [\"hello\", \"thanks\"], \"detectedLanguage\": ["
+                        + "{\"confidence\": 90.0, \"language\": \"es\"}, {\"confidence\": 80.0, \"language\": \"fr\"}]}"), null, 2);
+        assertEquals("hello", translationList.translations[0].translatedText);
+        assertEquals("es", translationList.translations[0].detectedSourceLanguage);
+        assertEquals("thanks", translationList.translations[1].translatedText);
+        assertEquals("fr", translationList.translations[1].detectedSourceLanguage);
+    }
+
+    @Test
+    public void usesRequestedSourceLanguage() throws Exception {
+        TranslateTextResponseList translationList = this.backend.parseBatchTranslateResponse(response(
+                "{\"translatedText\": [\"hello\", \"thanks\"]}"), "es", 2);
+        assertEquals("es", translationList.translations[0].detectedSourceLanguage);
+        assertEquals("es", translationList.translations[1].detectedSourceLanguage);
+    }
+
+    @Test
+    public void fallsBackToUnknownSourceLanguage() throws Exception {
+        assertEquals("?", this.backend.parseTranslateResponse(response("{\"translatedText\": \"hello\"}"), null)
+                .translations[0].detectedSourceLanguage);
+
+        // A detected language without a code, and a missing one, are both unknown
+        TranslateTextResponseList translationList = this.backend.parseBatchTranslateResponse(response(
+                "{\"translatedText\": [\"hello\", \"thanks\"], \"detectedLanguage\": [{\"confidence\": 0, \"language\": null}]}"), null, 2);
+        assertEquals("?", translationList.translations[0].detectedSourceLanguage);
+        assertEquals("?", translationList.translations[1].detectedSourceLanguage);
+    }
+
+    @Test(expected = TranslationAPIException.class)
+    public void rejectsBatchWithWrongAmountOfTranslations() throws Exception {
+        this.backend.parseBatchTranslateResponse(response("{\"translatedText\": [\"hello\"]}"), null, 2);
+    }
+
+    @Test
+    public void picksMostConfidentDetectedLanguage() throws Exception {
+        assertEquals("fr", this.backend.parseDetectResponse(response(
+                "[{\"confidence\": 40.0, \"language\": \"es\"}, {\"confidence\": 60.0, \"language\": \"fr\"}]")));
+    }
+}
@@ -0,0 +1,154 @@
+package com.chattranslator.cache;
+
+import com.chattranslator.data.TranslateTextResponseList;
+import com.chattranslator.data.TranslateTextResponseTranslation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link PersistentTranslationStore}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class PersistentTranslationStoreTest {
+
+    private static final TranslationKey HELLO = TranslationKey.of("hello", "en", "es");
+    private static final TranslationKey BYE = TranslationKey.of("bye", null, "es");
+    private static final TranslationKey THANKS = TranslationKey.of("thanks", "en", "es");
+
+    private File directory;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("chat-translator").toFile();
+        this.file = new File(this.directory, "store/translations.log");
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = this.file.getParentFile().listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        this.file.getParentFile().delete();
+        this.directory.delete();
+    }
+
+    private static TranslateTextResponseList translation(String text) {
+        return TranslateTextResponseList.of(TranslateTextResponseTranslation.of("en", text));
+    }
+
+    private static String textOf(TranslateTextResponseList translations) {
+        return translations.translations[0].translatedText;
+    }
+
+    private int lines() throws IOException {
+        return Files.readAllLines(this.file.toPath(), StandardCharsets.UTF_8).size();
+    }
+
+    @Test
+    public void reloadsTranslations() throws IOException {
+        PersistentTranslationStore store = new PersistentTranslationStore(this.file, 10);
+        assertEquals(0, store.open().size());
+        store.put(HELLO, translation("hola"));
+        store.put(BYE, translation("adios"));
+        store.close();
+
+        PersistentTranslationStore reopened = new PersistentTranslationStore(this.file, 10);
+        Map<TranslationKey, TranslateTextResponseList> loaded = reopened.open();
+        assertEquals(Arrays.asList(HELLO, BYE), new ArrayList<>(loaded.keySet()));
+        assertEquals("hola", textOf(reopened.get(HELLO)));
+        assertEquals("adios", textOf(reopened.get(BYE)));
+        reopened.close();
+    }
+
+    @Test
+    public void reloadsLatestRecordOfAKey() throws IOException {
+        PersistentTranslationStore store = new PersistentTranslationStore(this.file, 10);
+        store.open();
+        store.put(HELLO, translation("hola"));
+        store.put(BYE, translation("adios"));
+        store.put(HELLO, translation("buenas"));
+        store.close();
+
+        PersistentTranslationStore reopened = new PersistentTranslationStore(this.file, 10);
+        Map<TranslationKey, TranslateTextResponseList> loaded = reopened.open();
+        assertEquals(Arrays.asList(BYE, HELLO), new ArrayList<>(loaded.keySet()));
+        assertEquals("buenas", textOf(loaded.get(HELLO)));
+        reopened.close();
+    }
+
+    @Test
+    public void compactsStaleRecords() throws IOException {
+        PersistentTranslationStore store = new PersistentTranslationStore(this.file, 10);
+        store.open();
+        store.put(HELLO, translation("hola"));
+        store.put(HELLO, translation("buenas"));
+        assertEquals(2, lines());
+
+        // A third record for one live translation exceeds the compaction ratio
+        store.put(HELLO, translation("saludos"));
+        assertEquals(1, lines());
+
+        // The compacted log is still appended to
+        store.put(BYE, translation("adios"));
+        assertEquals(2, lines());
+        store.close();
+
+        PersistentTranslationStore reopened = new PersistentTranslationStore(this.file, 10);
+        Map<TranslationKey, TranslateTextResponseList> loaded = reopened.open();
+        assertEquals(2, loaded.size());
+        assertEquals("saludos", textOf(loaded.get(HELLO)));
+        reopened.close();
+    }
+
+    @Test
+    public void keepsNewestTranslationsWhenFull() throws IOException {
+        PersistentTranslationStore store = new PersistentTranslationStore(this.file, 2);
+        store.open();
+        store.put(HELLO, translation("hola"));
+        store.put(BYE, translation("adios"));
+        store.put(THANKS, translation("gracias"));
+        assertEquals(2, store.size());
+        assertNull(store.get(HELLO));
+        store.close();
+
+        PersistentTranslationStore reopened = new PersistentTranslationStore(this.file, 1);
+        Map<TranslationKey, TranslateTextResponseList> loaded = reopened.open();
+        assertEquals(Arrays.asList(THANKS), new ArrayList<>(loaded.keySet()));
+        assertEquals(1, lines());
+        reopened.close();
+    }
+
+    @Test
+    public void skipsCorruptRecords() throws IOException {
+        PersistentTranslationStore store = new PersistentTranslationStore(this.file, 10);
+        store.open();
+        store.put(HELLO, translation("hola"));
+        store.close();
+        Files.write(this.file.toPath(), Arrays.asList("{not json", "{\"t\":\"bye\"}"),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        PersistentTranslationStore reopened = new PersistentTranslationStore(this.file, 10);
+        Map<TranslationKey, TranslateTextResponseList> loaded = reopened.open();
+        assertEquals(Arrays.asList(HELLO), new ArrayList<>(loaded.keySet()));
+        reopened.close();
+    }
+}
@@ -0,0 +1,128 @@
+package com.chattranslator.cache;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link SingleFlight}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class SingleFlightTest {
+
+    private final SingleFlight<String, String> flights = new SingleFlight<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private Supplier<CompletableFuture<String>> call(CompletableFuture<String> result) {
+        return () -> {
+            this.calls.incrementAndGet();
+            return result;
+        };
+    }
+
+    @Test
+    public void sharesCallInFlight() {
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> first = this.flights.execute("hello", call(call));
+        CompletableFuture<String> second = this.flights.execute("hello", call(call));
+        assertEquals(1, this.calls.get());
+        assertEquals(1, this.flights.getSharedCount());
+        assertEquals(1, this.flights.size());
+
+        call.complete("hola");
+        assertEquals("hola", first.join());
+        assertEquals("hola", second.join());
+        assertEquals(0, this.flights.size());
+    }
+
+    @Test
+    public void startsNewCallOnceComplete() {
+        this.flights.execute("hello", call(CompletableFuture.completedFuture("hola")));
+        CompletableFuture<String> second = this.flights.execute("hello", call(CompletableFuture.completedFuture("buenas")));
+        assertEquals(2, this.calls.get());
+        assertEquals("buenas", second.join());
+        assertEquals(0, this.flights.getSharedCount());
+    }
+
+    @Test
+    public void separatesKeys() {
+        this.flights.execute("hello", call(new CompletableFuture<>()));
+        this.flights.execute("bye", call(new CompletableFuture<>()));
+        assertEquals(2, this.calls.get());
+        assertEquals(2, this.flights.size());
+    }
+
+    @Test
+    public void cancellingOneCallerKeepsCall() {
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> first = this.flights.execute("hello", call(call));
+        CompletableFuture<String> second = this.flights.execute("hello", call(call));
+
+        first.cancel(true);
+        assertFalse(call.isCancelled());
+        assertEquals(1, this.flights.size());
+
+        call.complete("hola");
+        assertEquals("hola", second.join());
+    }
+
+    @Test
+    public void cancellingEveryCallerCancelsCall() {
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> first = this.flights.execute("hello", call(call));
+        CompletableFuture<String> second = this.flights.execute("hello", call(call));
+
+        first.cancel(true);
+        second.cancel(true);
+        assertTrue(call.isCancelled());
+        assertEquals(0, this.flights.size());
+
+        // A later caller starts a fresh call rather than joining the cancelled one
+        CompletableFuture<String> fresh = new CompletableFuture<>();
+        CompletableFuture<String> third = this.flights.execute("hello", call(fresh));
+        assertEquals(2, this.calls.get());
+        fresh.complete("hola");
+        assertEquals("hola", third.join());
+    }
+
+    @Test
+    public void sharesFailure() {
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> first = this.flights.execute("hello", call(call));
+        CompletableFuture<String> second = this.flights.execute("hello", call(call));
+
+        IllegalStateException failure = new IllegalStateException("offline");
+        call.completeExceptionally(failure);
+        assertSame(failure, causeOf(first));
+        assertSame(failure, causeOf(second));
+        assertEquals(0, this.flights.size());
+    }
+
+    @Test
+    public void failsWhenCallCannotStart() {
+        IllegalStateException failure = new IllegalStateException("no backend");
+        CompletableFuture<String> result = this.flights.execute("hello", () -> {
+            throw failure;
+        });
+        assertSame(failure, causeOf(result));
+        assertEquals(0, this.flights.size());
+    }
+
+    private static Throwable causeOf(CompletableFuture<String> future) {
+        try {
+            future.join();
+        } catch (RuntimeException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("expected the future to fail");
+    }
+}
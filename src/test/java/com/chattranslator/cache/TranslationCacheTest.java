@@ -0,0 +1,99 @@
+package com.chattranslator.cache;
+
+import com.chattranslator.data.TranslateTextResponseList;
+import com.chattranslator.data.TranslateTextResponseTranslation;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests for {@link TranslationCache}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class TranslationCacheTest {
+
+    private static final TranslationKey HELLO = TranslationKey.of("hello", "en", "es");
+    private static final TranslationKey BYE = TranslationKey.of("bye", "en", "es");
+    private static final TranslationKey THANKS = TranslationKey.of("thanks", "en", "es");
+
+    private static TranslateTextResponseList translation(String text) {
+        return TranslateTextResponseList.of(TranslateTextResponseTranslation.of("en", text));
+    }
+
+    @Test
+    public void keysShareNormalizedText() {
+        TranslationCache cache = new TranslationCache(10, 0, TimeUnit.SECONDS);
+        TranslateTextResponseList hola = translation("hola");
+        cache.put(HELLO, hola);
+
+        assertSame(hola, cache.get(TranslationKey.of("  hello ", "EN", "ES")));
+        assertNull(cache.get(TranslationKey.of("HELLO", "en", "es")));
+        assertNull(cache.get(TranslationKey.of("hello", null, "es")));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        TranslationCache cache = new TranslationCache(2, 0, TimeUnit.SECONDS);
+        cache.put(HELLO, translation("hola"));
+        cache.put(BYE, translation("adios"));
+        cache.get(HELLO); // HELLO is now more recently used than BYE
+        cache.put(THANKS, translation("gracias"));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertNotNull(cache.get(HELLO));
+        assertNull(cache.get(BYE));
+        assertNotNull(cache.get(THANKS));
+    }
+
+    @Test
+    public void resizeEvictsImmediately() {
+        TranslationCache cache = new TranslationCache(3, 0, TimeUnit.SECONDS);
+        cache.put(HELLO, translation("hola"));
+        cache.put(BYE, translation("adios"));
+        cache.put(THANKS, translation("gracias"));
+        cache.resize(1, 0, TimeUnit.SECONDS);
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getEvictionCount());
+        assertNotNull(cache.get(THANKS));
+    }
+
+    @Test
+    public void expiresAfterTimeToLive() {
+        TranslationCache cache = new TranslationCache(10, 1, TimeUnit.NANOSECONDS);
+        cache.put(HELLO, translation("hola"));
+
+        assertNull(cache.get(HELLO));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void keepsUnexpiredTranslations() {
+        TranslationCache cache = new TranslationCache(10, 1, TimeUnit.HOURS);
+        cache.put(HELLO, translation("hola"));
+
+        assertNotNull(cache.get(HELLO));
+    }
+
+    @Test
+    public void ignoresEmptyTranslationsAndZeroSize() {
+        TranslationCache cache = new TranslationCache(10, 0, TimeUnit.SECONDS);
+        cache.put(HELLO, TranslateTextResponseList.of());
+        assertEquals(0, cache.size());
+
+        TranslationCache disabled = new TranslationCache(0, 0, TimeUnit.SECONDS);
+        disabled.put(HELLO, translation("hola"));
+        assertEquals(0, disabled.size());
+    }
+}
@@ -0,0 +1,64 @@
+package com.chattranslator.data;
+
+import com.google.gson.stream.JsonReader;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link TranslateTextResponseList}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class TranslateTextResponseListTest {
+
+    private static TranslateTextResponseList parse(String json, String sourceLanguage, boolean batch) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            return TranslateTextResponseList.fromJSON(reader, sourceLanguage, batch);
+        }
+    }
+
+    @Test
+    public void streamsTranslationsInOrder() throws IOException {
+        TranslateTextResponseList translationList = parse("{\"translations\": ["
+                + "{\"translatedText\": \"hola\", \"detectedSourceLanguage\": \"en\"},"
+                + "{\"translatedText\": \"merci &amp; salut\", \"detectedSourceLanguage\": \"fr\"}]}", null, true);
+        assertEquals(2, translationList.translations.length);
+        assertEquals("hola", translationList.translations[0].translatedText);
+        assertEquals("en", translationList.translations[0].detectedSourceLanguage);
+        assertEquals("merci & salut", translationList.translations[1].translatedText);
+        assertEquals("fr", translationList.translations[1].detectedSourceLanguage);
+    }
+
+    @Test
+    public void streamsPastUnknownFields() throws IOException {
+        TranslateTextResponseList translationList = parse("{\"model\": {\"name\": \"nmt\"}, \"translations\": ["
+                + "{\"model\": \"nmt\", \"translatedText\": \"hola\"}], \"extra\": [1, 2]}", "en", false);
+        assertEquals(1, translationList.translations.length);
+        assertEquals("hola", translationList.translations[0].translatedText);
+        assertEquals("en", translationList.translations[0].detectedSourceLanguage);
+    }
+
+    @Test
+    public void skipsUnparsedTranslationOutsideBatch() throws IOException {
+        TranslateTextResponseList translationList = parse("{\"translations\": ["
+                + "{\"detectedSourceLanguage\": \"en\"}, {\"translatedText\": \"hola\"}]}", null, false);
+        assertEquals(1, translationList.translations.length);
+        assertEquals("hola", translationList.translations[0].translatedText);
+    }
+
+    @Test(expected = IOException.class)
+    public void failsStreamedBatchWithUnparsedTranslation() throws IOException {
+        parse("{\"translations\": [{\"translatedText\": \"hola\"}, {\"translatedText\": null}]}", null, true);
+    }
+
+    @Test
+    public void streamsEmptyResponse() throws IOException {
+        assertEquals(0, parse("{}", null, true).translations.length);
+        assertEquals(0, parse("{\"translations\": []}", null, false).translations.length);
+    }
+}
@@ -0,0 +1,65 @@
+package com.chattranslator.data;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link TranslateTextResponseTranslation}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class TranslateTextResponseTranslationTest {
+
+    private static TranslateTextResponseTranslation parse(String json, String sourceLanguage) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            return TranslateTextResponseTranslation.fromJSON(reader, sourceLanguage);
+        }
+    }
+
+    @Test
+    public void readsDetectedSourceLanguage() throws IOException {
+        TranslateTextResponseTranslation translation = parse("{\"translatedText\": \"hola\", \"detectedSourceLanguage\": \"en\"}", null);
+        assertEquals("hola", translation.translatedText);
+        assertEquals("en", translation.detectedSourceLanguage);
+    }
+
+    @Test
+    public void prefersRequestedSourceLanguage() throws IOException {
+        TranslateTextResponseTranslation translation = parse("{\"detectedSourceLanguage\": \"fr\", \"translatedText\": \"hola\"}", "en");
+        assertEquals("en", translation.detectedSourceLanguage);
+    }
+
+    @Test
+    public void fallsBackToUnknownSourceLanguage() throws IOException {
+        assertEquals("?", parse("{\"translatedText\": \"hola\"}", null).detectedSourceLanguage);
+        assertEquals("?", parse("{\"translatedText\": \"hola\", \"detectedSourceLanguage\": null}", null).detectedSourceLanguage);
+    }
+
+    @Test
+    public void unescapesHtml() throws IOException {
+        assertEquals("<3 & 'hola'", parse("{\"translatedText\": \"&lt;3 &amp; &#39;hola&#39;\"}", null).translatedText);
+    }
+
+    @Test
+    public void returnsNullWithoutTranslatedText() throws IOException {
+        assertNull(parse("{\"detectedSourceLanguage\": \"en\"}", null));
+        assertNull(parse("{\"translatedText\": null}", "en"));
+    }
+
+    @Test
+    public void leavesReaderAfterObject() throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader("[{\"translatedText\": \"hola\", \"model\": {\"a\": [1]}}, 2]"))) {
+            reader.beginArray();
+            assertEquals("hola", TranslateTextResponseTranslation.fromJSON(reader, null).translatedText);
+            assertEquals(JsonToken.NUMBER, reader.peek());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.chattranslator.detect;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link TrigramLanguageDetector}, using small profiles built from sample text.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class TrigramLanguageDetectorTest {
+
+    private static final String ENGLISH = "the quick brown fox jumps over the lazy dog";
+    private static final String SPANISH = "el veloz murcielago hindu comia feliz cardillo y kiwi";
+
+    /**
+     * Helper method to build a language profile which ranks the trigrams of sample text.
+     */
+    private static Map<String, Integer> profile(String sample) {
+        List<String> trigrams = new ArrayList<>(TrigramLanguageDetector.countTrigrams(sample).keySet());
+        Map<String, Integer> profile = new HashMap<>();
+        for (int rank = 0; rank < trigrams.size(); rank++) {
+            profile.put(trigrams.get(rank), rank);
+        }
+        return profile;
+    }
+
+    private static TrigramLanguageDetector detector(String... codesAndSamples) {
+        Map<String, Map<String, Integer>> profiles = new LinkedHashMap<>();
+        for (int i = 0; i < codesAndSamples.length; i += 2) {
+            profiles.put(codesAndSamples[i], profile(codesAndSamples[i + 1]));
+        }
+        return new TrigramLanguageDetector(profiles);
+    }
+
+    @Test
+    public void countsTrigramsOfWords() {
+        Map<String, Integer> trigrams = TrigramLanguageDetector.countTrigrams("Hi, the THE 99");
+        assertEquals(1, (int) trigrams.get(" hi"));
+        assertEquals(1, (int) trigrams.get("hi "));
+        assertEquals(2, (int) trigrams.get(" th"));
+        assertEquals(2, (int) trigrams.get("the"));
+        assertEquals(2, (int) trigrams.get("he "));
+        assertEquals(5, trigrams.size());
+    }
+
+    @Test
+    public void detectsClearlyBestLanguage() {
+        TrigramLanguageDetector detector = detector("en", ENGLISH, "es", SPANISH);
+        assertEquals("en", detector.detect("the lazy dog jumps over the fox"));
+        assertEquals("es", detector.detect("el murcielago comia kiwi feliz"));
+    }
+
+    @Test
+    public void rejectsTextWithTooFewTrigrams() {
+        // 'the dog' has only 6 trigrams, though all of them are English
+        assertNull(detector("en", ENGLISH, "es", SPANISH).detect("the dog"));
+        assertEquals("en", detector("en", ENGLISH, "es", SPANISH).detect("the dog fox"));
+    }
+
+    @Test
+    public void rejectsLowScore() {
+        assertNull(detector("en", ENGLISH, "es", SPANISH).detect("gz on ninety nine mining"));
+    }
+
+    @Test
+    public void rejectsCloseScores() {
+        // Both profiles score the text the same, so neither leads by the margin
+        assertNull(detector("en", ENGLISH, "en-GB", ENGLISH).detect("the lazy dog jumps over the fox"));
+    }
+
+    @Test
+    public void detectsNothingWithoutProfiles() {
+        assertNull(detector().detect("the lazy dog jumps over the fox"));
+    }
+}
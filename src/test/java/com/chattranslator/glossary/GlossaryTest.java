@@ -0,0 +1,96 @@
+package com.chattranslator.glossary;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link Glossary} and {@link GlossaryMatch}, using the bundled Spanish phrase table.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class GlossaryTest {
+
+    private final Glossary glossary = new Glossary();
+
+    @Test
+    public void translatesCompleteText() {
+        GlossaryMatch match = this.glossary.match("gz 99!", null, "es");
+        assertTrue(match.isComplete());
+        assertEquals("felicidades 99!", match.translate());
+    }
+
+    @Test
+    public void translatesLongestPhrases() {
+        GlossaryMatch match = this.glossary.match("world hop pls", "en", "es");
+        assertTrue(match.isComplete());
+        assertEquals("cambiar de mundo por favor", match.translate());
+    }
+
+    @Test
+    public void keepsCapitalization() {
+        assertEquals("Gracias", this.glossary.match("Ty", null, "es").translate());
+    }
+
+    @Test
+    public void keepsNumbersAndDecimals() {
+        GlossaryMatch match = this.glossary.match("selling 2.5m", null, "es-419");
+        assertTrue(match.isComplete());
+        assertEquals("vendo 2.5m", match.translate());
+    }
+
+    @Test
+    public void findsPhrasesInPartialText() {
+        GlossaryMatch match = this.glossary.match("ty for the lobsters", null, "es");
+        assertFalse(match.isComplete());
+        assertTrue(match.hasPhrases());
+    }
+
+    @Test
+    public void ignoresTextWithoutPhrases() {
+        assertNull(this.glossary.match("for the lobsters", null, "es"));
+        assertNull(this.glossary.match("", null, "es"));
+    }
+
+    @Test
+    public void ignoresOtherSourceLanguages() {
+        assertNull(this.glossary.match("gz", "fr", "es"));
+        assertTrue(this.glossary.match("gz", "en-GB", "es").isComplete());
+    }
+
+    @Test
+    public void ignoresLanguagesWithoutTable() {
+        assertNull(this.glossary.match("gz", null, "ja"));
+    }
+
+    @Test
+    public void protectsPhrases() {
+        GlossaryMatch match = this.glossary.match("Ty for the <3 & lobsters", null, "es");
+        assertEquals("<span translate=\"no\">Gracias</span> for the &lt;3 &amp; lobsters", match.protect());
+    }
+
+    @Test
+    public void unprotectsTranslation() {
+        GlossaryMatch match = this.glossary.match("Ty for the <3 & lobsters", null, "es");
+
+        // The translation service translates around the protected phrase, and returns HTML
+        String translated = match.protect().replace("for the", "por las").replace("lobsters", "langostas");
+        assertEquals("Gracias por las <3 & langostas",
+                GlossaryMatch.unprotect(StringEscapeUtils.unescapeHtml4(translated)));
+    }
+
+    @Test
+    public void unprotectKeepsTypedSpans() {
+        GlossaryMatch match = this.glossary.match("Ty for <span>lobsters</span>", null, "es");
+
+        // The spans typed in the chat are escaped when protected, so they are decoded as text rather than protection
+        String translated = match.protect().replace("for", "por").replace("lobsters", "langostas");
+        assertEquals("Gracias por <span>langostas</span>",
+                GlossaryMatch.unprotect(StringEscapeUtils.unescapeHtml4(translated)));
+    }
+}
@@ -0,0 +1,68 @@
+package com.chattranslator.glossary;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link PhraseTrie}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class PhraseTrieTest {
+
+    private static List<String> words(String text) {
+        return Arrays.asList(text.split(" "));
+    }
+
+    private static PhraseTrie trie() {
+        PhraseTrie trie = new PhraseTrie();
+        trie.put(words("ty"), "gracias");
+        trie.put(words("ty very much"), "muchas gracias");
+        trie.put(words("world hop"), "cambiar de mundo");
+        return trie;
+    }
+
+    @Test
+    public void findsLongestPhrase() {
+        PhraseTrie.Match match = trie().longestMatch(words("ty very much mate"), 0);
+        assertEquals(3, match.length);
+        assertEquals("muchas gracias", match.translation);
+    }
+
+    @Test
+    public void fallsBackToShorterPhrase() {
+        // 'ty very' is a prefix of a phrase, but not a phrase itself
+        PhraseTrie.Match match = trie().longestMatch(words("ty very nice"), 0);
+        assertEquals(1, match.length);
+        assertEquals("gracias", match.translation);
+    }
+
+    @Test
+    public void findsPhraseFromStart() {
+        PhraseTrie.Match match = trie().longestMatch(words("pls world hop"), 1);
+        assertEquals(2, match.length);
+        assertEquals("cambiar de mundo", match.translation);
+    }
+
+    @Test
+    public void ignoresPartialPhrase() {
+        assertNull(trie().longestMatch(words("world"), 0));
+        assertNull(trie().longestMatch(words("hop world"), 0));
+        assertNull(trie().longestMatch(words("ty"), 1));
+    }
+
+    @Test
+    public void replacesPhrase() {
+        PhraseTrie trie = trie();
+        assertEquals(3, trie.size());
+        trie.put(words("ty"), "muchas gracias");
+        assertEquals(3, trie.size());
+        assertEquals("muchas gracias", trie.longestMatch(words("ty"), 0).translation);
+    }
+}
@@ -0,0 +1,114 @@
+package com.chattranslator.lang;
+
+import com.chattranslator.backend.GoogleTranslationBackend;
+import com.chattranslator.backend.LibreTranslateBackend;
+import com.chattranslator.data.GetSupportedLanguagesResponseList;
+import com.google.gson.stream.JsonReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link LanguageRegistry}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class LanguageRegistryTest {
+
+    private File directory;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("chat-translator").toFile();
+        this.file = new File(this.directory, "languages.json");
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = this.directory.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        this.directory.delete();
+    }
+
+    private static GetSupportedLanguagesResponseList languages() throws IOException {
+        String json = "{\"languages\": [{\"language\": \"en\", \"name\": \"English\"},"
+                + " {\"language\": \"zh-TW\", \"name\": \"Chinese (Traditional)\"}]}";
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            return GetSupportedLanguagesResponseList.fromJSON(reader);
+        }
+    }
+
+    @Test
+    public void normalizesLanguageCodes() {
+        assertEquals("zh-tw", LanguageRegistry.normalize("zh-TW"));
+        assertEquals("en", LanguageRegistry.normalize("EN"));
+        assertEquals("pt-br", LanguageRegistry.normalize("pt-br"));
+        assertNull(LanguageRegistry.normalize(null));
+    }
+
+    @Test
+    public void findsLanguagesInAnyCase() throws IOException {
+        LanguageRegistry registry = new LanguageRegistry(this.file);
+        assertTrue(registry.isEmpty());
+        assertNull(registry.get("en"));
+
+        registry.update(languages(), GoogleTranslationBackend.ID);
+        assertFalse(registry.isEmpty());
+        assertEquals("English", registry.getName("EN"));
+        assertEquals("Chinese (Traditional)", registry.getName("zh-tw"));
+        assertNull(registry.getName("fr"));
+        assertNull(registry.getName(null));
+    }
+
+    @Test
+    public void keepsLanguageCodesAsReceived() throws IOException {
+        LanguageRegistry registry = new LanguageRegistry(this.file);
+        registry.update(languages(), GoogleTranslationBackend.ID);
+        // Codes are sent back to the API as they were received, not normalized
+        assertEquals("zh-TW", registry.get("ZH-TW").language);
+    }
+
+    @Test
+    public void loadsSavedLanguages() throws IOException {
+        new LanguageRegistry(this.file).update(languages(), LibreTranslateBackend.ID);
+
+        LanguageRegistry registry = new LanguageRegistry(this.file);
+        assertTrue(registry.load());
+        assertEquals(2, registry.getLanguages().languages.length);
+        assertEquals("zh-TW", registry.get("zh-tw").language);
+        assertTrue(registry.isFrom(LibreTranslateBackend.ID));
+        assertFalse(registry.needsRefresh(LibreTranslateBackend.ID));
+    }
+
+    @Test
+    public void refreshesLanguagesOfAnotherBackend() throws IOException {
+        LanguageRegistry registry = new LanguageRegistry(this.file);
+        registry.update(languages(), LibreTranslateBackend.ID);
+        assertFalse(registry.isFrom(GoogleTranslationBackend.ID));
+        assertTrue(registry.needsRefresh(GoogleTranslationBackend.ID));
+    }
+
+    @Test
+    public void loadsNothingWithoutSavedLanguages() {
+        LanguageRegistry registry = new LanguageRegistry(this.file);
+        assertFalse(registry.load());
+        assertTrue(registry.isEmpty());
+        assertTrue(registry.needsRefresh(GoogleTranslationBackend.ID));
+    }
+}
@@ -0,0 +1,237 @@
+package com.chattranslator.quota;
+
+import com.chattranslator.ChatTranslatorConfig;
+import com.chattranslator.ex.TranslationQuotaException;
+import com.google.inject.Guice;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link QuotaGovernor}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class QuotaGovernorTest {
+
+    private static final String TODAY = LocalDate.now(ZoneId.of("America/Los_Angeles")).toString();
+
+    /**
+     * The config values read by the governor, by method name.
+     */
+    private final Map<String, Object> values = new HashMap<>();
+
+    /**
+     * The amount of times each config value was written, by method name.
+     */
+    private final Map<String, Integer> writes = new HashMap<>();
+
+    private ManualScheduler scheduler;
+    private QuotaGovernor governor;
+
+    @Before
+    public void setUp() {
+        this.values.put("requestsPerSecond", 0);
+        this.values.put("charactersPerMinute", 0);
+        this.values.put("dailyCharacterBudget", 0);
+        this.values.put("quotaDay", null);
+        this.values.put("quotaDayCharacters", 0);
+
+        final ChatTranslatorConfig config = (ChatTranslatorConfig) Proxy.newProxyInstance(
+                ChatTranslatorConfig.class.getClassLoader(), new Class<?>[]{ChatTranslatorConfig.class},
+                (proxy, method, args) -> {
+                    if (method.getDeclaringClass() == Object.class) {
+                        return method.getName().equals("equals") ? proxy == args[0]
+                                : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : "config";
+                    }
+                    if (args == null) {
+                        return this.values.get(method.getName());
+                    }
+                    this.values.put(method.getName(), args[0]);
+                    this.writes.merge(method.getName(), 1, Integer::sum);
+                    return null;
+                });
+        this.scheduler = new ManualScheduler();
+        this.governor = Guice.createInjector(binder -> {
+            binder.bind(ChatTranslatorConfig.class).toInstance(config);
+            binder.bind(ScheduledExecutorService.class).toInstance(this.scheduler);
+        }).getInstance(QuotaGovernor.class);
+    }
+
+    @After
+    public void tearDown() {
+        this.scheduler.shutdownNow();
+    }
+
+    @Test
+    public void allowsCallsWithinLimits() {
+        this.values.put("requestsPerSecond", 10);
+        this.values.put("dailyCharacterBudget", 100);
+        this.governor.applyConfig();
+
+        assertTrue(this.governor.acquire(40).isDone());
+        assertTrue(this.governor.acquire(60).isDone());
+        assertEquals(100, this.governor.getSentToday());
+    }
+
+    @Test
+    public void refusesCallsOverDailyBudget() {
+        this.values.put("dailyCharacterBudget", 10);
+        this.governor.applyConfig();
+
+        assertFalse(this.governor.acquire(6).isCompletedExceptionally());
+        CompletableFuture<Void> refused = this.governor.acquire(6);
+        assertTrue(refused.isCompletedExceptionally());
+        try {
+            refused.join();
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof TranslationQuotaException);
+        }
+        assertEquals(6, this.governor.getSentToday());
+    }
+
+    @Test
+    public void queuesCallsOverRateLimit() throws InterruptedException {
+        this.values.put("requestsPerSecond", 1);
+        this.governor.applyConfig();
+
+        assertTrue(this.governor.acquire(1).isDone());
+        CompletableFuture<Void> queued = this.governor.acquire(1);
+        assertFalse(queued.isDone());
+        assertEquals(1, this.governor.getQueued());
+
+        // Checking the queue before the limit allows the call keeps it waiting
+        this.scheduler.runDrains();
+        assertFalse(queued.isDone());
+
+        Thread.sleep(TimeUnit.SECONDS.toMillis(1) + 50);
+        this.scheduler.runDrains();
+        assertTrue(queued.isDone());
+        assertFalse(queued.isCompletedExceptionally());
+        assertEquals(0, this.governor.getQueued());
+    }
+
+    @Test
+    public void cancelledCallsLeaveQueue() {
+        this.values.put("requestsPerSecond", 1);
+        this.governor.applyConfig();
+
+        this.governor.acquire(1);
+        this.governor.acquire(1).cancel(false);
+        this.scheduler.runDrains();
+        assertEquals(0, this.governor.getQueued());
+        assertEquals(1, this.governor.getSentToday());
+    }
+
+    @Test
+    public void loadsUsageSavedToday() {
+        this.values.put("quotaDay", TODAY);
+        this.values.put("quotaDayCharacters", 250);
+        this.governor.applyConfig();
+        assertEquals(250, this.governor.getSentToday());
+    }
+
+    @Test
+    public void ignoresUsageSavedOnAnotherDay() {
+        this.values.put("quotaDay", "2021-01-31");
+        this.values.put("quotaDayCharacters", 250);
+        this.governor.applyConfig();
+        assertEquals(0, this.governor.getSentToday());
+    }
+
+    @Test
+    public void savesBurstOnce() {
+        this.governor.applyConfig();
+        this.governor.acquire(10);
+        this.governor.acquire(20);
+        this.governor.acquire(30);
+        assertEquals(1, this.scheduler.saves.size());
+        assertNull(this.writes.get("quotaDayCharacters"));
+
+        this.scheduler.runSaves();
+        assertEquals(TODAY, this.values.get("quotaDay"));
+        assertEquals(60, this.values.get("quotaDayCharacters"));
+        assertEquals(1, (int) this.writes.get("quotaDayCharacters"));
+    }
+
+    @Test
+    public void saveNowSkipsUnchangedCount() {
+        this.governor.applyConfig();
+        this.governor.acquire(10);
+        this.governor.saveNow();
+        assertEquals(10, this.values.get("quotaDayCharacters"));
+
+        // The scheduled save was cancelled, and saving again has nothing new to write
+        assertTrue(this.scheduler.saves.get(0).future.isCancelled());
+        this.governor.saveNow();
+        assertEquals(1, (int) this.writes.get("quotaDayCharacters"));
+    }
+
+    /**
+     * A scheduler which runs tasks only when told to, so tests control when the queue is checked and usage is saved.
+     */
+    private static final class ManualScheduler extends ScheduledThreadPoolExecutor {
+
+        private final List<Task> drains = new ArrayList<>();
+        private final List<Task> saves = new ArrayList<>();
+
+        private ManualScheduler() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            Task task = new Task(command, super.schedule(() -> {
+            }, 1, TimeUnit.DAYS));
+            (unit == TimeUnit.NANOSECONDS ? this.drains : this.saves).add(task);
+            return task.future;
+        }
+
+        private void runDrains() {
+            run(this.drains);
+        }
+
+        private void runSaves() {
+            run(this.saves);
+        }
+
+        private static void run(List<Task> tasks) {
+            List<Task> pending = new ArrayList<>(tasks);
+            tasks.clear();
+            for (Task task : pending) {
+                if (!task.future.isCancelled()) {
+                    task.command.run();
+                }
+            }
+        }
+
+        private static final class Task {
+            private final Runnable command;
+            private final ScheduledFuture<?> future;
+
+            private Task(Runnable command, ScheduledFuture<?> future) {
+                this.command = command;
+                this.future = future;
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.chattranslator.quota;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link TokenBucket}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class TokenBucketTest {
+
+    /**
+     * How long a bucket of 5 tokens per second takes to refill one token.
+     */
+    private static final long TOKEN_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    public void allowsBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(5, 1, TimeUnit.SECONDS, 0);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, bucket.nanosUntilAvailable(1, 0));
+            bucket.take(1, 0);
+        }
+        assertEquals(TOKEN_NANOS, bucket.nanosUntilAvailable(1, 0), 1);
+    }
+
+    @Test
+    public void refillsEvenly() {
+        TokenBucket bucket = new TokenBucket(5, 1, TimeUnit.SECONDS, 0);
+        bucket.take(5, 0);
+        assertEquals(TOKEN_NANOS / 2, bucket.nanosUntilAvailable(1, TOKEN_NANOS / 2), 1);
+        assertEquals(0, bucket.nanosUntilAvailable(1, TOKEN_NANOS));
+        assertEquals(0, bucket.nanosUntilAvailable(5, TimeUnit.SECONDS.toNanos(10)));
+    }
+
+    @Test
+    public void waitsUntilExactRefill() {
+        TokenBucket bucket = new TokenBucket(5, 1, TimeUnit.SECONDS, 0);
+        bucket.take(5, 0);
+        assertEquals(1, bucket.nanosUntilAvailable(1, TOKEN_NANOS - 1), 1);
+        assertEquals(0, bucket.nanosUntilAvailable(1, TOKEN_NANOS));
+    }
+
+    @Test
+    public void refillStopsAtCapacity() {
+        TokenBucket bucket = new TokenBucket(5, 1, TimeUnit.SECONDS, 0);
+        bucket.take(5, 0);
+
+        // Idling for far longer than a period refills the bucket only up to its capacity
+        long later = TimeUnit.SECONDS.toNanos(60);
+        bucket.take(5, later);
+        assertEquals(TOKEN_NANOS, bucket.nanosUntilAvailable(1, later), 1);
+    }
+
+    @Test
+    public void earlierTimeDoesNotRefill() {
+        TokenBucket bucket = new TokenBucket(5, 1, TimeUnit.SECONDS, TOKEN_NANOS);
+        bucket.take(5, TOKEN_NANOS);
+        assertEquals(TOKEN_NANOS, bucket.nanosUntilAvailable(1, 0), 1);
+
+        // The earlier time did not move the last refill back, so the refill still completes on time
+        assertEquals(0, bucket.nanosUntilAvailable(1, 2 * TOKEN_NANOS));
+    }
+
+    @Test
+    public void allowsWorkOverCapacityIntoDebt() {
+        TokenBucket bucket = new TokenBucket(5, 1, TimeUnit.SECONDS, 0);
+        assertEquals(0, bucket.nanosUntilAvailable(10, 0));
+        bucket.take(10, 0);
+
+        // The bucket owes 5 tokens, so the next token takes 6 refills
+        assertEquals(6 * TOKEN_NANOS, bucket.nanosUntilAvailable(1, 0), 1);
+    }
+
+    @Test
+    public void unlimitedNeverWaits() {
+        TokenBucket bucket = new TokenBucket(0, 1, TimeUnit.SECONDS, 0);
+        bucket.take(1000, 0);
+        assertEquals(0, bucket.nanosUntilAvailable(1000, 0));
+    }
+
+    @Test
+    public void resizeKeepsTokensUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 1, TimeUnit.SECONDS, 0);
+        bucket.take(2, 0);
+        bucket.resize(4, 1, TimeUnit.SECONDS, 0);
+        assertEquals(0, bucket.nanosUntilAvailable(4, 0));
+        bucket.take(4, 0);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(250), bucket.nanosUntilAvailable(1, 0), 1);
+    }
+
+    @Test
+    public void resizeFromUnlimitedStartsFull() {
+        TokenBucket bucket = new TokenBucket(0, 1, TimeUnit.SECONDS, 0);
+        bucket.take(1000, 0);
+        bucket.resize(5, 1, TimeUnit.SECONDS, 0);
+        assertEquals(0, bucket.nanosUntilAvailable(5, 0));
+    }
+}
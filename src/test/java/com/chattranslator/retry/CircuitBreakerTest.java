@@ -0,0 +1,97 @@
+package com.chattranslator.retry;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link CircuitBreaker}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class CircuitBreakerTest {
+
+    /**
+     * How long a circuit opened by a test stays open, which is long enough to check it is open before it half opens.
+     */
+    private static final long OPEN_MILLIS = 200;
+
+    private static CircuitBreaker halfOpen(int failureThreshold) throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(failureThreshold, OPEN_MILLIS, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < failureThreshold; i++) {
+            assertTrue(breaker.tryAcquire());
+            breaker.onFailure();
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Thread.sleep(OPEN_MILLIS + 50);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        return breaker;
+    }
+
+    @Test
+    public void opensAfterFailuresInARow() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 1, TimeUnit.HOURS);
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void successResetsFailures() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 1, TimeUnit.HOURS);
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    public void halfOpenLetsOneTrialThrough() throws InterruptedException {
+        CircuitBreaker breaker = halfOpen(2);
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void successfulTrialCloses() throws InterruptedException {
+        CircuitBreaker breaker = halfOpen(2);
+        assertTrue(breaker.tryAcquire());
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        // Failures are counted from zero again
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void failedTrialReopens() throws InterruptedException {
+        CircuitBreaker breaker = halfOpen(2);
+        assertTrue(breaker.tryAcquire());
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void abandonedTrialAllowsAnother() throws InterruptedException {
+        CircuitBreaker breaker = halfOpen(2);
+        assertTrue(breaker.tryAcquire());
+        breaker.onAbandoned();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+}
@@ -0,0 +1,59 @@
+package com.chattranslator.retry;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link RetryPolicy}.
+ *
+ * @author agent
+ * @version October 2026
+ */
+public class RetryPolicyTest {
+
+    private final RetryPolicy policy = new RetryPolicy(5, 100, 1000, TimeUnit.MILLISECONDS);
+
+    private static void assertDelayBetween(RetryPolicy policy, long min, long max, int attempt) {
+        // The delay is jittered, so sample it
+        for (int i = 0; i < 100; i++) {
+            long delay = policy.delayMillis(attempt, 0);
+            assertTrue("delay " + delay + " of attempt " + attempt, delay >= min && delay <= max);
+        }
+    }
+
+    @Test
+    public void backsOffExponentiallyWithJitter() {
+        assertDelayBetween(this.policy, 50, 100, 1);
+        assertDelayBetween(this.policy, 100, 200, 2);
+        assertDelayBetween(this.policy, 200, 400, 3);
+        assertDelayBetween(this.policy, 400, 800, 4);
+    }
+
+    @Test
+    public void capsDelay() {
+        RetryPolicy patient = new RetryPolicy(100, 100, 1000, TimeUnit.MILLISECONDS);
+        assertDelayBetween(patient, 500, 1000, 5);
+        assertDelayBetween(patient, 500, 1000, 64);
+    }
+
+    @Test
+    public void stopsAfterMaxAttempts() {
+        assertEquals(-1, this.policy.delayMillis(5, 0));
+        assertEquals(-1, new RetryPolicy(1, 100, 1000, TimeUnit.MILLISECONDS).delayMillis(1, 0));
+    }
+
+    @Test
+    public void waitsAsLongAsServiceAsks() {
+        assertEquals(700, this.policy.delayMillis(1, 700));
+        assertEquals(1000, this.policy.delayMillis(1, 1000));
+    }
+
+    @Test
+    public void givesUpWhenServiceAsksTooMuch() {
+        assertEquals(-1, this.policy.delayMillis(1, 1001));
+    }
+}